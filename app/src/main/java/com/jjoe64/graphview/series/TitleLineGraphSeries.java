@@ -26,6 +26,7 @@ import android.view.animation.AccelerateInterpolator;
 
 import com.jjoe64.graphview.GraphView;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 import androidx.core.view.ViewCompat;
@@ -56,6 +57,14 @@ public class TitleLineGraphSeries<E extends DataPointInterface> extends BaseSeri
      * path to the line
      */
     private Path mPath;
+    /**
+     * line segments of the current frame, drawn with a single drawLines call
+     */
+    private float[] mLines;
+    /**
+     * number of used values in mLines
+     */
+    private int mLinesSize;
     /**
      * custom paint that can be used.
      * this will ignore the thickness and color styles.
@@ -127,6 +136,7 @@ public class TitleLineGraphSeries<E extends DataPointInterface> extends BaseSeri
 
         mPathBackground = new Path();
         mPath = new Path();
+        mLines = new float[64];
 
         mAnimationInterpolator = new AccelerateInterpolator(2f);
 
@@ -150,6 +160,11 @@ public class TitleLineGraphSeries<E extends DataPointInterface> extends BaseSeri
         double maxX = graphView.getViewport().getMaxX(false);
         double minX = graphView.getViewport().getMinX(false);
 
+        // nothing to draw outside of the viewport
+        if (isEmpty() || getHighestValueX() < minX || getLowestValueX() > maxX) {
+            return;
+        }
+
         double maxY;
         double minY;
         if (isSecondScale) {
@@ -181,6 +196,7 @@ public class TitleLineGraphSeries<E extends DataPointInterface> extends BaseSeri
         }
 
         mPath.reset();
+        mLinesSize = 0;
 
         if (mStyles.drawBackground) {
             mPathBackground.reset();
@@ -355,9 +371,9 @@ public class TitleLineGraphSeries<E extends DataPointInterface> extends BaseSeri
                             // draw vertical lines that were skipped
                             if (sameXSkip) {
                                 sameXSkip = false;
-                                renderLine(canvas, new float[]{lastRenderedX, minYOnSameX, lastRenderedX, maxYOnSameX}, paint);
+                                addLine(lastRenderedX, minYOnSameX, lastRenderedX, maxYOnSameX);
                             }
-                            renderLine(canvas, new float[]{startXAnimated, startY, endXAnimated, endY}, paint);
+                            addLine(startXAnimated, startY, endXAnimated, endY);
                         }
                         lastRenderedX = endX;
                     } else {
@@ -437,6 +453,8 @@ public class TitleLineGraphSeries<E extends DataPointInterface> extends BaseSeri
         if (mDrawAsPath) {
             // draw at the end
             canvas.drawPath(mPath, paint);
+        } else if (mLinesSize > 0) {
+            canvas.drawLines(mLines, 0, mLinesSize, paint);
         }
 
         if (mStyles.drawBackground && firstX != -1) {
@@ -467,19 +485,26 @@ public class TitleLineGraphSeries<E extends DataPointInterface> extends BaseSeri
     }
 
     /**
-     * just a wrapper to draw lines on canvas
+     * adds a line to the segments drawn at the end of the frame
      *
-     * @param canvas
-     * @param pts
-     * @param paint
+     * @param startX
+     * @param startY
+     * @param endX
+     * @param endY
      */
-    private void renderLine(Canvas canvas, float[] pts, Paint paint) {
-        if (pts.length == 4 && pts[0] == pts[2] && pts[1] == pts[3]) {
+    private void addLine(float startX, float startY, float endX, float endY) {
+        if (startX == endX && startY == endY) {
             // avoid zero length lines, to makes troubles on some devices
             // see https://github.com/appsthatmatter/GraphView/issues/499
             return;
         }
-        canvas.drawLines(pts, paint);
+        if (mLinesSize + 4 > mLines.length) {
+            mLines = Arrays.copyOf(mLines, mLines.length * 2);
+        }
+        mLines[mLinesSize++] = startX;
+        mLines[mLinesSize++] = startY;
+        mLines[mLinesSize++] = endX;
+        mLines[mLinesSize++] = endY;
     }
 
     /**
@@ -20,6 +20,7 @@ package com.vrem.util
 import android.content.res.Resources
 import androidx.annotation.RawRes
 import java.io.InputStream
+import java.nio.ByteBuffer
 
 fun readFile(resources: Resources, @RawRes id: Int): String {
     return try {
@@ -29,6 +30,14 @@ fun readFile(resources: Resources, @RawRes id: Int): String {
     }
 }
 
+fun readBuffer(resources: Resources, @RawRes id: Int): ByteBuffer {
+    return try {
+        resources.openRawResource(id).use { ByteBuffer.wrap(it.readBytes()) }
+    } catch (e: Exception) {
+        ByteBuffer.allocate(0)
+    }
+}
+
 private fun read(inputStream: InputStream): String {
     val size = inputStream.available()
     val bytes = ByteArray(size)
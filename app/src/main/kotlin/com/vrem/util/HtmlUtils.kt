@@ -22,15 +22,6 @@ import android.os.Build
 import android.text.Html
 import android.text.Spanned
 
-val String.Companion.EMPTY: String get() = ""
-val String.Companion.SPACE_SEPARATOR: String get() = " "
-
-fun String.specialTrim(): String = this.trim { it <= ' ' }.replace(" +".toRegex(), String.SPACE_SEPARATOR)
-
-fun String.toHtml(color: Int, small: Boolean): String =
-        "<font color='" + color + "'><" + (if (small) "small" else "strong") +
-                ">" + this + "</" + (if (small) "small" else "strong") + "></font>"
-
 fun String.fromHtml(): Spanned =
         if (buildMinVersionN()) fromHtmlAndroidN() else fromHtmlLegacy()
 
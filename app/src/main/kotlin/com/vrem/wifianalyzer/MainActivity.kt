@@ -42,6 +42,7 @@ import com.vrem.wifianalyzer.settings.Repository
 import com.vrem.wifianalyzer.settings.Settings
 import com.vrem.wifianalyzer.wifi.accesspoint.ConnectionView
 import com.vrem.wifianalyzer.wifi.band.WiFiBand
+import com.vrem.wifianalyzer.wifi.scanner.BackgroundScanService
 
 @OpenClass
 class MainActivity : AppCompatActivity(), NavigationMenuControl, OnSharedPreferenceChangeListener {
@@ -52,6 +53,7 @@ class MainActivity : AppCompatActivity(), NavigationMenuControl, OnSharedPrefere
     lateinit var permissionService: PermissionService
 
     private var currentCountryCode: String = String.EMPTY
+    private lateinit var connectionView: ConnectionView
 
     override fun attachBaseContext(newBase: Context) =
             super.attachBaseContext(newBase.createContext(Settings(Repository(newBase)).languageLocale()))
@@ -84,7 +86,7 @@ class MainActivity : AppCompatActivity(), NavigationMenuControl, OnSharedPrefere
         navigationMenuController.currentNavigationMenu(settings.selectedMenu())
         onNavigationItemSelected(currentMenuItem())
 
-        val connectionView = ConnectionView(this)
+        connectionView = ConnectionView(this)
         mainContext.scannerService.register(connectionView)
 
         permissionService = PermissionService(this)
@@ -172,13 +174,17 @@ class MainActivity : AppCompatActivity(), NavigationMenuControl, OnSharedPrefere
     }
 
     public override fun onPause() {
-        MainContext.INSTANCE.scannerService.pause()
+        if (!MainContext.INSTANCE.settings.backgroundLog()) {
+            MainContext.INSTANCE.scannerService.pause()
+        }
         updateActionBar()
         super.onPause()
     }
 
     public override fun onResume() {
         super.onResume()
+        BackgroundScanService.stop(this)
+        MainContext.INSTANCE.scannerService.resumeUpdates()
         if (permissionService.permissionGranted()) {
             if (!permissionService.systemEnabled()) {
                 startLocationSettings()
@@ -189,10 +195,20 @@ class MainActivity : AppCompatActivity(), NavigationMenuControl, OnSharedPrefere
     }
 
     public override fun onStop() {
-        MainContext.INSTANCE.scannerService.stop()
+        MainContext.INSTANCE.scannerService.pauseUpdates()
+        if (MainContext.INSTANCE.settings.backgroundLog()) {
+            BackgroundScanService.start(this)
+        } else {
+            MainContext.INSTANCE.scannerService.stop()
+        }
         super.onStop()
     }
 
+    public override fun onDestroy() {
+        MainContext.INSTANCE.scannerService.unregister(connectionView)
+        super.onDestroy()
+    }
+
     override fun onCreateOptionsMenu(menu: Menu): Boolean {
         optionMenu.create(this, menu)
         updateActionBar()
@@ -18,9 +18,11 @@
 package com.vrem.wifianalyzer
 
 import android.content.Context
+import android.content.Intent
 import android.content.res.Resources
 import android.net.wifi.WifiManager
 import android.os.Handler
+import android.os.HandlerThread
 import android.os.Looper
 import android.view.LayoutInflater
 import com.vrem.wifianalyzer.settings.Repository
@@ -28,8 +30,13 @@ import com.vrem.wifianalyzer.settings.Settings
 import com.vrem.wifianalyzer.vendor.model.VendorService
 import com.vrem.wifianalyzer.wifi.filter.adapter.FiltersAdapter
 import com.vrem.wifianalyzer.wifi.manager.WiFiManagerWrapper
+import com.vrem.wifianalyzer.wifi.scanlog.SCAN_LOG_DIRECTORY
 import com.vrem.wifianalyzer.wifi.scanner.ScannerService
+import com.vrem.wifianalyzer.wifi.scanner.makeReplayScannerService
 import com.vrem.wifianalyzer.wifi.scanner.makeScannerService
+import java.io.File
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
 
 enum class MainContext {
     INSTANCE;
@@ -51,17 +58,59 @@ enum class MainContext {
     val layoutInflater: LayoutInflater
         get() = mainActivity.layoutInflater
 
+    val backgroundExecutor: ExecutorService by lazy {
+        Executors.newSingleThreadExecutor()
+    }
+
+    val exportExecutor: ExecutorService by lazy {
+        Executors.newSingleThreadExecutor()
+    }
+
     private val wiFiManager: WifiManager
         get() = context.getSystemService(Context.WIFI_SERVICE) as WifiManager
 
+    private val scannerThread: HandlerThread by lazy {
+        HandlerThread(SCANNER_THREAD).apply { start() }
+    }
+
     fun initialize(activity: MainActivity, largeScreen: Boolean) {
         mainActivity = activity
         configuration = Configuration(largeScreen)
         settings = Settings(Repository(context))
-        vendorService = VendorService(activity.resources)
         wiFiManagerWrapper = WiFiManagerWrapper(wiFiManager)
-        scannerService = makeScannerService(wiFiManagerWrapper, Handler(Looper.getMainLooper()), settings)
+        if (!this::scannerService.isInitialized || !settings.backgroundLog()) {
+            retireScannerService()
+            vendorService = VendorService(resources)
+            scannerService = scannerService(activity.intent)
+            vendorService.preload(backgroundExecutor) { scannerService.update() }
+        }
         filtersAdapter = FiltersAdapter(settings)
     }
 
+    private fun retireScannerService() {
+        if (this::scannerService.isInitialized && scannerService.running()) {
+            scannerService.pause()
+            scannerService.stop()
+        }
+    }
+
+    private fun scannerService(intent: Intent?): ScannerService {
+        val scanHandler = Handler(scannerThread.looper)
+        val mainHandler = Handler(Looper.getMainLooper())
+        val scanLogDirectory = File(context.filesDir, SCAN_LOG_DIRECTORY)
+        val replay = intent?.getStringExtra(REPLAY_SCAN_LOG)
+        return if (BuildConfig.DEBUG && replay != null) {
+            val speed = intent.getFloatExtra(REPLAY_SPEED, 1f).toDouble()
+            makeReplayScannerService(scanLogDirectory.resolve(replay), scanHandler, mainHandler, speed)
+        } else {
+            makeScannerService(context, wiFiManagerWrapper, scanHandler, mainHandler, settings, scanLogDirectory)
+        }
+    }
+
+    companion object {
+        const val REPLAY_SCAN_LOG = "replay_scan_log"
+        const val REPLAY_SPEED = "replay_speed"
+        private const val SCANNER_THREAD = "ScannerService"
+    }
+
 }
\ No newline at end of file
@@ -39,6 +39,7 @@ import com.vrem.util.readFile
 import com.vrem.wifianalyzer.MainContext
 import com.vrem.wifianalyzer.R
 import com.vrem.wifianalyzer.databinding.AboutContentBinding
+import com.vrem.wifianalyzer.wifi.scanner.ScanStatistics
 import java.text.SimpleDateFormat
 import java.util.*
 
@@ -58,11 +59,18 @@ class AboutFragment : Fragment() {
         binding.aboutVersionInfo.text = version(activity)
         binding.aboutPackageName.text = activity.packageName
         binding.aboutDevice.text = device()
+        binding.aboutScanStatistics.text = scanStatistics()
     }
 
     private fun device(): String =
             Build.MANUFACTURER + " - " + Build.BRAND + " - " + Build.MODEL
 
+    private fun scanStatistics(): String {
+        val scanStatistics: ScanStatistics = MainContext.INSTANCE.scannerService.scanStatistics()
+        val now: Long = System.currentTimeMillis()
+        return resources.getString(R.string.about_scan_statistics, scanStatistics.scansPerMinute(now), scanStatistics.averageLatency(now))
+    }
+
     private fun wiFiState(binding: AboutContentBinding) {
         val wiFiManagerWrapper = MainContext.INSTANCE.wiFiManagerWrapper
         wiFiBand(wiFiManagerWrapper.is5GHzBandSupported(), binding.aboutWifiBand5ghzSuccess, binding.aboutWifiBand5ghzFails)
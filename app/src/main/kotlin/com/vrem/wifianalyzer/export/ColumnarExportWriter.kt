@@ -0,0 +1,82 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import java.io.DataOutputStream
+import java.io.OutputStream
+
+internal const val COLUMNAR_MAGIC = 0x57414558
+internal const val COLUMNAR_VERSION = 1
+internal const val COLUMNAR_BLOCK_ROWS = 4096
+
+internal class ColumnarExportWriter(outputStream: OutputStream) : ExportWriter {
+    private val output = DataOutputStream(outputStream.buffered(BUFFER_SIZE))
+    private val rows: MutableList<ExportRow> = ArrayList(COLUMNAR_BLOCK_ROWS)
+
+    init {
+        output.writeInt(COLUMNAR_MAGIC)
+        output.writeByte(COLUMNAR_VERSION)
+        output.writeByte(ExportColumn.values().size)
+        ExportColumn.values().forEach {
+            output.writeUTF(it.title)
+            output.writeByte(it.type.ordinal)
+        }
+    }
+
+    override fun write(exportRow: ExportRow) {
+        rows.add(exportRow)
+        if (rows.size == COLUMNAR_BLOCK_ROWS) {
+            writeBlock()
+        }
+    }
+
+    override fun close() {
+        output.use {
+            writeBlock()
+            it.writeInt(0)
+        }
+    }
+
+    private fun writeBlock() {
+        if (rows.isEmpty()) {
+            return
+        }
+        output.writeInt(rows.size)
+        ExportColumn.values().forEach { exportColumn ->
+            when (exportColumn.type) {
+                ExportColumnType.BOOLEAN -> rows.forEach { output.writeBoolean(it.boolean(exportColumn)) }
+                ExportColumnType.INT32 -> rows.forEach { output.writeInt(it.int(exportColumn)) }
+                ExportColumnType.INT64 -> rows.forEach { output.writeLong(it.long(exportColumn)) }
+                ExportColumnType.FLOAT64 -> rows.forEach { output.writeDouble(it.double(exportColumn)) }
+                ExportColumnType.STRING -> rows.forEach { writeString(it.string(exportColumn)) }
+            }
+        }
+        rows.clear()
+    }
+
+    private fun writeString(value: String) {
+        val bytes = value.toByteArray(Charsets.UTF_8)
+        output.writeInt(bytes.size)
+        output.write(bytes)
+    }
+
+    companion object {
+        private const val BUFFER_SIZE = 32 * 1024
+    }
+
+}
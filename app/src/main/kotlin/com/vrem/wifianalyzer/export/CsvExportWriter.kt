@@ -0,0 +1,78 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import java.io.OutputStream
+import java.io.Writer
+
+internal class CsvExportWriter(outputStream: OutputStream) : ExportWriter {
+    private val writer: Writer = outputStream.bufferedWriter()
+    private val row = StringBuilder(ROW_CAPACITY)
+
+    init {
+        ExportColumn.values().forEachIndexed { index, exportColumn ->
+            if (index > 0) {
+                row.append(SEPARATOR)
+            }
+            row.append(exportColumn.title)
+        }
+        writer.append(row.append(LINE_END))
+    }
+
+    override fun write(exportRow: ExportRow) {
+        row.setLength(0)
+        ExportColumn.values().forEachIndexed { index, exportColumn ->
+            if (index > 0) {
+                row.append(SEPARATOR)
+            }
+            when (exportColumn.type) {
+                ExportColumnType.BOOLEAN -> row.append(exportRow.boolean(exportColumn))
+                ExportColumnType.INT32 -> row.append(exportRow.int(exportColumn))
+                ExportColumnType.INT64 -> row.append(exportRow.long(exportColumn))
+                ExportColumnType.FLOAT64 -> row.append(exportRow.double(exportColumn))
+                ExportColumnType.STRING -> appendField(exportRow.string(exportColumn))
+            }
+        }
+        writer.append(row.append(LINE_END))
+    }
+
+    override fun close(): Unit = writer.close()
+
+    private fun appendField(value: String) {
+        if (value.none { it == SEPARATOR || it == QUOTE || it == '\r' || it == '\n' }) {
+            row.append(value)
+            return
+        }
+        row.append(QUOTE)
+        value.forEach {
+            if (it == QUOTE) {
+                row.append(QUOTE)
+            }
+            row.append(it)
+        }
+        row.append(QUOTE)
+    }
+
+    companion object {
+        private const val SEPARATOR = ','
+        private const val QUOTE = '"'
+        private const val LINE_END = "\r\n"
+        private const val ROW_CAPACITY = 256
+    }
+
+}
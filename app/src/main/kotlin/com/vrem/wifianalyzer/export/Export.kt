@@ -15,47 +15,55 @@
  * You should have received a copy of the GNU General Public License
  * along with this program.  If not, see <http://www.gnu.org/licenses/>
  */
-
 package com.vrem.wifianalyzer.export
 
 import android.content.Intent
 import android.content.res.Resources
-import com.vrem.util.EMPTY
 import com.vrem.wifianalyzer.MainActivity
+import com.vrem.wifianalyzer.MainContext
 import com.vrem.wifianalyzer.R
 import com.vrem.wifianalyzer.wifi.model.WiFiDetail
-import com.vrem.wifianalyzer.wifi.model.WiFiSignal.Companion.FREQUENCY_UNITS
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.OutputStream
 import java.text.SimpleDateFormat
 import java.util.*
 
+typealias ExportProgress = (exported: Int) -> Unit
+
 class Export(private val exportIntent: ExportIntent = ExportIntent()) {
 
-    private val header = "Time Stamp|" +
-            "SSID|" +
-            "BSSID|" +
-            "Strength|" +
-            "Primary Channel|" +
-            "Primary Frequency|" +
-            "Center Channel|" +
-            "Center Frequency|" +
-            "Width (Range)|" +
-            "Distance|" +
-            "802.11mc|" +
-            "Security" +
-            "\n"
+    fun export(mainActivity: MainActivity, wiFiDetails: List<WiFiDetail>, progress: ExportProgress = {}): Intent =
+            export(mainActivity, wiFiDetails, Date(), MainContext.INSTANCE.settings.exportFormat(), progress)
 
-    fun export(mainActivity: MainActivity, wiFiDetails: List<WiFiDetail>): Intent =
-            export(mainActivity, wiFiDetails, Date())
+    fun export(mainActivity: MainActivity, wiFiDetails: List<WiFiDetail>, date: Date, exportFormat: ExportFormat, progress: ExportProgress = {}): Intent {
+        val title: String = title(mainActivity, timestamp(date))
+        val file: File = file(mainActivity.cacheDir, date, exportFormat)
+        file.outputStream().use { write(it, exportFormat, wiFiDetails, date, progress) }
+        return exportIntent.intent(title, exportIntent.uri(mainActivity, file), exportFormat.mimeType)
+    }
 
-    fun export(mainActivity: MainActivity, wiFiDetails: List<WiFiDetail>, date: Date): Intent {
-        val timestamp: String = timestamp(date)
-        val title: String = title(mainActivity, timestamp)
-        val data: String = data(wiFiDetails, timestamp)
-        return exportIntent.intent(title, data)
+    internal fun write(outputStream: OutputStream, exportFormat: ExportFormat, wiFiDetails: List<WiFiDetail>, date: Date, progress: ExportProgress = {}) {
+        exportFormat.writer(outputStream).use { exportWriter ->
+            wiFiDetails.forEachIndexed { index, wiFiDetail ->
+                exportWriter.write(ExportRow(date.time, wiFiDetail))
+                if ((index + 1) % PROGRESS_ROWS == 0) {
+                    progress(index + 1)
+                }
+            }
+        }
+        progress(wiFiDetails.size)
     }
 
-    internal fun data(wiFiDetails: List<WiFiDetail>, timestamp: String): String =
-            header + wiFiDetails.joinToString(separator = String.EMPTY, transform = toExportString(timestamp))
+    internal fun data(wiFiDetails: List<WiFiDetail>, date: Date, exportFormat: ExportFormat = ExportFormat.TEXT): ByteArray =
+            ByteArrayOutputStream().also { write(it, exportFormat, wiFiDetails, date) }.toByteArray()
+
+    internal fun file(cacheDir: File, date: Date, exportFormat: ExportFormat): File {
+        val directory = File(cacheDir, EXPORT_DIRECTORY)
+        directory.listFiles()?.forEach { it.delete() }
+        directory.mkdirs()
+        return File(directory, "$EXPORT_NAME-${SimpleDateFormat(FILE_TIME_STAMP_FORMAT, Locale.US).format(date)}${exportFormat.extension}")
+    }
 
     internal fun title(mainActivity: MainActivity, timestamp: String): String {
         val resources: Resources = mainActivity.resources
@@ -65,26 +73,12 @@ class Export(private val exportIntent: ExportIntent = ExportIntent()) {
 
     internal fun timestamp(date: Date): String = SimpleDateFormat(TIME_STAMP_FORMAT, Locale.US).format(date)
 
-    private fun toExportString(timestamp: String): (WiFiDetail) -> String = {
-        with(it) {
-            "$timestamp|" +
-                    "${wiFiIdentifier.ssid}|" +
-                    "${wiFiIdentifier.bssid}|" +
-                    "${wiFiSignal.level}dBm|" +
-                    "${wiFiSignal.primaryWiFiChannel.channel}|" +
-                    "${wiFiSignal.primaryFrequency}$FREQUENCY_UNITS|" +
-                    "${wiFiSignal.centerWiFiChannel.channel}|" +
-                    "${wiFiSignal.centerFrequency}$FREQUENCY_UNITS|" +
-                    "${wiFiSignal.wiFiWidth.frequencyWidth}$FREQUENCY_UNITS (${wiFiSignal.frequencyStart} - ${wiFiSignal.frequencyEnd})|" +
-                    "${wiFiSignal.distance}|" +
-                    "${wiFiSignal.is80211mc}|" +
-                    capabilities +
-                    "\n"
-        }
-    }
-
     companion object {
-        private const val TIME_STAMP_FORMAT = "yyyy/MM/dd-HH:mm:ss"
+        internal const val TIME_STAMP_FORMAT = "yyyy/MM/dd-HH:mm:ss"
+        private const val FILE_TIME_STAMP_FORMAT = "yyyyMMdd-HHmmss"
+        private const val EXPORT_DIRECTORY = "export"
+        private const val EXPORT_NAME = "wifianalyzer"
+        private const val PROGRESS_ROWS = 100
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+internal enum class ExportColumnType {
+    BOOLEAN,
+    INT32,
+    INT64,
+    FLOAT64,
+    STRING
+}
+
+internal enum class ExportColumn(val title: String, val type: ExportColumnType) {
+    TIMESTAMP("timestamp_ms", ExportColumnType.INT64),
+    SSID("ssid", ExportColumnType.STRING),
+    BSSID("bssid", ExportColumnType.STRING),
+    LEVEL("level_dbm", ExportColumnType.INT32),
+    PRIMARY_CHANNEL("primary_channel", ExportColumnType.INT32),
+    PRIMARY_FREQUENCY("primary_frequency_mhz", ExportColumnType.INT32),
+    CENTER_CHANNEL("center_channel", ExportColumnType.INT32),
+    CENTER_FREQUENCY("center_frequency_mhz", ExportColumnType.INT32),
+    WIDTH("width_mhz", ExportColumnType.INT32),
+    FREQUENCY_START("frequency_start_mhz", ExportColumnType.INT32),
+    FREQUENCY_END("frequency_end_mhz", ExportColumnType.INT32),
+    DISTANCE("distance_m", ExportColumnType.FLOAT64),
+    MC80211("mc80211", ExportColumnType.BOOLEAN),
+    CAPABILITIES("capabilities", ExportColumnType.STRING);
+}
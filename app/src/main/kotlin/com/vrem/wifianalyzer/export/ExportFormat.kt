@@ -0,0 +1,27 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import java.io.OutputStream
+
+enum class ExportFormat(val extension: String, val mimeType: String, internal val writer: (OutputStream) -> ExportWriter) {
+    TEXT(".txt", "text/plain", ::TextExportWriter),
+    CSV(".csv", "text/csv", ::CsvExportWriter),
+    JSON_LINES(".jsonl", "application/x-ndjson", ::JsonLinesExportWriter),
+    COLUMNAR(".wacol", "application/octet-stream", ::ColumnarExportWriter);
+}
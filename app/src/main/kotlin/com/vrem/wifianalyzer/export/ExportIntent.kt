@@ -15,26 +15,36 @@
  * You should have received a copy of the GNU General Public License
  * along with this program.  If not, see <http://www.gnu.org/licenses/>
  */
-
 package com.vrem.wifianalyzer.export
 
+import android.content.Context
 import android.content.Intent
+import android.net.Uri
+import androidx.core.content.FileProvider
 import com.vrem.annotation.OpenClass
+import java.io.File
 
 @OpenClass
 class ExportIntent {
 
-    internal fun intent(title: String, data: String): Intent {
+    internal fun intent(title: String, uri: Uri, mimeType: String): Intent {
         val intentSend: Intent = intentSend()
-        intentSend.flags = Intent.FLAG_ACTIVITY_NEW_TASK
-        intentSend.type = "text/plain"
+        intentSend.flags = Intent.FLAG_ACTIVITY_NEW_TASK or Intent.FLAG_GRANT_READ_URI_PERMISSION
+        intentSend.type = mimeType
         intentSend.putExtra(Intent.EXTRA_TITLE, title)
         intentSend.putExtra(Intent.EXTRA_SUBJECT, title)
-        intentSend.putExtra(Intent.EXTRA_TEXT, data)
+        intentSend.putExtra(Intent.EXTRA_STREAM, uri)
         return intentChooser(intentSend, title)
     }
 
+    internal fun uri(context: Context, file: File): Uri =
+            FileProvider.getUriForFile(context, context.packageName + AUTHORITY_SUFFIX, file)
+
     internal fun intentSend(): Intent = Intent(Intent.ACTION_SEND)
 
     internal fun intentChooser(intent: Intent, title: String): Intent = Intent.createChooser(intent, title)
-}
\ No newline at end of file
+
+    companion object {
+        private const val AUTHORITY_SUFFIX = ".fileprovider"
+    }
+}
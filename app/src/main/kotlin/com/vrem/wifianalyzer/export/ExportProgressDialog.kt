@@ -0,0 +1,51 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import android.app.Activity
+import android.app.AlertDialog
+import android.widget.ProgressBar
+import com.vrem.annotation.OpenClass
+import com.vrem.wifianalyzer.R
+
+@OpenClass
+class ExportProgressDialog(activity: Activity, max: Int, cancel: (() -> Unit)? = null) {
+    private val progressBar: ProgressBar =
+            activity.layoutInflater.inflate(R.layout.export_progress, null) as ProgressBar
+    private val alertDialog: AlertDialog
+
+    init {
+        progressBar.max = max
+        val builder = AlertDialog.Builder(activity)
+                .setView(progressBar)
+                .setTitle(R.string.action_export)
+                .setIcon(R.drawable.ic_app)
+                .setCancelable(false)
+        cancel?.let { builder.setNegativeButton(android.R.string.cancel) { _, _ -> it() } }
+        alertDialog = builder.create()
+    }
+
+    fun show(): Unit = alertDialog.show()
+
+    fun update(exported: Int) {
+        progressBar.progress = exported
+    }
+
+    fun dismiss(): Unit = alertDialog.dismiss()
+
+}
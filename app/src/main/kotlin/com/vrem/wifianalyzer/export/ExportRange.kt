@@ -0,0 +1,34 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import com.vrem.wifianalyzer.R
+import java.util.concurrent.TimeUnit
+
+enum class ExportRange(val title: Int, private val duration: Long) {
+    CURRENT(R.string.export_range_current, 0),
+    LAST_HOUR(R.string.export_range_last_hour, TimeUnit.HOURS.toMillis(1)),
+    LAST_DAY(R.string.export_range_last_day, TimeUnit.DAYS.toMillis(1)),
+    ALL(R.string.export_range_all, Long.MAX_VALUE);
+
+    val history: Boolean
+        get() = this != CURRENT
+
+    fun from(now: Long): Long = if (duration >= now) 0 else now - duration
+
+}
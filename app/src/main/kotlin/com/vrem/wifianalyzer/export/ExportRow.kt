@@ -0,0 +1,66 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+import com.vrem.wifianalyzer.wifi.model.calculateDistance
+
+internal class ExportRow(val timestamp: Long, val wiFiDetail: WiFiDetail) {
+
+    fun boolean(exportColumn: ExportColumn): Boolean =
+            when (exportColumn) {
+                ExportColumn.MC80211 -> wiFiDetail.wiFiSignal.is80211mc
+                else -> throw IllegalArgumentException(exportColumn.name)
+            }
+
+    fun int(exportColumn: ExportColumn): Int =
+            with(wiFiDetail.wiFiSignal) {
+                when (exportColumn) {
+                    ExportColumn.LEVEL -> level
+                    ExportColumn.PRIMARY_CHANNEL -> primaryWiFiChannel.channel
+                    ExportColumn.PRIMARY_FREQUENCY -> primaryFrequency
+                    ExportColumn.CENTER_CHANNEL -> centerWiFiChannel.channel
+                    ExportColumn.CENTER_FREQUENCY -> centerFrequency
+                    ExportColumn.WIDTH -> wiFiWidth.frequencyWidth
+                    ExportColumn.FREQUENCY_START -> frequencyStart
+                    ExportColumn.FREQUENCY_END -> frequencyEnd
+                    else -> throw IllegalArgumentException(exportColumn.name)
+                }
+            }
+
+    fun long(exportColumn: ExportColumn): Long =
+            when (exportColumn) {
+                ExportColumn.TIMESTAMP -> timestamp
+                else -> throw IllegalArgumentException(exportColumn.name)
+            }
+
+    fun double(exportColumn: ExportColumn): Double =
+            when (exportColumn) {
+                ExportColumn.DISTANCE -> with(wiFiDetail.wiFiSignal) { calculateDistance(primaryFrequency, level) }
+                else -> throw IllegalArgumentException(exportColumn.name)
+            }
+
+    fun string(exportColumn: ExportColumn): String =
+            when (exportColumn) {
+                ExportColumn.SSID -> wiFiDetail.wiFiIdentifier.ssid
+                ExportColumn.BSSID -> wiFiDetail.wiFiIdentifier.bssid
+                ExportColumn.CAPABILITIES -> wiFiDetail.capabilities
+                else -> throw IllegalArgumentException(exportColumn.name)
+            }
+
+}
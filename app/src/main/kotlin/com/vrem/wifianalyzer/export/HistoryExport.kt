@@ -0,0 +1,122 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import android.content.Intent
+import com.vrem.annotation.OpenClass
+import com.vrem.wifianalyzer.MainActivity
+import com.vrem.wifianalyzer.wifi.scanlog.SCAN_LOG_EXTENSION
+import com.vrem.wifianalyzer.wifi.scanlog.ScanLogReader
+import com.vrem.wifianalyzer.wifi.scanlog.scanLogFiles
+import com.vrem.wifianalyzer.wifi.scanner.Transformer
+import java.io.File
+import java.io.FilterInputStream
+import java.io.InputStream
+import java.io.OutputStream
+import java.util.*
+import java.util.concurrent.CancellationException
+import java.util.zip.GZIPOutputStream
+
+@OpenClass
+class HistoryExport(private val directory: File,
+                    private val export: Export = Export(),
+                    private val exportIntent: ExportIntent = ExportIntent(),
+                    private val transformer: Transformer = Transformer()) {
+
+    fun available(): Boolean = scanLogFiles(directory).isNotEmpty()
+
+    fun files(from: Long, to: Long): List<File> {
+        val files: List<File> = scanLogFiles(directory)
+        return files.filterIndexed { index, file ->
+            val end: Long = files.getOrNull(index + 1)?.let { started(it) } ?: Long.MAX_VALUE
+            started(file) <= to && end >= from
+        }
+    }
+
+    fun size(files: List<File>): Int = (files.map { it.length() }.sum() / KILOBYTE).toInt()
+
+    fun export(mainActivity: MainActivity, files: List<File>, from: Long, to: Long, exportFormat: ExportFormat,
+               cancelled: () -> Boolean, progress: ExportProgress = {}): Intent {
+        val date = Date(to)
+        val title: String = export.title(mainActivity, export.timestamp(date))
+        val file = File(export.file(mainActivity.cacheDir, date, exportFormat).path + GZIP_EXTENSION)
+        try {
+            GZIPOutputStream(file.outputStream(), BUFFER_SIZE).use { write(it, exportFormat, files, from, to, cancelled, progress) }
+        } catch (e: CancellationException) {
+            file.delete()
+            throw e
+        }
+        return exportIntent.intent(title, exportIntent.uri(mainActivity, file), GZIP_MIME_TYPE)
+    }
+
+    internal fun write(outputStream: OutputStream, exportFormat: ExportFormat, files: List<File>, from: Long, to: Long,
+                       cancelled: () -> Boolean = { false }, progress: ExportProgress = {}) {
+        var completed = 0L
+        var reported = 0
+        val step: Int = maxOf(1, size(files) / PROGRESS_STEPS)
+        exportFormat.writer(outputStream).use { exportWriter ->
+            files.forEach { file ->
+                val inputStream = CountingInputStream(file.inputStream())
+                ScanLogReader(inputStream).use { scanLogReader ->
+                    var scanRecord = scanLogReader.read()
+                    while (scanRecord != null && scanRecord.timestamp <= to) {
+                        if (cancelled()) {
+                            throw CancellationException()
+                        }
+                        if (scanRecord.timestamp >= from) {
+                            val timestamp = scanRecord.timestamp
+                            scanRecord.scanResults.forEach {
+                                exportWriter.write(ExportRow(timestamp, transformer.transformScanResult(it)))
+                            }
+                        }
+                        val read = ((completed + inputStream.count) / KILOBYTE).toInt()
+                        if (read - reported >= step) {
+                            progress(read)
+                            reported = read
+                        }
+                        scanRecord = scanLogReader.read()
+                    }
+                }
+                completed += file.length()
+            }
+        }
+        progress(size(files))
+    }
+
+    private fun started(file: File): Long = file.name.removeSuffix(SCAN_LOG_EXTENSION).toLongOrNull() ?: 0
+
+    private class CountingInputStream(inputStream: InputStream) : FilterInputStream(inputStream) {
+        var count: Long = 0
+            private set
+
+        override fun read(): Int = super.read().also { if (it >= 0) count++ }
+
+        override fun read(b: ByteArray, off: Int, len: Int): Int = super.read(b, off, len).also { if (it > 0) count += it }
+
+        override fun skip(n: Long): Long = super.skip(n).also { count += it }
+    }
+
+    companion object {
+        private const val GZIP_EXTENSION = ".gz"
+        private const val GZIP_MIME_TYPE = "application/gzip"
+        private const val BUFFER_SIZE = 32 * 1024
+        private const val KILOBYTE = 1024L
+        private const val PROGRESS_STEPS = 100
+    }
+
+}
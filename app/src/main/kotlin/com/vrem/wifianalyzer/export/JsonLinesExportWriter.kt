@@ -0,0 +1,79 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import java.io.OutputStream
+import java.io.Writer
+
+internal class JsonLinesExportWriter(outputStream: OutputStream) : ExportWriter {
+    private val writer: Writer = outputStream.bufferedWriter()
+    private val row = StringBuilder(ROW_CAPACITY)
+
+    override fun write(exportRow: ExportRow) {
+        row.setLength(0)
+        row.append('{')
+        ExportColumn.values().forEachIndexed { index, exportColumn ->
+            if (index > 0) {
+                row.append(',')
+            }
+            appendString(exportColumn.title)
+            row.append(':')
+            when (exportColumn.type) {
+                ExportColumnType.BOOLEAN -> row.append(exportRow.boolean(exportColumn))
+                ExportColumnType.INT32 -> row.append(exportRow.int(exportColumn))
+                ExportColumnType.INT64 -> row.append(exportRow.long(exportColumn))
+                ExportColumnType.FLOAT64 -> appendDouble(exportRow.double(exportColumn))
+                ExportColumnType.STRING -> appendString(exportRow.string(exportColumn))
+            }
+        }
+        row.append('}').append('\n')
+        writer.append(row)
+    }
+
+    override fun close(): Unit = writer.close()
+
+    private fun appendDouble(value: Double) {
+        if (value.isFinite()) {
+            row.append(value)
+        } else {
+            row.append("null")
+        }
+    }
+
+    private fun appendString(value: String) {
+        row.append('"')
+        value.forEach {
+            when {
+                it == '"' -> row.append("\\\"")
+                it == '\\' -> row.append("\\\\")
+                it == '\n' -> row.append("\\n")
+                it == '\r' -> row.append("\\r")
+                it == '\t' -> row.append("\\t")
+                it < ' ' -> row.append("\\u00").append(HEX_DIGITS[it.toInt() shr 4]).append(HEX_DIGITS[it.toInt() and 0xF])
+                else -> row.append(it)
+            }
+        }
+        row.append('"')
+    }
+
+    companion object {
+        private const val ROW_CAPACITY = 512
+        private const val HEX_DIGITS = "0123456789abcdef"
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import com.vrem.wifianalyzer.wifi.model.WiFiSignal.Companion.DISTANCE_FORMAT
+import com.vrem.wifianalyzer.wifi.model.WiFiSignal.Companion.FREQUENCY_UNITS
+import com.vrem.wifianalyzer.wifi.model.calculateDistance
+import java.io.OutputStream
+import java.io.Writer
+import java.text.SimpleDateFormat
+import java.util.*
+
+internal class TextExportWriter(outputStream: OutputStream) : ExportWriter {
+    private val writer: Writer = outputStream.bufferedWriter()
+    private val row = StringBuilder(ROW_CAPACITY)
+    private val formatter = Formatter(row)
+    private val dateFormat = SimpleDateFormat(Export.TIME_STAMP_FORMAT, Locale.US)
+    private var timestamp: Long = Long.MIN_VALUE
+    private var formatted: String = ""
+
+    init {
+        writer.write(HEADER)
+    }
+
+    override fun write(exportRow: ExportRow) {
+        if (exportRow.timestamp != timestamp) {
+            timestamp = exportRow.timestamp
+            formatted = dateFormat.format(Date(timestamp))
+        }
+        row.setLength(0)
+        with(exportRow.wiFiDetail) {
+            row.append(formatted).append(SEPARATOR)
+                    .append(wiFiIdentifier.ssid).append(SEPARATOR)
+                    .append(wiFiIdentifier.bssid).append(SEPARATOR)
+                    .append(wiFiSignal.level).append("dBm").append(SEPARATOR)
+                    .append(wiFiSignal.primaryWiFiChannel.channel).append(SEPARATOR)
+                    .append(wiFiSignal.primaryFrequency).append(FREQUENCY_UNITS).append(SEPARATOR)
+                    .append(wiFiSignal.centerWiFiChannel.channel).append(SEPARATOR)
+                    .append(wiFiSignal.centerFrequency).append(FREQUENCY_UNITS).append(SEPARATOR)
+                    .append(wiFiSignal.wiFiWidth.frequencyWidth).append(FREQUENCY_UNITS)
+                    .append(" (").append(wiFiSignal.frequencyStart).append(" - ").append(wiFiSignal.frequencyEnd).append(")").append(SEPARATOR)
+            formatter.format(DISTANCE_FORMAT, calculateDistance(wiFiSignal.primaryFrequency, wiFiSignal.level))
+            row.append(SEPARATOR)
+                    .append(wiFiSignal.is80211mc).append(SEPARATOR)
+                    .append(capabilities)
+                    .append("\n")
+        }
+        writer.append(row)
+    }
+
+    override fun close(): Unit = writer.close()
+
+    companion object {
+        private const val HEADER = "Time Stamp|" +
+                "SSID|" +
+                "BSSID|" +
+                "Strength|" +
+                "Primary Channel|" +
+                "Primary Frequency|" +
+                "Center Channel|" +
+                "Center Frequency|" +
+                "Width (Range)|" +
+                "Distance|" +
+                "802.11mc|" +
+                "Security" +
+                "\n"
+        private const val SEPARATOR = '|'
+        private const val ROW_CAPACITY = 256
+    }
+
+}
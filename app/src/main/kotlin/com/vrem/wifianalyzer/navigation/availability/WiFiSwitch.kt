@@ -26,6 +26,7 @@ import com.vrem.wifianalyzer.MainContext
 import com.vrem.wifianalyzer.R
 import com.vrem.wifianalyzer.navigation.options.OptionMenu
 import com.vrem.wifianalyzer.wifi.band.WiFiBand
+import com.vrem.wifianalyzer.wifi.band.textResource
 
 internal val navigationOptionWiFiSwitchOff: NavigationOption = {
     it.supportActionBar?.let { actionBar ->
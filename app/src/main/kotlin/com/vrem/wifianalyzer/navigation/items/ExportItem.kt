@@ -17,6 +17,7 @@
  */
 package com.vrem.wifianalyzer.navigation.items
 
+import android.app.AlertDialog
 import android.content.ActivityNotFoundException
 import android.content.Intent
 import android.view.MenuItem
@@ -24,19 +25,101 @@ import android.widget.Toast
 import com.vrem.wifianalyzer.MainActivity
 import com.vrem.wifianalyzer.MainContext
 import com.vrem.wifianalyzer.R
-import com.vrem.wifianalyzer.export.Export
+import com.vrem.wifianalyzer.export.*
 import com.vrem.wifianalyzer.navigation.NavigationMenu
 import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+import com.vrem.wifianalyzer.wifi.scanlog.SCAN_LOG_DIRECTORY
+import java.io.File
+import java.util.concurrent.CancellationException
+import java.util.concurrent.Executor
+import java.util.concurrent.atomic.AtomicBoolean
 
-internal class ExportItem(private val export: Export) : NavigationItem {
+internal class ExportItem(private val export: Export,
+                          private val executor: Executor = MainContext.INSTANCE.exportExecutor) : NavigationItem {
 
     override fun activate(mainActivity: MainActivity, menuItem: MenuItem, navigationMenu: NavigationMenu) {
+        val historyExport: HistoryExport = historyExport(mainActivity)
+        if (!historyExport.available()) {
+            exportCurrent(mainActivity)
+            return
+        }
+        chooseExportRange(mainActivity) {
+            if (it.history) {
+                exportHistory(mainActivity, historyExport, it)
+            } else {
+                exportCurrent(mainActivity)
+            }
+        }
+    }
+
+    internal fun historyExport(mainActivity: MainActivity): HistoryExport =
+            HistoryExport(File(mainActivity.filesDir, SCAN_LOG_DIRECTORY), export)
+
+    internal fun chooseExportRange(mainActivity: MainActivity, choose: (ExportRange) -> Unit) {
+        val titles: Array<String> = ExportRange.values().map { mainActivity.getString(it.title) }.toTypedArray()
+        AlertDialog.Builder(mainActivity)
+                .setTitle(R.string.action_export)
+                .setIcon(R.drawable.ic_app)
+                .setItems(titles) { _, which -> choose(ExportRange.values()[which]) }
+                .show()
+    }
+
+    internal fun exportProgressDialog(mainActivity: MainActivity, max: Int, cancel: (() -> Unit)? = null): ExportProgressDialog =
+            ExportProgressDialog(mainActivity, max, cancel)
+
+    private fun exportCurrent(mainActivity: MainActivity) {
         val wiFiDetails: List<WiFiDetail> = MainContext.INSTANCE.scannerService.wiFiData().wiFiDetails
         if (wiFiDetails.isEmpty()) {
             Toast.makeText(mainActivity, R.string.no_data, Toast.LENGTH_LONG).show()
             return
         }
-        val intent: Intent = export.export(mainActivity, wiFiDetails)
+        val exportProgressDialog: ExportProgressDialog = exportProgressDialog(mainActivity, wiFiDetails.size)
+        execute(mainActivity, exportProgressDialog) { export.export(mainActivity, wiFiDetails, it) }
+    }
+
+    private fun exportHistory(mainActivity: MainActivity, historyExport: HistoryExport, exportRange: ExportRange) {
+        val to: Long = System.currentTimeMillis()
+        val from: Long = exportRange.from(to)
+        val files: List<File> = historyExport.files(from, to)
+        val cancelled = AtomicBoolean()
+        val exportProgressDialog: ExportProgressDialog =
+                exportProgressDialog(mainActivity, historyExport.size(files)) { cancelled.set(true) }
+        val exportFormat: ExportFormat = MainContext.INSTANCE.settings.exportFormat()
+        execute(mainActivity, exportProgressDialog) {
+            historyExport.export(mainActivity, files, from, to, exportFormat, { cancelled.get() || gone(mainActivity) }, it)
+        }
+    }
+
+    private fun execute(mainActivity: MainActivity, exportProgressDialog: ExportProgressDialog, exporting: (ExportProgress) -> Intent) {
+        exportProgressDialog.show()
+        executor.execute {
+            var result: () -> Unit = {}
+            try {
+                val intent: Intent = exporting { runOnUiThread(mainActivity) { exportProgressDialog.update(it) } }
+                result = { start(mainActivity, intent) }
+            } catch (e: CancellationException) {
+                // cancelled by the user, or the activity is gone
+            } catch (e: Exception) {
+                result = { Toast.makeText(mainActivity, e.localizedMessage ?: e.toString(), Toast.LENGTH_LONG).show() }
+            } finally {
+                runOnUiThread(mainActivity) {
+                    exportProgressDialog.dismiss()
+                    result()
+                }
+            }
+        }
+    }
+
+    private fun runOnUiThread(mainActivity: MainActivity, action: () -> Unit) =
+            mainActivity.runOnUiThread {
+                if (!gone(mainActivity)) {
+                    action()
+                }
+            }
+
+    private fun gone(mainActivity: MainActivity): Boolean = mainActivity.isFinishing || mainActivity.isDestroyed
+
+    private fun start(mainActivity: MainActivity, intent: Intent) {
         if (!exportAvailable(mainActivity, intent)) {
             Toast.makeText(mainActivity, R.string.export_not_available, Toast.LENGTH_LONG).show()
             return
@@ -21,6 +21,7 @@ import android.content.SharedPreferences.OnSharedPreferenceChangeListener
 import com.vrem.annotation.OpenClass
 import com.vrem.util.*
 import com.vrem.wifianalyzer.R
+import com.vrem.wifianalyzer.export.ExportFormat
 import com.vrem.wifianalyzer.navigation.NavigationGroup
 import com.vrem.wifianalyzer.navigation.NavigationMenu
 import com.vrem.wifianalyzer.wifi.accesspoint.AccessPointViewType
@@ -96,6 +97,12 @@ class Settings(private val repository: Repository) {
 
     fun keepScreenOn(): Boolean = repository.boolean(R.string.keep_screen_on_key, repository.resourceBoolean(R.bool.keep_screen_on_default))
 
+    fun scanLog(): Boolean = repository.boolean(R.string.scan_log_key, repository.resourceBoolean(R.bool.scan_log_default))
+
+    fun backgroundLog(): Boolean = repository.boolean(R.string.background_log_key, repository.resourceBoolean(R.bool.background_log_default))
+
+    fun exportFormat(): ExportFormat = find(ExportFormat.values(), R.string.export_format_key, ExportFormat.TEXT)
+
     fun themeStyle(): ThemeStyle = find(ThemeStyle.values(), R.string.theme_key, ThemeStyle.DARK)
 
     fun selectedMenu(): NavigationMenu = find(NavigationMenu.values(), R.string.selected_menu_key, NavigationMenu.ACCESS_POINTS)
@@ -29,6 +29,9 @@ import com.vrem.wifianalyzer.R
 import com.vrem.wifianalyzer.wifi.model.WiFiAdditional
 import com.vrem.wifianalyzer.wifi.model.WiFiDetail
 import com.vrem.wifianalyzer.wifi.model.WiFiSignal
+import com.vrem.wifianalyzer.wifi.model.colorResource
+import com.vrem.wifianalyzer.wifi.model.imageResource
+import com.vrem.wifianalyzer.wifi.model.nameResource
 
 @OpenClass
 class AccessPointDetail {
@@ -48,6 +51,13 @@ class AccessPointDetail {
         return view
     }
 
+    fun updateSignal(view: View, wiFiDetail: WiFiDetail) {
+        val wiFiSignal = wiFiDetail.wiFiSignal
+        view.findViewById<TextView>(R.id.distance)?.text = wiFiSignal.distance
+        setLevelText(view, wiFiSignal)
+        setLevelImage(view, wiFiSignal)
+    }
+
     fun makeViewDetailed(wiFiDetail: WiFiDetail): View {
         val view = MainContext.INSTANCE.layoutInflater.inflate(R.layout.access_point_view_popup, null)
         setViewCompact(view, wiFiDetail, false)
@@ -0,0 +1,87 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.accesspoint
+
+import androidx.recyclerview.widget.DiffUtil
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+import com.vrem.wifianalyzer.wifi.model.WiFiIdentifier
+import com.vrem.wifianalyzer.wifi.model.WiFiSignal
+import java.util.EnumSet
+
+private const val MAC_ADDRESS_LENGTH = 12
+private const val MAC_ADDRESS_MASK = 0xFFFFFFFFFFFFL
+private const val SSID_SHIFT = 48
+
+enum class AccessPointChange {
+    SIGNAL,
+    GROUP,
+    DETAIL
+}
+
+class AccessPointItem(val wiFiDetail: WiFiDetail, val child: Boolean = false, val expanded: Boolean = false) {
+    val id: Long = accessPointId(wiFiDetail.wiFiIdentifier)
+
+    val childrenCount: Int
+        get() = wiFiDetail.children.size
+
+    fun changes(previous: AccessPointItem): Set<AccessPointChange> {
+        val changes: EnumSet<AccessPointChange> = EnumSet.noneOf(AccessPointChange::class.java)
+        if (wiFiDetail.wiFiSignal.level != previous.wiFiDetail.wiFiSignal.level) {
+            changes.add(AccessPointChange.SIGNAL)
+        }
+        if (expanded != previous.expanded || childrenCount != previous.childrenCount) {
+            changes.add(AccessPointChange.GROUP)
+        }
+        if (child != previous.child || detailChanged(previous.wiFiDetail)) {
+            changes.add(AccessPointChange.DETAIL)
+        }
+        return changes
+    }
+
+    private fun detailChanged(previous: WiFiDetail): Boolean =
+            wiFiDetail.wiFiIdentifier != previous.wiFiIdentifier ||
+                    wiFiDetail.capabilities != previous.capabilities ||
+                    wiFiDetail.wiFiAdditional.vendorName != previous.wiFiAdditional.vendorName ||
+                    signalChanged(wiFiDetail.wiFiSignal, previous.wiFiSignal)
+
+    private fun signalChanged(wiFiSignal: WiFiSignal, previous: WiFiSignal): Boolean =
+            wiFiSignal.primaryFrequency != previous.primaryFrequency ||
+                    wiFiSignal.centerFrequency != previous.centerFrequency ||
+                    wiFiSignal.wiFiWidth != previous.wiFiWidth ||
+                    wiFiSignal.wiFiStandard != previous.wiFiStandard ||
+                    wiFiSignal.is80211mc != previous.is80211mc
+
+}
+
+internal fun accessPointId(wiFiIdentifier: WiFiIdentifier): Long {
+    val bssid: String = wiFiIdentifier.bssid.replace(":", "")
+    val address: Long = bssid.takeIf { it.length == MAC_ADDRESS_LENGTH }?.toLongOrNull(16)
+            ?: wiFiIdentifier.bssid.hashCode().toLong() and MAC_ADDRESS_MASK
+    return address or (wiFiIdentifier.ssid.hashCode().toLong() shl SSID_SHIFT)
+}
+
+internal object AccessPointDiff : DiffUtil.ItemCallback<AccessPointItem>() {
+    override fun areItemsTheSame(oldItem: AccessPointItem, newItem: AccessPointItem): Boolean =
+            oldItem.id == newItem.id
+
+    override fun areContentsTheSame(oldItem: AccessPointItem, newItem: AccessPointItem): Boolean =
+            newItem.changes(oldItem).isEmpty()
+
+    override fun getChangePayload(oldItem: AccessPointItem, newItem: AccessPointItem): Any =
+            newItem.changes(oldItem)
+}
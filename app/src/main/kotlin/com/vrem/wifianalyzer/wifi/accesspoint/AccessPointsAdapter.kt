@@ -19,83 +19,107 @@ package com.vrem.wifianalyzer.wifi.accesspoint
 
 import android.view.View
 import android.view.ViewGroup
-import android.widget.BaseExpandableListAdapter
-import android.widget.ExpandableListView
 import android.widget.ImageView
+import androidx.annotation.LayoutRes
+import androidx.recyclerview.widget.ListAdapter
+import androidx.recyclerview.widget.RecyclerView
 import com.vrem.annotation.OpenClass
+import com.vrem.wifianalyzer.MainContext
 import com.vrem.wifianalyzer.R
 import com.vrem.wifianalyzer.wifi.model.WiFiData
 import com.vrem.wifianalyzer.wifi.model.WiFiDetail
 import com.vrem.wifianalyzer.wifi.scanner.UpdateNotifier
 
+class AccessPointViewHolder(view: View) : RecyclerView.ViewHolder(view) {
+    val groupIndicator: ImageView = view.findViewById(R.id.groupIndicator)
+    val attachPopup: View? = view.findViewById(R.id.attachPopup)
+    val ssid: View = view.findViewById(R.id.ssid)
+}
+
 @OpenClass
 class AccessPointsAdapter(
         private val accessPointsAdapterData: AccessPointsAdapterData = AccessPointsAdapterData(),
         private val accessPointDetail: AccessPointDetail = AccessPointDetail(),
         private val accessPointPopup: AccessPointPopup = AccessPointPopup())
-    : BaseExpandableListAdapter(), UpdateNotifier {
-
-    lateinit var expandableListView: ExpandableListView
+    : ListAdapter<AccessPointItem, AccessPointViewHolder>(AccessPointDiff), UpdateNotifier {
 
-    override fun getGroupView(groupPosition: Int, expanded: Boolean, convertView: View?, parent: ViewGroup?): View {
-        val wiFiDetail = getGroup(groupPosition)
-        val view = accessPointDetail.makeView(convertView, parent, wiFiDetail)
-        attachPopup(view, wiFiDetail)
-        val groupIndicator = view.findViewById<ImageView>(R.id.groupIndicator)
-        val childrenCount = getChildrenCount(groupPosition)
-        if (childrenCount > 0) {
-            groupIndicator.visibility = View.VISIBLE
-            groupIndicator.setImageResource(if (expanded) R.drawable.ic_expand_less else R.drawable.ic_expand_more)
-        } else {
-            groupIndicator.visibility = View.GONE
-        }
-        return view
-    }
+    @LayoutRes
+    private var layout: Int = 0
 
-    override fun getChildView(groupPosition: Int, childPosition: Int, lastChild: Boolean, convertView: View?, parent: ViewGroup?): View {
-        val wiFiDetail = getChild(groupPosition, childPosition)
-        val view = accessPointDetail.makeView(convertView, parent, wiFiDetail, true)
-        attachPopup(view, wiFiDetail)
-        view.findViewById<View>(R.id.groupIndicator).visibility = View.GONE
-        return view
+    init {
+        setHasStableIds(true)
     }
 
     override fun update(wiFiData: WiFiData) {
-        accessPointsAdapterData.update(wiFiData, expandableListView)
-        notifyDataSetChanged()
+        accessPointsAdapterData.update(wiFiData)
+        val accessPointLayout = MainContext.INSTANCE.settings.accessPointView().layout
+        if (layout != accessPointLayout) {
+            layout = accessPointLayout
+            notifyDataSetChanged()
+        }
+        submitList(accessPointsAdapterData.items())
     }
 
-    override fun getGroupCount(): Int =
-            accessPointsAdapterData.parentsCount()
-
-    override fun getChildrenCount(groupPosition: Int): Int =
-            accessPointsAdapterData.childrenCount(groupPosition)
-
-    override fun getGroup(groupPosition: Int): WiFiDetail =
-            accessPointsAdapterData.parent(groupPosition)
-
-    override fun getChild(groupPosition: Int, childPosition: Int): WiFiDetail =
-            accessPointsAdapterData.child(groupPosition, childPosition)
+    override fun onCreateViewHolder(parent: ViewGroup, viewType: Int): AccessPointViewHolder {
+        val view = MainContext.INSTANCE.layoutInflater.inflate(viewType, parent, false)
+        val accessPointViewHolder = AccessPointViewHolder(view)
+        view.setOnClickListener { toggle(accessPointViewHolder.adapterPosition) }
+        return accessPointViewHolder
+    }
 
-    override fun getGroupId(groupPosition: Int): Long = groupPosition.toLong()
+    override fun onBindViewHolder(holder: AccessPointViewHolder, position: Int) {
+        val accessPointItem = getItem(position)
+        accessPointDetail.makeView(holder.itemView, null, accessPointItem.wiFiDetail, accessPointItem.child, layout)
+        attachPopup(holder, accessPointItem.wiFiDetail)
+        setGroupIndicator(holder, accessPointItem)
+    }
 
-    override fun getChildId(groupPosition: Int, childPosition: Int): Long = childPosition.toLong()
+    override fun onBindViewHolder(holder: AccessPointViewHolder, position: Int, payloads: MutableList<Any>) {
+        val changes: Set<Any?> = payloads.flatMap { it as Collection<*> }.toSet()
+        if (changes.isEmpty() || changes.contains(AccessPointChange.DETAIL)) {
+            onBindViewHolder(holder, position)
+            return
+        }
+        val accessPointItem = getItem(position)
+        if (changes.contains(AccessPointChange.SIGNAL)) {
+            accessPointDetail.updateSignal(holder.itemView, accessPointItem.wiFiDetail)
+        }
+        if (changes.contains(AccessPointChange.GROUP)) {
+            setGroupIndicator(holder, accessPointItem)
+        }
+        attachPopup(holder, accessPointItem.wiFiDetail)
+    }
 
-    override fun hasStableIds(): Boolean = true
+    override fun getItemViewType(position: Int): Int = layout
 
-    override fun isChildSelectable(groupPosition: Int, childPosition: Int): Boolean = true
+    override fun getItemId(position: Int): Long = getItem(position).id
 
-    override fun onGroupCollapsed(groupPosition: Int) =
-            accessPointsAdapterData.onGroupCollapsed(groupPosition)
+    internal fun toggle(position: Int) {
+        if (position == RecyclerView.NO_POSITION) {
+            return
+        }
+        val accessPointItem = getItem(position)
+        if (!accessPointItem.child && accessPointItem.childrenCount > 0) {
+            accessPointsAdapterData.toggle(accessPointItem.wiFiDetail)
+            submitList(accessPointsAdapterData.items())
+        }
+    }
 
-    override fun onGroupExpanded(groupPosition: Int) =
-            accessPointsAdapterData.onGroupExpanded(groupPosition)
+    private fun setGroupIndicator(holder: AccessPointViewHolder, accessPointItem: AccessPointItem) {
+        val groupIndicator = holder.groupIndicator
+        if (!accessPointItem.child && accessPointItem.childrenCount > 0) {
+            groupIndicator.visibility = View.VISIBLE
+            groupIndicator.setImageResource(if (accessPointItem.expanded) R.drawable.ic_expand_less else R.drawable.ic_expand_more)
+        } else {
+            groupIndicator.visibility = View.GONE
+        }
+    }
 
-    private fun attachPopup(view: View, wiFiDetail: WiFiDetail) {
-        view.findViewById<View>(R.id.attachPopup)?.let {
+    private fun attachPopup(holder: AccessPointViewHolder, wiFiDetail: WiFiDetail) {
+        holder.attachPopup?.let {
             accessPointPopup.attach(it, wiFiDetail)
-            accessPointPopup.attach(view.findViewById(R.id.ssid), wiFiDetail)
+            accessPointPopup.attach(holder.ssid, wiFiDetail)
         }
     }
 
-}
\ No newline at end of file
+}
@@ -17,7 +17,6 @@
  */
 package com.vrem.wifianalyzer.wifi.accesspoint
 
-import android.widget.ExpandableListView
 import com.vrem.annotation.OpenClass
 import com.vrem.wifianalyzer.MainContext
 import com.vrem.wifianalyzer.SIZE_MAX
@@ -35,30 +34,26 @@ class AccessPointsAdapterData(
         private val accessPointsAdapterGroup: AccessPointsAdapterGroup = AccessPointsAdapterGroup(),
         val wiFiDetails: MutableList<WiFiDetail> = mutableListOf()) {
 
-    fun update(wiFiData: WiFiData, expandableListView: ExpandableListView?) {
+    fun update(wiFiData: WiFiData) {
         MainContext.INSTANCE.configuration.size = type(calculateChildType())
         val settings = MainContext.INSTANCE.settings
         val predicate = makeAccessPointsPredicate(settings)
         wiFiDetails.clear()
         wiFiDetails.addAll(wiFiData.wiFiDetails(predicate, settings.sortBy(), settings.groupBy()))
-        accessPointsAdapterGroup.update(wiFiDetails, expandableListView)
+        accessPointsAdapterGroup.updateGroupBy()
     }
 
-    fun parentsCount(): Int = wiFiDetails.size
-
-    fun parent(index: Int): WiFiDetail = wiFiDetails.getOrNull(index) ?: WiFiDetail.EMPTY
-
-    fun childrenCount(index: Int): Int =
-            wiFiDetails.getOrNull(index)?.children?.size ?: 0
-
-    fun child(indexParent: Int, indexChild: Int): WiFiDetail =
-            wiFiDetails.getOrNull(indexParent)?.children?.getOrNull(indexChild) ?: WiFiDetail.EMPTY
-
-    fun onGroupCollapsed(groupPosition: Int) =
-            accessPointsAdapterGroup.onGroupCollapsed(wiFiDetails, groupPosition)
+    fun items(): List<AccessPointItem> =
+            wiFiDetails.flatMap { wiFiDetail ->
+                if (accessPointsAdapterGroup.expanded(wiFiDetail)) {
+                    listOf(AccessPointItem(wiFiDetail, expanded = true)) + wiFiDetail.children.map { AccessPointItem(it, true) }
+                } else {
+                    listOf(AccessPointItem(wiFiDetail))
+                }
+            }
 
-    fun onGroupExpanded(groupPosition: Int) =
-            accessPointsAdapterGroup.onGroupExpanded(wiFiDetails, groupPosition)
+    fun toggle(wiFiDetail: WiFiDetail) =
+            accessPointsAdapterGroup.toggle(wiFiDetail)
 
     private fun calculateChildType(): Int =
             try {
@@ -42,8 +42,7 @@ class AccessPointsFragment : Fragment(), OnRefreshListener {
             swipeRefreshLayout.isEnabled = false
         }
         accessPointsAdapter = AccessPointsAdapter()
-        binding.accessPointsView.setAdapter(accessPointsAdapter)
-        accessPointsAdapter.expandableListView = binding.accessPointsView
+        binding.accessPointsView.adapter = accessPointsAdapter
         MainContext.INSTANCE.scannerService.register(accessPointsAdapter)
         return binding.root
     }
@@ -26,6 +26,7 @@ import com.vrem.wifianalyzer.R
 import com.vrem.wifianalyzer.databinding.ChannelAvailableDetailsBinding
 import com.vrem.wifianalyzer.wifi.band.WiFiBand
 import com.vrem.wifianalyzer.wifi.band.WiFiChannelCountry
+import com.vrem.wifianalyzer.wifi.band.textResource
 
 internal class ChannelAvailableAdapter(context: Context, wiFiChannelCountries: List<WiFiChannelCountry>) :
         ArrayAdapter<WiFiChannelCountry>(context, R.layout.channel_available_details, wiFiChannelCountries) {
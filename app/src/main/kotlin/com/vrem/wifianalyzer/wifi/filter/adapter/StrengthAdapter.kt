@@ -19,6 +19,8 @@ package com.vrem.wifianalyzer.wifi.filter.adapter
 
 import com.vrem.wifianalyzer.settings.Settings
 import com.vrem.wifianalyzer.wifi.model.Strength
+import com.vrem.wifianalyzer.wifi.model.colorResource
+import com.vrem.wifianalyzer.wifi.model.colorResourceDefault
 
 class StrengthAdapter(selections: Set<Strength>) : EnumFilterAdapter<Strength>(selections, Strength.values()) {
     override fun color(selection: Strength): Int =
@@ -20,7 +20,7 @@ package com.vrem.wifianalyzer.wifi.graphutils
 
 import com.jjoe64.graphview.series.DataPoint
 
-class GraphDataPoint(x: Double, y: Double) : DataPoint(x, y) {
+open class GraphDataPoint(x: Double, y: Double) : DataPoint(x, y) {
 
     constructor(x: Int, y: Int) : this(x.toDouble(), y.toDouble())
 
@@ -74,10 +74,9 @@ class GraphViewWrapper(
                 false
             }
 
-    fun appendToSeries(wiFiDetail: WiFiDetail, data: GraphDataPoint, count: Int, drawBackground: Boolean): Boolean =
+    fun refreshSeries(wiFiDetail: WiFiDetail, drawBackground: Boolean): Boolean =
             if (seriesExists(wiFiDetail)) {
                 val series = seriesCache[wiFiDetail]
-                series.appendData(data, true, count + 1)
                 seriesOptions.highlightConnected(series, wiFiDetail.wiFiAdditional.wiFiConnection.connected)
                 seriesOptions.drawBackground(series, drawBackground)
                 true
@@ -85,6 +84,10 @@ class GraphViewWrapper(
                 false
             }
 
+    fun scrollToEnd() {
+        graphView.viewport.scrollToEnd()
+    }
+
     fun newSeries(wiFiDetail: WiFiDetail): Boolean = !seriesExists(wiFiDetail)
 
     fun setViewport() {
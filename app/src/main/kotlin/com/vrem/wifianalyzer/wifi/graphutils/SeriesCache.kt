@@ -21,23 +21,53 @@ import com.jjoe64.graphview.series.BaseSeries
 import com.jjoe64.graphview.series.Series
 import com.vrem.annotation.OpenClass
 import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+import java.util.IdentityHashMap
 
 @OpenClass
 class SeriesCache {
-    private val cache: MutableMap<WiFiDetail, BaseSeries<GraphDataPoint>> = mutableMapOf()
+    private class Entry(val series: BaseSeries<GraphDataPoint>, var generation: Int)
 
-    fun difference(series: Set<WiFiDetail>): List<WiFiDetail> = cache.keys.minus(series).toList()
+    private val cache: MutableMap<WiFiDetail, Entry> = mutableMapOf()
+    private val owners: MutableMap<Series<*>, WiFiDetail> = IdentityHashMap()
+    private var generation: Int = 0
+
+    fun difference(series: Set<WiFiDetail>): List<WiFiDetail> =
+            if (stamp(series) == cache.size) {
+                listOf()
+            } else {
+                cache.mapNotNull { if (it.value.generation == generation) null else it.key }
+            }
 
     fun remove(series: List<WiFiDetail>): List<BaseSeries<GraphDataPoint>> =
-            series.filter { cache.containsKey(it) }.mapNotNull { cache.remove(it) }
+            series.mapNotNull { wiFiDetail ->
+                cache.remove(wiFiDetail)?.series?.also { owners.remove(it) }
+            }
 
-    fun find(series: Series<*>): WiFiDetail = cache.keys.first { series == cache[it] }
+    fun find(series: Series<*>): WiFiDetail = owners.getValue(series)
 
     operator fun contains(wiFiDetail: WiFiDetail): Boolean = cache.containsKey(wiFiDetail)
 
-    operator fun get(wiFiDetail: WiFiDetail): BaseSeries<GraphDataPoint> = cache[wiFiDetail]!!
+    operator fun get(wiFiDetail: WiFiDetail): BaseSeries<GraphDataPoint> = cache[wiFiDetail]!!.series
+
+    fun put(wiFiDetail: WiFiDetail, series: BaseSeries<GraphDataPoint>): BaseSeries<GraphDataPoint>? {
+        owners[series] = wiFiDetail
+        return cache.put(wiFiDetail, Entry(series, generation))?.series?.also {
+            if (it !== series) {
+                owners.remove(it)
+            }
+        }
+    }
 
-    fun put(wiFiDetail: WiFiDetail, series: BaseSeries<GraphDataPoint>) =
-            cache.put(wiFiDetail, series)
+    private fun stamp(series: Set<WiFiDetail>): Int {
+        generation++
+        var count = 0
+        series.forEach { wiFiDetail ->
+            cache[wiFiDetail]?.let {
+                it.generation = generation
+                count++
+            }
+        }
+        return count
+    }
 
 }
@@ -0,0 +1,83 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.manager
+
+import android.annotation.TargetApi
+import android.content.BroadcastReceiver
+import android.content.Context
+import android.content.Intent
+import android.content.IntentFilter
+import android.net.wifi.WifiManager
+import android.os.Build
+import android.os.Handler
+import com.vrem.annotation.OpenClass
+import com.vrem.util.buildMinVersionR
+
+internal class ScanResultsReceiver(private val listener: () -> Unit) : BroadcastReceiver() {
+    override fun onReceive(context: Context, intent: Intent) {
+        if (intent.getBooleanExtra(WifiManager.EXTRA_RESULTS_UPDATED, true)) {
+            listener()
+        }
+    }
+}
+
+@OpenClass
+class ScanResultsSubscription(private val wifiManager: WifiManager) {
+    private var receiver: BroadcastReceiver? = null
+    private var callback: Any? = null
+
+    fun subscribe(context: Context, handler: Handler, listener: () -> Unit) {
+        unsubscribe(context)
+        if (minVersionR()) {
+            subscribeAndroidR(handler, listener)
+        } else {
+            subscribeLegacy(context, handler, listener)
+        }
+    }
+
+    fun unsubscribe(context: Context) {
+        receiver?.let { context.unregisterReceiver(it) }
+        receiver = null
+        callback?.let { unsubscribeAndroidR(it) }
+        callback = null
+    }
+
+    fun subscribed(): Boolean = receiver != null || callback != null
+
+    fun minVersionR(): Boolean = buildMinVersionR()
+
+    @TargetApi(Build.VERSION_CODES.R)
+    private fun subscribeAndroidR(handler: Handler, listener: () -> Unit) {
+        val scanResultsCallback = object : WifiManager.ScanResultsCallback() {
+            override fun onScanResultsAvailable() = listener()
+        }
+        wifiManager.registerScanResultsCallback({ handler.post(it) }, scanResultsCallback)
+        callback = scanResultsCallback
+    }
+
+    @TargetApi(Build.VERSION_CODES.R)
+    private fun unsubscribeAndroidR(callback: Any) =
+            wifiManager.unregisterScanResultsCallback(callback as WifiManager.ScanResultsCallback)
+
+    private fun subscribeLegacy(context: Context, handler: Handler, listener: () -> Unit) {
+        val scanResultsReceiver = ScanResultsReceiver(listener)
+        context.registerReceiver(scanResultsReceiver, IntentFilter(WifiManager.SCAN_RESULTS_AVAILABLE_ACTION), null, handler)
+        receiver = scanResultsReceiver
+    }
+
+}
@@ -17,15 +17,19 @@
  */
 package com.vrem.wifianalyzer.wifi.manager
 
+import android.content.Context
 import android.net.wifi.ScanResult
 import android.net.wifi.WifiInfo
 import android.net.wifi.WifiManager
+import android.os.Handler
 import com.vrem.annotation.OpenClass
 import com.vrem.util.buildMinVersionL
 import com.vrem.util.buildMinVersionR
 
 @OpenClass
-class WiFiManagerWrapper(private val wifiManager: WifiManager, private val wiFiSwitch: WiFiSwitch = WiFiSwitch(wifiManager)) {
+class WiFiManagerWrapper(private val wifiManager: WifiManager,
+                         private val wiFiSwitch: WiFiSwitch = WiFiSwitch(wifiManager),
+                         private val scanResultsSubscription: ScanResultsSubscription = ScanResultsSubscription(wifiManager)) {
     fun wiFiEnabled(): Boolean =
             try {
                 wifiManager.isWifiEnabled
@@ -62,6 +66,22 @@ class WiFiManagerWrapper(private val wifiManager: WifiManager, private val wiFiS
                 listOf()
             }
 
+    fun subscribeScanResults(context: Context, handler: Handler, listener: () -> Unit): Boolean =
+            try {
+                scanResultsSubscription.subscribe(context, handler, listener)
+                true
+            } catch (e: Exception) {
+                false
+            }
+
+    fun unsubscribeScanResults(context: Context) {
+        try {
+            scanResultsSubscription.unsubscribe(context)
+        } catch (e: Exception) {
+            // critical error: do not die
+        }
+    }
+
     fun wiFiInfo(): WifiInfo? =
             try {
                 wifiManager.connectionInfo
@@ -84,6 +104,17 @@ class WiFiManagerWrapper(private val wifiManager: WifiManager, private val wiFiS
                 false
             }
 
+    fun scanThrottleEnabled(): Boolean =
+            if (minVersionR()) {
+                try {
+                    wifiManager.isScanThrottleEnabled
+                } catch (e: Exception) {
+                    true
+                }
+            } else {
+                true
+            }
+
     fun minVersionL(): Boolean = buildMinVersionL()
 
     fun minVersionR(): Boolean = buildMinVersionR()
@@ -0,0 +1,73 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.model
+
+import androidx.annotation.ColorRes
+import androidx.annotation.DrawableRes
+import androidx.annotation.StringRes
+import com.vrem.wifianalyzer.R
+
+@get:DrawableRes
+val Security.imageResource: Int
+    get() = when (this) {
+        Security.NONE -> R.drawable.ic_lock_open
+        Security.WPS, Security.WEP -> R.drawable.ic_lock_outline
+        Security.WPA, Security.WPA2, Security.WPA3 -> R.drawable.ic_lock
+    }
+
+@get:DrawableRes
+val Strength.imageResource: Int
+    get() = when (this) {
+        Strength.ZERO -> R.drawable.ic_signal_wifi_0_bar
+        Strength.ONE -> R.drawable.ic_signal_wifi_1_bar
+        Strength.TWO -> R.drawable.ic_signal_wifi_2_bar
+        Strength.THREE -> R.drawable.ic_signal_wifi_3_bar
+        Strength.FOUR -> R.drawable.ic_signal_wifi_4_bar
+    }
+
+@get:ColorRes
+val Strength.colorResource: Int
+    get() = when (this) {
+        Strength.ZERO -> R.color.error
+        Strength.ONE, Strength.TWO -> R.color.warning
+        Strength.THREE, Strength.FOUR -> R.color.success
+    }
+
+@get:ColorRes
+val Strength.Companion.colorResourceDefault: Int
+    get() = R.color.regular
+
+@get:StringRes
+val WiFiStandard.nameResource: Int
+    get() = when (this) {
+        WiFiStandard.UNKNOWN -> R.string.wifi_standard_unknown
+        WiFiStandard.LEGACY -> R.string.wifi_standard_legacy
+        WiFiStandard.N -> R.string.wifi_standard_n
+        WiFiStandard.AC -> R.string.wifi_standard_ac
+        WiFiStandard.AX -> R.string.wifi_standard_ax
+    }
+
+@get:DrawableRes
+val WiFiStandard.imageResource: Int
+    get() = when (this) {
+        WiFiStandard.UNKNOWN -> R.drawable.ic_wifi_unknown
+        WiFiStandard.LEGACY -> R.drawable.ic_wifi_legacy
+        WiFiStandard.N -> R.drawable.ic_wifi_4
+        WiFiStandard.AC -> R.drawable.ic_wifi_5
+        WiFiStandard.AX -> R.drawable.ic_wifi_6
+    }
@@ -0,0 +1,120 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanlog
+
+import com.vrem.annotation.OpenClass
+import com.vrem.wifianalyzer.settings.Settings
+import java.io.File
+import java.io.FileOutputStream
+import java.io.IOException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+internal const val SCAN_LOG_DIRECTORY = "scanlog"
+internal const val SCAN_LOG_EXTENSION = ".scanlog"
+internal const val FLUSH_SCANS = 12
+internal const val FLUSH_INTERVAL = 60_000L
+
+@OpenClass
+internal class ScanLog(private val settings: Settings,
+                       private val directory: File,
+                       private val newExecutor: () -> ExecutorService = { Executors.newSingleThreadExecutor() }) {
+    private var session: ScanLogSession? = null
+    private var opened: Long = 0
+
+    @Synchronized
+    fun record(scanRecord: ScanRecord) {
+        if (settings.scanLog() || settings.backgroundLog()) {
+            (session ?: open()).record(scanRecord)
+        } else {
+            close()
+        }
+    }
+
+    @Synchronized
+    fun close() {
+        session?.close()
+        session = null
+    }
+
+    fun files(): List<File> = scanLogFiles(directory)
+
+    private fun open(): ScanLogSession {
+        opened = maxOf(System.currentTimeMillis(), opened + 1)
+        return ScanLogSession(directory, opened, newExecutor()).also { session = it }
+    }
+
+}
+
+private class ScanLogSession(private val directory: File, timestamp: Long, private val executor: ExecutorService) {
+    private var scanLogWriter: ScanLogWriter? = null
+    private var flushed: Long = timestamp
+    private var pending: Int = 0
+
+    init {
+        executor.execute { openWriter(timestamp) }
+    }
+
+    fun record(scanRecord: ScanRecord): Unit = executor.execute { write(scanRecord) }
+
+    fun close() {
+        executor.execute { closeWriter() }
+        executor.shutdown()
+    }
+
+    private fun openWriter(timestamp: Long) {
+        try {
+            directory.mkdirs()
+            val file = File(directory, "$timestamp$SCAN_LOG_EXTENSION")
+            scanLogWriter = ScanLogWriter(FileOutputStream(file).channel)
+        } catch (e: IOException) {
+            scanLogWriter = null
+        }
+    }
+
+    private fun write(scanRecord: ScanRecord) {
+        scanLogWriter?.let {
+            try {
+                it.write(scanRecord)
+                pending++
+                if (pending >= FLUSH_SCANS || scanRecord.timestamp - flushed >= FLUSH_INTERVAL) {
+                    it.sync()
+                    flushed = scanRecord.timestamp
+                    pending = 0
+                }
+            } catch (e: IOException) {
+                closeWriter()
+            }
+        }
+    }
+
+    private fun closeWriter() {
+        try {
+            scanLogWriter?.close()
+        } catch (e: IOException) {
+            // do nothing
+        }
+        scanLogWriter = null
+    }
+
+}
+
+internal fun scanLogFiles(directory: File): List<File> =
+        directory.listFiles { file -> file.name.endsWith(SCAN_LOG_EXTENSION) }
+                ?.sortedBy { it.name }
+                ?: listOf()
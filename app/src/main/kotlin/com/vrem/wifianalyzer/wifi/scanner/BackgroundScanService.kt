@@ -0,0 +1,105 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import android.app.*
+import android.content.Context
+import android.content.Intent
+import android.os.IBinder
+import android.os.PowerManager
+import androidx.core.app.NotificationCompat
+import androidx.core.content.ContextCompat
+import com.vrem.util.buildMinVersionO
+import com.vrem.wifianalyzer.MainActivity
+import com.vrem.wifianalyzer.MainContext
+import com.vrem.wifianalyzer.R
+
+class BackgroundScanService : Service() {
+    private var wakeLock: PowerManager.WakeLock? = null
+
+    override fun onBind(intent: Intent?): IBinder? = null
+
+    override fun onStartCommand(intent: Intent?, flags: Int, startId: Int): Int {
+        if (ACTION_STOP == intent?.action) {
+            val scannerService: ScannerService = MainContext.INSTANCE.scannerService
+            scannerService.pause()
+            scannerService.stop()
+            stopSelf()
+            return START_NOT_STICKY
+        }
+        startForeground(NOTIFICATION_ID, notification())
+        acquireWakeLock()
+        MainContext.INSTANCE.scannerService.resume()
+        return START_NOT_STICKY
+    }
+
+    override fun onDestroy() {
+        wakeLock?.let {
+            if (it.isHeld) {
+                it.release()
+            }
+        }
+        wakeLock = null
+        super.onDestroy()
+    }
+
+    private fun acquireWakeLock() {
+        if (wakeLock == null) {
+            val powerManager = getSystemService(Context.POWER_SERVICE) as PowerManager
+            wakeLock = powerManager.newWakeLock(PowerManager.PARTIAL_WAKE_LOCK, WAKE_LOCK_TAG).apply {
+                setReferenceCounted(false)
+                acquire()
+            }
+        }
+    }
+
+    private fun notification(): Notification {
+        if (buildMinVersionO()) {
+            val notificationManager = getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager
+            val notificationChannel = NotificationChannel(CHANNEL_ID, getString(R.string.background_log_title), NotificationManager.IMPORTANCE_LOW)
+            notificationManager.createNotificationChannel(notificationChannel)
+        }
+        val open = PendingIntent.getActivity(this, 0,
+                Intent(this, MainActivity::class.java), PendingIntent.FLAG_UPDATE_CURRENT)
+        val stop = PendingIntent.getService(this, 0,
+                Intent(this, BackgroundScanService::class.java).setAction(ACTION_STOP), PendingIntent.FLAG_UPDATE_CURRENT)
+        return NotificationCompat.Builder(this, CHANNEL_ID)
+                .setSmallIcon(R.drawable.ic_network_wifi)
+                .setContentTitle(getString(R.string.app_name))
+                .setContentText(getString(R.string.background_log_notification))
+                .setContentIntent(open)
+                .addAction(0, getString(R.string.background_log_stop), stop)
+                .setOngoing(true)
+                .build()
+    }
+
+    companion object {
+        internal const val ACTION_STOP = "com.vrem.wifianalyzer.action.STOP_BACKGROUND_SCAN"
+        private const val CHANNEL_ID = "background_scan"
+        private const val NOTIFICATION_ID = 1
+        private const val WAKE_LOCK_TAG = "WiFiAnalyzer:BackgroundScan"
+
+        fun start(context: Context): Unit =
+                ContextCompat.startForegroundService(context, Intent(context, BackgroundScanService::class.java))
+
+        fun stop(context: Context) {
+            context.stopService(Intent(context, BackgroundScanService::class.java))
+        }
+    }
+
+}
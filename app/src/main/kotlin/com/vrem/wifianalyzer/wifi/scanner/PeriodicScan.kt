@@ -22,7 +22,11 @@ import com.vrem.annotation.OpenClass
 import com.vrem.wifianalyzer.settings.Settings
 
 @OpenClass
-internal class PeriodicScan(private val scanner: ScannerService, private val handler: Handler, private val settings: Settings) : Runnable {
+internal class PeriodicScan(private val scanner: Scanner,
+                            private val handler: Handler,
+                            private val settings: Settings,
+                            private val scanBudget: ScanBudget) : Runnable {
+    @Volatile
     internal var running = false
 
     fun stop() {
@@ -41,10 +45,13 @@ internal class PeriodicScan(private val scanner: ScannerService, private val han
     }
 
     override fun run() {
-        scanner.update()
-        nextRun(settings.scanSpeed() * DELAY_INTERVAL)
+        scanner.refresh()
+        nextRun(delay(System.currentTimeMillis()))
     }
 
+    internal fun delay(now: Long): Long =
+            maxOf(settings.scanSpeed() * DELAY_INTERVAL, scanBudget.pace(), scanBudget.delay(now))
+
     companion object {
         private const val DELAY_INITIAL = 1L
         private const val DELAY_INTERVAL = 1000L
@@ -0,0 +1,83 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import android.net.wifi.ScanResult
+import android.net.wifi.WifiInfo
+import com.vrem.annotation.OpenClass
+import com.vrem.util.EMPTY
+import com.vrem.util.buildMinVersionM
+import com.vrem.util.buildMinVersionR
+import com.vrem.wifianalyzer.wifi.model.ChannelWidth
+import com.vrem.wifianalyzer.wifi.model.WiFiStandard
+import com.vrem.wifianalyzer.wifi.model.WiFiStandardId
+import com.vrem.wifianalyzer.wifi.model.WiFiWidth
+import com.vrem.wifianalyzer.wifi.scanlog.ConnectionRecord
+import com.vrem.wifianalyzer.wifi.scanlog.ScanRecord
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
+
+@OpenClass
+internal class RecordTransformer {
+
+    fun scanRecord(timestamp: Long, scanResults: List<ScanResult>, wifiInfo: WifiInfo?): ScanRecord =
+            ScanRecord(timestamp, scanResults.map { scanResultRecord(it) }, connectionRecord(wifiInfo))
+
+    fun scanResultRecord(scanResult: ScanResult): ScanResultRecord =
+            ScanResultRecord(
+                    scanResult.SSID ?: String.EMPTY,
+                    scanResult.BSSID ?: String.EMPTY,
+                    scanResult.capabilities ?: String.EMPTY,
+                    scanResult.frequency,
+                    if (minVersionM()) scanResult.centerFreq0 else 0,
+                    channelWidth(scanResult),
+                    wiFiStandard(scanResult),
+                    mc80211(scanResult),
+                    scanResult.level)
+
+    fun connectionRecord(wifiInfo: WifiInfo?): ConnectionRecord? =
+            if (wifiInfo == null || wifiInfo.networkId == -1) {
+                null
+            } else {
+                ConnectionRecord(
+                        wifiInfo.ssid ?: String.EMPTY,
+                        wifiInfo.bssid ?: String.EMPTY,
+                        wifiInfo.ipAddress,
+                        wifiInfo.linkSpeed)
+            }
+
+    fun channelWidth(scanResult: ScanResult): ChannelWidth =
+            if (minVersionM()) {
+                scanResult.channelWidth
+            } else {
+                WiFiWidth.MHZ_20.channelWidth
+            }
+
+    fun wiFiStandard(scanResult: ScanResult): WiFiStandardId =
+            if (minVersionR()) {
+                scanResult.wifiStandard
+            } else {
+                WiFiStandard.UNKNOWN.wiFiStandardId
+            }
+
+    fun mc80211(scanResult: ScanResult): Boolean = minVersionM() && scanResult.is80211mcResponder
+
+    fun minVersionM(): Boolean = buildMinVersionM()
+
+    fun minVersionR(): Boolean = buildMinVersionR()
+
+}
@@ -0,0 +1,102 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import android.os.Handler
+import com.vrem.wifianalyzer.wifi.scanlog.ScanLogReader
+import com.vrem.wifianalyzer.wifi.scanlog.ScanRecord
+
+const val REPLAY_SPEED_MAXIMUM = 0.0
+
+internal class ReplayScanner(private val scanLogReader: ScanLogReader,
+                             private val speed: Double,
+                             private val cache: Cache,
+                             private val transformer: Transformer) : UpdatePublisher() {
+    private val replayTask: Runnable = Runnable { replay() }
+    private val updateTask: Runnable = Runnable { publish() }
+    private val scanStatistics: ScanStatistics = ScanStatistics()
+    private var next: ScanRecord? = null
+    private var started: Boolean = false
+    lateinit var scanHandler: Handler
+
+    @Volatile
+    private var running: Boolean = false
+
+    override fun update() {
+        scanHandler.removeCallbacks(updateTask)
+        scanHandler.post(updateTask)
+    }
+
+    internal fun replay() {
+        if (!started) {
+            next = scanLogReader.read()
+            started = true
+        }
+        next?.let { scanRecord ->
+            cache.add(scanRecord.scanResults, scanRecord.connection)
+            val now: Long = System.currentTimeMillis()
+            scanStatistics.start(now)
+            scanStatistics.deliver(now)
+            publish()
+            next = scanLogReader.read()
+            next?.let { scanHandler.postDelayed(replayTask, delay(scanRecord, it)) }
+        }
+        if (next == null) {
+            running = false
+        }
+    }
+
+    override fun pause() {
+        scanHandler.removeCallbacks(replayTask)
+        running = false
+    }
+
+    override fun running(): Boolean = running
+
+    override fun resume() {
+        scanHandler.removeCallbacks(replayTask)
+        scanHandler.post(replayTask)
+        running = true
+    }
+
+    override fun stop() {
+        pause()
+        scanHandler.post { scanLogReader.close() }
+    }
+
+    override fun toggle(): Unit =
+            if (running) {
+                pause()
+            } else {
+                resume()
+            }
+
+    override fun scanStatistics(): ScanStatistics = scanStatistics
+
+    internal fun delay(scanRecord: ScanRecord, next: ScanRecord): Long =
+            if (speed <= REPLAY_SPEED_MAXIMUM) {
+                0
+            } else {
+                ((next.timestamp - scanRecord.timestamp) / speed).toLong().coerceAtLeast(0)
+            }
+
+    private fun publish() {
+        publish(transformer.transformToWiFiData(cache.scanResults(), cache.connection()))
+    }
+
+}
@@ -17,40 +17,86 @@
  */
 package com.vrem.wifianalyzer.wifi.scanner
 
-import android.net.wifi.ScanResult
-import android.net.wifi.WifiInfo
+import android.content.Context
+import android.os.Handler
+import com.vrem.annotation.OpenClass
 import com.vrem.wifianalyzer.settings.Settings
 import com.vrem.wifianalyzer.wifi.manager.WiFiManagerWrapper
 import com.vrem.wifianalyzer.wifi.model.WiFiData
+import com.vrem.wifianalyzer.wifi.predicate.makeAccessPointsPredicate
+import com.vrem.wifianalyzer.wifi.scanlog.ScanLog
+import com.vrem.wifianalyzer.wifi.scanlog.ScanRecord
 
+@OpenClass
 internal class Scanner(private val wiFiManagerWrapper: WiFiManagerWrapper,
                        private val settings: Settings,
-                       private val cache: Cache = Cache(),
-                       private val transformer: Transformer = Transformer()) : ScannerService {
-    private val updateNotifiers: MutableList<UpdateNotifier> = mutableListOf()
-    private var wiFiData: WiFiData = WiFiData.EMPTY
+                       private val cache: Cache,
+                       private val transformer: Transformer,
+                       private val recordTransformer: RecordTransformer = RecordTransformer(),
+                       private val scanBudget: ScanBudget = ScanBudget({ false }),
+                       private val scanStatistics: ScanStatistics = ScanStatistics()) : UpdatePublisher() {
+    private val scanTask: Runnable = Runnable { scan() }
+    private val scanResultsTask: Runnable = Runnable { scanResultsAvailable() }
     lateinit var periodicScan: PeriodicScan
+    lateinit var scanHandler: Handler
+    lateinit var scanLog: ScanLog
+    lateinit var context: Context
+
+    @Volatile
+    private var subscribed: Boolean = false
+    private var primed: Boolean = false
 
     override fun update() {
+        scanHandler.removeCallbacks(scanTask)
+        scanHandler.post(scanTask)
+    }
+
+    internal fun scan() {
         wiFiManagerWrapper.enableWiFi()
-        scanResults()
-        wiFiData = transformer.transformToWiFiData(cache.scanResults(), cache.wifiInfo())
-        updateNotifiers.forEach { it.update(wiFiData) }
+        if (startScan() && !subscribed) {
+            scanResults()
+        }
+        publish()
     }
 
-    override fun wiFiData(): WiFiData = wiFiData
+    internal fun refresh(): Boolean {
+        wiFiManagerWrapper.enableWiFi()
+        if (!startScan()) {
+            return false
+        }
+        if (!subscribed) {
+            scanResults()
+            publish()
+        }
+        return true
+    }
 
-    override fun register(updateNotifier: UpdateNotifier): Boolean = updateNotifiers.add(updateNotifier)
+    internal fun scanResultsAvailable() {
+        scanResults()
+        publish()
+    }
 
-    override fun unregister(updateNotifier: UpdateNotifier): Boolean = updateNotifiers.remove(updateNotifier)
+    override fun scanStatistics(): ScanStatistics = scanStatistics
 
-    override fun pause(): Unit = periodicScan.stop()
+    override fun pause() {
+        periodicScan.stop()
+        unsubscribe()
+    }
 
     override fun running(): Boolean = periodicScan.running
 
-    override fun resume(): Unit = periodicScan.start()
+    override fun resume() {
+        subscribed = wiFiManagerWrapper.subscribeScanResults(context, scanHandler) { scanResultsAvailable() }
+        if (subscribed && !primed) {
+            primed = true
+            scanHandler.post(scanResultsTask)
+        }
+        periodicScan.start()
+    }
 
     override fun stop() {
+        unsubscribe()
+        scanLog.close()
         if (settings.wiFiOffOnExit()) {
             wiFiManagerWrapper.disableWiFi()
         }
@@ -58,20 +104,48 @@ internal class Scanner(private val wiFiManagerWrapper: WiFiManagerWrapper,
 
     override fun toggle(): Unit =
             if (periodicScan.running) {
-                periodicScan.stop()
+                pause()
             } else {
-                periodicScan.start()
+                resume()
             }
 
-    fun registered(): Int = updateNotifiers.size
+    private fun unsubscribe() {
+        if (subscribed) {
+            subscribed = false
+            scanHandler.removeCallbacks(scanResultsTask)
+            wiFiManagerWrapper.unsubscribeScanResults(context)
+        }
+    }
+
+    private fun publish() {
+        val wiFiData: WiFiData = transformer.transformToWiFiData(cache.scanResults(), cache.connection())
+        wiFiData.wiFiDetails(makeAccessPointsPredicate(settings), settings.sortBy(), settings.groupBy())
+        publish(wiFiData)
+    }
+
+    private fun startScan(): Boolean {
+        val now: Long = System.currentTimeMillis()
+        if (!scanBudget.acquire(now)) {
+            scanStatistics.skip()
+            return false
+        }
+        if (wiFiManagerWrapper.startScan()) {
+            scanStatistics.start(now)
+            return true
+        }
+        scanBudget.refused(now)
+        scanStatistics.refuse()
+        return false
+    }
 
     private fun scanResults() {
         try {
-            if (wiFiManagerWrapper.startScan()) {
-                val scanResults: List<ScanResult> = wiFiManagerWrapper.scanResults()
-                val wifiInfo: WifiInfo? = wiFiManagerWrapper.wiFiInfo()
-                cache.add(scanResults, wifiInfo)
-            }
+            val now: Long = System.currentTimeMillis()
+            val scanRecord: ScanRecord = recordTransformer.scanRecord(
+                    now, wiFiManagerWrapper.scanResults(), wiFiManagerWrapper.wiFiInfo())
+            cache.add(scanRecord.scanResults, scanRecord.connection)
+            scanLog.record(scanRecord)
+            scanStatistics.deliver(now)
         } catch (e: Exception) {
             // critical error: do not die
         }
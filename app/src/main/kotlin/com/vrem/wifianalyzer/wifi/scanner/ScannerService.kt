@@ -17,10 +17,16 @@
  */
 package com.vrem.wifianalyzer.wifi.scanner
 
+import android.content.Context
 import android.os.Handler
+import com.vrem.util.buildMinVersionP
+import com.vrem.wifianalyzer.MainContext
 import com.vrem.wifianalyzer.settings.Settings
 import com.vrem.wifianalyzer.wifi.manager.WiFiManagerWrapper
 import com.vrem.wifianalyzer.wifi.model.WiFiData
+import com.vrem.wifianalyzer.wifi.scanlog.ScanLog
+import com.vrem.wifianalyzer.wifi.scanlog.ScanLogReader
+import java.io.File
 
 interface UpdateNotifier {
     fun update(wiFiData: WiFiData)
@@ -36,11 +42,32 @@ interface ScannerService {
     fun resume()
     fun stop()
     fun toggle()
+    fun pauseUpdates()
+    fun resumeUpdates()
+    fun scanStatistics(): ScanStatistics
 }
 
-fun makeScannerService(wiFiManagerWrapper: WiFiManagerWrapper, handler: Handler, settings: Settings): ScannerService {
-    val scanner = Scanner(wiFiManagerWrapper, settings)
-    scanner.periodicScan = PeriodicScan(scanner, handler, settings)
+fun makeScannerService(context: Context, wiFiManagerWrapper: WiFiManagerWrapper, scanHandler: Handler, mainHandler: Handler, settings: Settings, scanLogDirectory: File): ScannerService {
+    val scanBudget = ScanBudget({ buildMinVersionP() && !settings.wiFiThrottleDisabled() && wiFiManagerWrapper.scanThrottleEnabled() })
+    val scanner = Scanner(wiFiManagerWrapper, settings, makeCache(), makeTransformer(), scanBudget = scanBudget)
+    scanner.context = context
+    scanner.scanHandler = scanHandler
+    scanner.mainHandler = mainHandler
+    scanner.scanLog = ScanLog(settings, scanLogDirectory)
+    scanner.periodicScan = PeriodicScan(scanner, scanHandler, settings, scanBudget)
     scanner.resume()
     return scanner
 }
+
+fun makeReplayScannerService(scanLogFile: File, scanHandler: Handler, mainHandler: Handler, speed: Double): ScannerService {
+    val replayScanner = ReplayScanner(ScanLogReader(scanLogFile.inputStream()), speed, makeCache(), makeTransformer())
+    replayScanner.scanHandler = scanHandler
+    replayScanner.mainHandler = mainHandler
+    replayScanner.resume()
+    return replayScanner
+}
+
+private fun makeCache(): Cache =
+        Cache({ MainContext.INSTANCE.configuration.sizeAvailable }, { MainContext.INSTANCE.settings.scanSpeed() })
+
+private fun makeTransformer(): Transformer = Transformer(MainContext.INSTANCE.vendorService)
@@ -0,0 +1,70 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import android.os.Handler
+import com.vrem.wifianalyzer.wifi.model.WiFiData
+import java.util.concurrent.atomic.AtomicReference
+
+internal abstract class UpdatePublisher : ScannerService {
+    private val updateNotifiers: MutableList<UpdateNotifier> = mutableListOf()
+    private val pendingWiFiData: AtomicReference<WiFiData?> = AtomicReference()
+    private val notifyTask: Runnable = Runnable { notifyUpdate() }
+
+    @Volatile
+    private var wiFiData: WiFiData = WiFiData.EMPTY
+
+    @Volatile
+    private var updating: Boolean = true
+    lateinit var mainHandler: Handler
+
+    internal fun notifyUpdate() {
+        pendingWiFiData.getAndSet(null)?.let { wiFiData ->
+            if (updating) {
+                updateNotifiers.forEach { it.update(wiFiData) }
+            }
+        }
+    }
+
+    override fun wiFiData(): WiFiData = wiFiData
+
+    override fun register(updateNotifier: UpdateNotifier): Boolean = updateNotifiers.add(updateNotifier)
+
+    override fun unregister(updateNotifier: UpdateNotifier): Boolean = updateNotifiers.remove(updateNotifier)
+
+    fun registered(): Int = updateNotifiers.size
+
+    override fun pauseUpdates() {
+        updating = false
+    }
+
+    override fun resumeUpdates() {
+        if (!updating) {
+            updating = true
+            publish(wiFiData)
+        }
+    }
+
+    protected fun publish(wiFiData: WiFiData) {
+        this.wiFiData = wiFiData
+        if (updating && pendingWiFiData.getAndSet(wiFiData) == null) {
+            mainHandler.post(notifyTask)
+        }
+    }
+
+}
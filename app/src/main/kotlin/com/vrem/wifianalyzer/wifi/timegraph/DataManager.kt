@@ -17,20 +17,25 @@
  */
 package com.vrem.wifianalyzer.wifi.timegraph
 
-import com.jjoe64.graphview.series.LineGraphSeries
 import com.vrem.annotation.OpenClass
 import com.vrem.wifianalyzer.wifi.graphutils.*
 import com.vrem.wifianalyzer.wifi.model.WiFiDetail
 
 @OpenClass
-internal class DataManager(private val timeGraphCache: TimeGraphCache = TimeGraphCache()) {
+internal class DataManager(private val timeGraphCache: TimeGraphCache = TimeGraphCache(),
+                           private val timeSeriesStore: TimeSeriesStore = TimeSeriesStore()) {
     var scanCount: Int = 0
     var xValue = 0
 
     fun addSeriesData(graphViewWrapper: GraphViewWrapper, wiFiDetails: List<WiFiDetail>, levelMax: Int): Set<WiFiDetail> {
         val inOrder: Set<WiFiDetail> = wiFiDetails.toSet()
+        timeSeriesStore.advance(xValue.toLong())
+        val existing = timeSeriesStore.count()
         inOrder.forEach { addData(graphViewWrapper, it, levelMax) }
         adjustData(graphViewWrapper, inOrder)
+        if (existing > 0) {
+            graphViewWrapper.scrollToEnd()
+        }
         xValue++
         if (scanCount < MAX_SCAN_COUNT) {
             scanCount++
@@ -38,33 +43,33 @@ internal class DataManager(private val timeGraphCache: TimeGraphCache = TimeGrap
         if (scanCount == 2) {
             graphViewWrapper.setHorizontalLabelsVisible(true)
         }
-        return newSeries(inOrder)
+        val newSeries = newSeries(inOrder)
+        timeSeriesStore.retain(newSeries)
+        return newSeries
     }
 
     fun adjustData(graphViewWrapper: GraphViewWrapper, wiFiDetails: Set<WiFiDetail>) {
         graphViewWrapper.differenceSeries(wiFiDetails).forEach {
-            val dataPoint = GraphDataPoint(xValue, MIN_Y + MIN_Y_OFFSET)
-            val drawBackground = it.wiFiAdditional.wiFiConnection.connected
-            graphViewWrapper.appendToSeries(it, dataPoint, scanCount, drawBackground)
             timeGraphCache.add(it)
         }
         timeGraphCache.clear()
     }
 
-    fun newSeries(wiFiDetails: Set<WiFiDetail>): Set<WiFiDetail> = wiFiDetails.plus(timeGraphCache.active())
+    fun newSeries(wiFiDetails: Set<WiFiDetail>): Set<WiFiDetail> =
+            timeGraphCache.active().let { if (it.isEmpty()) wiFiDetails else wiFiDetails.plus(it) }
 
     fun addData(graphViewWrapper: GraphViewWrapper, wiFiDetail: WiFiDetail, levelMax: Int) {
         val drawBackground = wiFiDetail.wiFiAdditional.wiFiConnection.connected
         val level = wiFiDetail.wiFiSignal.level.coerceAtMost(levelMax)
+        val slot = timeSeriesStore.add(wiFiDetail)
         if (graphViewWrapper.newSeries(wiFiDetail)) {
-            val dataPoint = GraphDataPoint(xValue, (if (scanCount > 0) MIN_Y + MIN_Y_OFFSET else level))
-            val series = LineGraphSeries(arrayOf(dataPoint))
-            graphViewWrapper.addSeries(wiFiDetail, series, drawBackground)
+            timeSeriesStore.update(slot, if (scanCount > 0) NOT_SEEN_LEVEL else level)
+            graphViewWrapper.addSeries(wiFiDetail, TimeGraphSeries(timeSeriesStore, slot), drawBackground)
         } else {
-            val dataPoint = GraphDataPoint(xValue, level)
-            graphViewWrapper.appendToSeries(wiFiDetail, dataPoint, scanCount, drawBackground)
+            timeSeriesStore.update(slot, level)
+            graphViewWrapper.refreshSeries(wiFiDetail, drawBackground)
         }
         timeGraphCache.reset(wiFiDetail)
     }
 
-}
\ No newline at end of file
+}
@@ -22,28 +22,40 @@ import com.vrem.wifianalyzer.wifi.graphutils.MAX_NOT_SEEN_COUNT
 import com.vrem.wifianalyzer.wifi.model.WiFiDetail
 
 @OpenClass
-internal class TimeGraphCache {
-    private val notSeen: MutableMap<WiFiDetail, Int> = mutableMapOf()
-
-    fun active(): Set<WiFiDetail> =
-            notSeen.filterValues { it <= MAX_NOT_SEEN_COUNT }
-                    .keys
-                    .toSet()
-
-    fun clear() =
-            notSeen.filterValues { it > MAX_NOT_SEEN_COUNT }
-                    .keys
-                    .forEach { notSeen.remove(it) }
+internal class TimeGraphCache(private val notSeenWindow: Int = MAX_NOT_SEEN_COUNT) {
+    private val lastSeen: MutableMap<WiFiDetail, Int> = mutableMapOf()
+    private val expiry: MutableSet<WiFiDetail> = linkedSetOf()
+    private var scan: Int = 0
+
+    fun active(): Set<WiFiDetail> = expiry
+
+    fun clear() {
+        val iterator = expiry.iterator()
+        while (iterator.hasNext()) {
+            val wiFiDetail = iterator.next()
+            if (scan - lastSeen[wiFiDetail]!! <= notSeenWindow) {
+                break
+            }
+            iterator.remove()
+            lastSeen.remove(wiFiDetail)
+        }
+        scan++
+    }
 
     fun add(wiFiDetail: WiFiDetail) {
-        notSeen[wiFiDetail] = (notSeen[wiFiDetail] ?: 0) + 1
+        if (expiry.add(wiFiDetail)) {
+            lastSeen[wiFiDetail] = scan - 1
+        }
     }
 
     fun reset(wiFiDetail: WiFiDetail) {
-        if (notSeen[wiFiDetail] != null) notSeen[wiFiDetail] = 0
+        if (lastSeen.containsKey(wiFiDetail)) {
+            lastSeen[wiFiDetail] = scan
+            expiry.remove(wiFiDetail)
+        }
     }
 
     val wiFiDetails: Set<WiFiDetail>
-        get() = notSeen.keys
+        get() = lastSeen.keys
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.timegraph
+
+import com.jjoe64.graphview.series.LineGraphSeries
+import com.vrem.wifianalyzer.wifi.graphutils.GraphDataPoint
+import kotlin.math.ceil
+import kotlin.math.floor
+
+internal class TimeGraphSeries(private val timeSeriesStore: TimeSeriesStore, private val slot: Int) :
+        LineGraphSeries<GraphDataPoint>() {
+    private val values: Values = Values()
+
+    override fun getValues(from: Double, until: Double): Iterator<GraphDataPoint> {
+        val first = timeSeriesStore.first(slot)
+        val last = timeSeriesStore.last()
+        return if (isEmpty() || last < from) {
+            values.reset(first, first - 1)
+        } else {
+            values.reset(maxOf(first, ceil(from).toLong() - 1), minOf(last, floor(until).toLong() + 1))
+        }
+    }
+
+    override fun getLowestValueX(): Double = timeSeriesStore.first(slot).toDouble()
+
+    override fun getHighestValueX(): Double = timeSeriesStore.last().toDouble()
+
+    override fun getLowestValueY(): Double = timeSeriesStore.lowest(slot).toDouble()
+
+    override fun getHighestValueY(): Double = timeSeriesStore.highest(slot).toDouble()
+
+    override fun isEmpty(): Boolean = timeSeriesStore.size == 0
+
+    private inner class Values : Iterator<GraphDataPoint> {
+        private val dataPoint: TimeGraphDataPoint = TimeGraphDataPoint()
+        private var next: Long = 0
+        private var last: Long = -1
+
+        fun reset(first: Long, last: Long): Values {
+            this.next = first
+            this.last = last
+            return this
+        }
+
+        override fun hasNext(): Boolean = next <= last
+
+        override fun next(): GraphDataPoint {
+            if (!hasNext()) {
+                throw NoSuchElementException()
+            }
+            dataPoint.xValue = next.toDouble()
+            dataPoint.yValue = timeSeriesStore.level(slot, next).toDouble()
+            next++
+            return dataPoint
+        }
+    }
+
+    private class TimeGraphDataPoint : GraphDataPoint(0.0, 0.0) {
+        var xValue: Double = 0.0
+        var yValue: Double = 0.0
+
+        override fun getX(): Double = xValue
+
+        override fun getY(): Double = yValue
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.timegraph
+
+import com.vrem.annotation.OpenClass
+import com.vrem.wifianalyzer.wifi.graphutils.MAX_SCAN_COUNT
+import com.vrem.wifianalyzer.wifi.graphutils.MIN_Y
+import com.vrem.wifianalyzer.wifi.graphutils.MIN_Y_OFFSET
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+
+internal const val NOT_SEEN_LEVEL = MIN_Y + MIN_Y_OFFSET
+
+@OpenClass
+internal class TimeSeriesStore(private val capacity: Int = MAX_SCAN_COUNT + 1) {
+    private val timestamps: LongArray = LongArray(capacity)
+    private val levels: MutableList<ShortArray> = mutableListOf()
+    private val starts: MutableList<Long> = mutableListOf()
+    private val slots: MutableMap<WiFiDetail, Int> = mutableMapOf()
+    private val freeSlots: MutableList<Int> = mutableListOf()
+    private var head: Int = -1
+
+    var size: Int = 0
+        private set
+
+    fun count(): Int = slots.size
+
+    fun advance(timestamp: Long) {
+        head = (head + 1) % capacity
+        timestamps[head] = timestamp
+        size = (size + 1).coerceAtMost(capacity)
+        for (slot in levels.indices) {
+            levels[slot][head] = NOT_SEEN_LEVEL.toShort()
+        }
+    }
+
+    fun add(wiFiDetail: WiFiDetail): Int =
+            slots[wiFiDetail] ?: allocate().also {
+                starts[it] = last()
+                slots[wiFiDetail] = it
+            }
+
+    fun update(slot: Int, level: Int) {
+        levels[slot][head] = level.toShort()
+    }
+
+    fun level(slot: Int, timestamp: Long): Int = levels[slot][row(timestamp)].toInt()
+
+    fun retain(wiFiDetails: Set<WiFiDetail>) {
+        val iterator = slots.entries.iterator()
+        while (iterator.hasNext()) {
+            val entry = iterator.next()
+            if (!wiFiDetails.contains(entry.key)) {
+                freeSlots.add(entry.value)
+                iterator.remove()
+            }
+        }
+    }
+
+    fun first(slot: Int): Long = maxOf(starts[slot], timestamps[(head - size + 1 + capacity) % capacity])
+
+    fun last(): Long = if (size == 0) 0 else timestamps[head]
+
+    fun lowest(slot: Int): Int {
+        var result = Int.MAX_VALUE
+        for (timestamp in first(slot)..last()) {
+            result = minOf(result, level(slot, timestamp))
+        }
+        return result
+    }
+
+    fun highest(slot: Int): Int {
+        var result = Int.MIN_VALUE
+        for (timestamp in first(slot)..last()) {
+            result = maxOf(result, level(slot, timestamp))
+        }
+        return result
+    }
+
+    private fun row(timestamp: Long): Int = ((head - (last() - timestamp)).toInt() + capacity) % capacity
+
+    private fun allocate(): Int =
+            if (freeSlots.isEmpty()) {
+                levels.add(ShortArray(capacity) { NOT_SEEN_LEVEL.toShort() })
+                starts.add(0)
+                levels.size - 1
+            } else {
+                freeSlots.removeAt(freeSlots.size - 1)
+            }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.jjoe64.graphview.series
+
+import android.graphics.Canvas
+import android.graphics.Paint
+import android.graphics.Path
+import android.os.Build
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.jjoe64.graphview.GraphView
+import com.jjoe64.graphview.Viewport
+import com.nhaarman.mockitokotlin2.mock
+import com.nhaarman.mockitokotlin2.whenever
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.annotation.Config
+
+@RunWith(AndroidJUnit4::class)
+@Config(sdk = [Build.VERSION_CODES.Q])
+class TitleLineGraphSeriesTest {
+    private val graphView: GraphView = mock()
+    private val viewport: Viewport = mock()
+    private val canvas = RecordingCanvas()
+    private val fixture = TitleLineGraphSeries(arrayOf(
+            DataPoint(10.0, -100.0),
+            DataPoint(12.0, -50.0),
+            DataPoint(18.0, -50.0),
+            DataPoint(20.0, -100.0)))
+
+    @Before
+    fun setUp() {
+        whenever(graphView.viewport).thenReturn(viewport)
+        whenever(graphView.graphContentHeight).thenReturn(100)
+        whenever(graphView.graphContentWidth).thenReturn(100)
+        whenever(viewport.getMinY(false)).thenReturn(-100.0)
+        whenever(viewport.getMaxY(false)).thenReturn(0.0)
+    }
+
+    @Test
+    fun testDrawWithSingleDrawLines() {
+        // setup
+        withViewport(0.0, 30.0)
+        // execute
+        fixture.draw(graphView, canvas, false)
+        // validate
+        assertEquals(1, canvas.drawLines)
+        assertEquals(3, canvas.segments)
+    }
+
+    @Test
+    fun testDrawReusesLines() {
+        // setup
+        withViewport(0.0, 30.0)
+        fixture.draw(graphView, canvas, false)
+        // execute
+        fixture.draw(graphView, canvas, false)
+        // validate
+        assertEquals(2, canvas.drawLines)
+        assertEquals(6, canvas.segments)
+        assertSame(canvas.lines[0], canvas.lines[1])
+    }
+
+    @Test
+    fun testDrawAsPath() {
+        // setup
+        withViewport(0.0, 30.0)
+        fixture.isDrawAsPath = true
+        // execute
+        fixture.draw(graphView, canvas, false)
+        // validate
+        assertEquals(0, canvas.drawLines)
+        assertEquals(1, canvas.drawPath)
+    }
+
+    @Test
+    fun testDrawCullsSeriesBeforeViewport() {
+        // setup
+        withViewport(21.0, 30.0)
+        fixture.isDrawBackground = true
+        // execute
+        fixture.draw(graphView, canvas, false)
+        // validate
+        assertEquals(0, canvas.drawLines)
+        assertEquals(0, canvas.drawPath)
+        assertEquals(0, canvas.drawText)
+    }
+
+    @Test
+    fun testDrawCullsSeriesAfterViewport() {
+        // setup
+        withViewport(0.0, 9.0)
+        fixture.isDrawBackground = true
+        // execute
+        fixture.draw(graphView, canvas, false)
+        // validate
+        assertEquals(0, canvas.drawLines)
+        assertEquals(0, canvas.drawPath)
+        assertEquals(0, canvas.drawText)
+    }
+
+    private fun withViewport(minX: Double, maxX: Double) {
+        whenever(viewport.getMinX(false)).thenReturn(minX)
+        whenever(viewport.getMaxX(false)).thenReturn(maxX)
+    }
+
+    private class RecordingCanvas : Canvas() {
+        var drawLines = 0
+        var segments = 0
+        var drawPath = 0
+        var drawText = 0
+        val lines: MutableList<FloatArray> = mutableListOf()
+
+        override fun drawLines(pts: FloatArray, offset: Int, count: Int, paint: Paint) {
+            lines.add(pts)
+            drawLines++
+            segments += count / 4
+        }
+
+        override fun drawLines(pts: FloatArray, paint: Paint) {
+            drawLines(pts, 0, pts.size, paint)
+        }
+
+        override fun drawPath(path: Path, paint: Paint) {
+            drawPath++
+        }
+
+        override fun drawText(text: String, x: Float, y: Float, paint: Paint) {
+            drawText++
+        }
+    }
+
+}
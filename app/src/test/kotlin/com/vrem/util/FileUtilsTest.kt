@@ -24,11 +24,13 @@ import com.nhaarman.mockitokotlin2.verify
 import com.nhaarman.mockitokotlin2.verifyNoMoreInteractions
 import com.nhaarman.mockitokotlin2.whenever
 import org.junit.After
+import org.junit.Assert.assertArrayEquals
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertTrue
 import org.junit.Test
 import java.io.ByteArrayInputStream
 import java.io.InputStream
+import java.nio.ByteBuffer
 
 class FileUtilsTest {
 
@@ -64,4 +66,29 @@ class FileUtilsTest {
         assertTrue(actual.isEmpty())
         verify(resources).openRawResource(id)
     }
-}
\ No newline at end of file
+
+    @Test
+    fun testReadBuffer() {
+        // setup
+        val id = 11
+        val expected = byteArrayOf(1, 2, 3, 4)
+        whenever(resources.openRawResource(id)).thenReturn(ByteArrayInputStream(expected))
+        // execute
+        val actual: ByteBuffer = readBuffer(resources, id)
+        // validate
+        assertArrayEquals(expected, actual.array())
+        verify(resources).openRawResource(id)
+    }
+
+    @Test
+    fun testReadBufferHandleException() {
+        // setup
+        val id = 11
+        whenever(resources.openRawResource(id)).thenThrow(NotFoundException::class.java)
+        // execute
+        val actual: ByteBuffer = readBuffer(resources, id)
+        // validate
+        assertEquals(0, actual.limit())
+        verify(resources).openRawResource(id)
+    }
+}
@@ -23,19 +23,22 @@ import android.view.Menu
 import android.view.MenuItem
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.google.android.material.navigation.NavigationView
-import com.nhaarman.mockitokotlin2.mock
-import com.nhaarman.mockitokotlin2.verify
-import com.nhaarman.mockitokotlin2.whenever
+import com.nhaarman.mockitokotlin2.*
 import com.vrem.util.EMPTY
 import com.vrem.wifianalyzer.navigation.NavigationMenu
 import com.vrem.wifianalyzer.navigation.NavigationMenuController
 import com.vrem.wifianalyzer.navigation.options.OptionMenu
 import com.vrem.wifianalyzer.permission.PermissionService
+import com.vrem.wifianalyzer.settings.Repository
+import com.vrem.wifianalyzer.settings.Settings
+import com.vrem.wifianalyzer.settings.edit
+import com.vrem.wifianalyzer.wifi.scanner.BackgroundScanService
 import org.junit.After
 import org.junit.Assert.*
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
 import org.robolectric.annotation.Config
 
 @RunWith(AndroidJUnit4::class)
@@ -44,8 +47,11 @@ class MainActivityTest {
     private val sharedPreferences: SharedPreferences = mock()
     private val fixture = Robolectric.buildActivity(MainActivity::class.java).create().resume().get()
 
+    private var savedSettings: Settings? = null
+
     @After
     fun tearDown() {
+        savedSettings?.let { MainContext.INSTANCE.settings = it }
         MainContextHelper.INSTANCE.restore()
     }
 
@@ -64,6 +70,17 @@ class MainActivityTest {
         verify(scannerService).pause()
     }
 
+    @Test
+    fun testOnPauseWithBackgroundLogKeepsScanning() {
+        // setup
+        withBackgroundLog()
+        val scannerService = MainContextHelper.INSTANCE.scannerService
+        // execute
+        fixture.onPause()
+        // validate
+        verify(scannerService, never()).pause()
+    }
+
     @Test
     fun testOnResumeCallsOptionMenuResume() {
         // setup
@@ -76,6 +93,7 @@ class MainActivityTest {
         // validate
         verify(permissionService).permissionGranted()
         verify(scannerService).resume()
+        verify(scannerService).resumeUpdates()
     }
 
     @Test
@@ -134,9 +152,56 @@ class MainActivityTest {
         // execute
         fixture.onStop()
         // validate
+        verify(scanner).pauseUpdates()
         verify(scanner).stop()
     }
 
+    @Test
+    fun testOnStopWithBackgroundLogStartsBackgroundScan() {
+        // setup
+        withBackgroundLog()
+        val scanner = MainContextHelper.INSTANCE.scannerService
+        // execute
+        fixture.onStop()
+        // validate
+        val actual = shadowOf(fixture.application).nextStartedService
+        assertEquals(BackgroundScanService::class.java.name, actual.component?.className)
+        verify(scanner).pauseUpdates()
+        verify(scanner, never()).stop()
+    }
+
+    @Test
+    fun testRecreateWithBackgroundLogKeepsScanner() {
+        // setup
+        backgroundLogPreference(true)
+        val scannerService = MainContextHelper.INSTANCE.scannerService
+        val vendorService = MainContextHelper.INSTANCE.vendorService
+        val activityController = Robolectric.buildActivity(MainActivity::class.java).setup()
+        // execute
+        activityController.recreate()
+        // validate
+        assertSame(scannerService, MainContext.INSTANCE.scannerService)
+        assertSame(vendorService, MainContext.INSTANCE.vendorService)
+        verify(scannerService, never()).pause()
+        verify(scannerService, never()).stop()
+        backgroundLogPreference(false)
+    }
+
+    @Test
+    fun testRecreateWithoutBackgroundLogReplacesScanner() {
+        // setup
+        val scannerService = MainContextHelper.INSTANCE.scannerService
+        val vendorService = MainContextHelper.INSTANCE.vendorService
+        val activityController = Robolectric.buildActivity(MainActivity::class.java).setup()
+        // execute
+        activityController.recreate()
+        // validate
+        assertNotSame(scannerService, MainContext.INSTANCE.scannerService)
+        assertNotSame(vendorService, MainContext.INSTANCE.vendorService)
+        verify(scannerService).pause()
+        verify(scannerService).stop()
+    }
+
     @Test
     fun testUpdateShouldUpdateScanner() {
         // setup
@@ -220,4 +285,18 @@ class MainActivityTest {
         assertEquals(navigationView, actual)
         verify(navigationMenuController).navigationView
     }
-}
\ No newline at end of file
+
+    private fun backgroundLogPreference(value: Boolean) {
+        Repository(fixture).defaultSharedPreferences(fixture).edit {
+            putBoolean(fixture.getString(R.string.background_log_key), value)
+        }
+    }
+
+    private fun withBackgroundLog() {
+        val settings: Settings = MainContext.INSTANCE.settings
+        savedSettings = settings
+        MainContext.INSTANCE.settings = spy(settings)
+        doReturn(true).whenever(MainContext.INSTANCE.settings).backgroundLog()
+    }
+
+}
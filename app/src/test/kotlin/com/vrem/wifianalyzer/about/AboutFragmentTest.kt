@@ -22,13 +22,16 @@ import android.os.Build
 import android.view.View
 import android.widget.TextView
 import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.nhaarman.mockitokotlin2.any
 import com.nhaarman.mockitokotlin2.atLeastOnce
+import com.nhaarman.mockitokotlin2.mock
 import com.nhaarman.mockitokotlin2.verify
 import com.nhaarman.mockitokotlin2.whenever
 import com.vrem.util.readFile
 import com.vrem.wifianalyzer.MainContextHelper.INSTANCE
 import com.vrem.wifianalyzer.R
 import com.vrem.wifianalyzer.RobolectricUtil
+import com.vrem.wifianalyzer.wifi.scanner.ScanStatistics
 import org.junit.After
 import org.junit.Assert.*
 import org.junit.Before
@@ -45,12 +48,17 @@ import java.util.*
 class AboutFragmentTest {
     private val mainActivity = RobolectricUtil.INSTANCE.activity
     private val configuration = INSTANCE.configuration
+    private val scannerService = INSTANCE.scannerService
+    private val scanStatistics: ScanStatistics = mock()
     private val fixture = AboutFragment()
 
     @Before
     fun setUp() {
         whenever(configuration.sizeAvailable).thenReturn(true)
         whenever(configuration.largeScreen).thenReturn(true)
+        whenever(scannerService.scanStatistics()).thenReturn(scanStatistics)
+        whenever(scanStatistics.scansPerMinute(any())).thenReturn(3.0)
+        whenever(scanStatistics.averageLatency(any())).thenReturn(1234L)
         RobolectricUtil.INSTANCE.startFragment(fixture)
         RobolectricUtil.INSTANCE.clearLooper()
     }
@@ -60,6 +68,9 @@ class AboutFragmentTest {
         INSTANCE.restore()
         verify(configuration, atLeastOnce()).sizeAvailable
         verify(configuration).largeScreen
+        verify(scannerService).scanStatistics()
+        verify(scanStatistics).scansPerMinute(any())
+        verify(scanStatistics).averageLatency(any())
     }
 
     @Test
@@ -120,6 +131,17 @@ class AboutFragmentTest {
         assertEquals(expected, actual.text)
     }
 
+    @Test
+    fun testScanStatistics() {
+        // setup
+        val expected = fixture.getString(R.string.about_scan_statistics, 3.0, 1234L)
+        // execute
+        val actual = fixture.requireView().findViewById<TextView>(R.id.about_scan_statistics)
+        // validate
+        assertNotNull(actual)
+        assertEquals(expected, actual.text)
+    }
+
     @Test
     fun testWiFi() {
         assertEquals(View.VISIBLE, fixture.requireView().findViewById<TextView>(R.id.about_wifi_band_2ghz_success).visibility)
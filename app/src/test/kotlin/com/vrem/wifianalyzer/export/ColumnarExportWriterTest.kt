@@ -0,0 +1,79 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import com.vrem.wifianalyzer.wifi.model.*
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+
+class ColumnarExportWriterTest {
+    private val outputStream = ByteArrayOutputStream()
+    private val fixture = ColumnarExportWriter(outputStream)
+
+    @Test
+    fun testWrite() {
+        // setup
+        val count = COLUMNAR_BLOCK_ROWS + 10
+        // execute
+        fixture.use { exportWriter -> (0 until count).forEach { exportWriter.write(ExportRow(1000L + it, withWiFiDetail(it))) } }
+        // validate
+        val input = DataInputStream(ByteArrayInputStream(outputStream.toByteArray()))
+        assertEquals(COLUMNAR_MAGIC, input.readInt())
+        assertEquals(COLUMNAR_VERSION, input.readByte().toInt())
+        assertEquals(ExportColumn.values().size, input.readByte().toInt())
+        ExportColumn.values().forEach {
+            assertEquals(it.title, input.readUTF())
+            assertEquals(it.type.ordinal, input.readByte().toInt())
+        }
+        validateBlock(input, 0, COLUMNAR_BLOCK_ROWS)
+        validateBlock(input, COLUMNAR_BLOCK_ROWS, 10)
+        assertEquals(0, input.readInt())
+        assertEquals(-1, input.read())
+    }
+
+    private fun validateBlock(input: DataInputStream, first: Int, size: Int) {
+        assertEquals(size, input.readInt())
+        val rows = (first until first + size)
+        ExportColumn.values().forEach { exportColumn ->
+            rows.forEach {
+                val expected = ExportRow(1000L + it, withWiFiDetail(it))
+                when (exportColumn.type) {
+                    ExportColumnType.BOOLEAN -> assertEquals(expected.boolean(exportColumn), input.readBoolean())
+                    ExportColumnType.INT32 -> assertEquals(expected.int(exportColumn), input.readInt())
+                    ExportColumnType.INT64 -> assertEquals(expected.long(exportColumn), input.readLong())
+                    ExportColumnType.FLOAT64 -> assertEquals(expected.double(exportColumn), input.readDouble(), 0.0)
+                    ExportColumnType.STRING -> {
+                        val bytes = ByteArray(input.readInt())
+                        input.readFully(bytes)
+                        assertEquals(expected.string(exportColumn), String(bytes, Charsets.UTF_8))
+                    }
+                }
+            }
+        }
+    }
+
+    private fun withWiFiDetail(offset: Int): WiFiDetail =
+            WiFiDetail(
+                    WiFiIdentifier("SSID$offset", "BSSID$offset"),
+                    "capabilities$offset",
+                    WiFiSignal(2412 + offset % 50, 2422 + offset % 50, WiFiWidth.MHZ_40, -offset % 90, offset % 2 == 0))
+
+}
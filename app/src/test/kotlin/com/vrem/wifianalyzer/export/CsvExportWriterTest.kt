@@ -0,0 +1,71 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import com.vrem.wifianalyzer.wifi.model.*
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import java.io.ByteArrayOutputStream
+
+class CsvExportWriterTest {
+    private val outputStream = ByteArrayOutputStream()
+    private val fixture = CsvExportWriter(outputStream)
+
+    @Test
+    fun testWrite() {
+        // setup
+        val wiFiDetail = withWiFiDetail("SSID", "capabilities")
+        val distance = calculateDistance(2432, -10)
+        val expected = HEADER +
+                "1000,SSID,BSSID,-10,5,2432,7,2442,40,2422,2462,$distance,true,capabilities\r\n"
+        // execute
+        fixture.use { it.write(ExportRow(1000L, wiFiDetail)) }
+        // validate
+        assertEquals(expected, String(outputStream.toByteArray()))
+    }
+
+    @Test
+    fun testWriteQuotesFields() {
+        // setup
+        val wiFiDetail = withWiFiDetail("my \"home\", 2nd", "[WPA2]\r\n[ESS]")
+        // execute
+        fixture.use { it.write(ExportRow(1000L, wiFiDetail)) }
+        // validate
+        val actual = String(outputStream.toByteArray())
+        assertEquals(true, actual.contains(",\"my \"\"home\"\", 2nd\",BSSID,"))
+        assertEquals(true, actual.endsWith(",true,\"[WPA2]\r\n[ESS]\"\r\n"))
+    }
+
+    @Test
+    fun testHeaderOnly() {
+        // execute
+        fixture.close()
+        // validate
+        assertEquals(HEADER, String(outputStream.toByteArray()))
+    }
+
+    private fun withWiFiDetail(ssid: String, capabilities: String): WiFiDetail =
+            WiFiDetail(WiFiIdentifier(ssid, "BSSID"), capabilities, WiFiSignal(2432, 2442, WiFiWidth.MHZ_40, -10, true))
+
+    companion object {
+        private const val HEADER = "timestamp_ms,ssid,bssid,level_dbm,primary_channel,primary_frequency_mhz," +
+                "center_channel,center_frequency_mhz,width_mhz,frequency_start_mhz,frequency_end_mhz," +
+                "distance_m,mc80211,capabilities\r\n"
+    }
+
+}
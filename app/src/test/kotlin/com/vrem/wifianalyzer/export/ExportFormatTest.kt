@@ -0,0 +1,46 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class ExportFormatTest {
+
+    @Test
+    fun testExportFormat() {
+        assertEquals(4, ExportFormat.values().size)
+    }
+
+    @Test
+    fun testExtension() {
+        assertEquals(".txt", ExportFormat.TEXT.extension)
+        assertEquals(".csv", ExportFormat.CSV.extension)
+        assertEquals(".jsonl", ExportFormat.JSON_LINES.extension)
+        assertEquals(".wacol", ExportFormat.COLUMNAR.extension)
+    }
+
+    @Test
+    fun testMimeType() {
+        assertEquals("text/plain", ExportFormat.TEXT.mimeType)
+        assertEquals("text/csv", ExportFormat.CSV.mimeType)
+        assertEquals("application/x-ndjson", ExportFormat.JSON_LINES.mimeType)
+        assertEquals("application/octet-stream", ExportFormat.COLUMNAR.mimeType)
+    }
+
+}
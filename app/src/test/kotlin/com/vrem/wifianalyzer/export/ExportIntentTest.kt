@@ -18,6 +18,7 @@
 package com.vrem.wifianalyzer.export
 
 import android.content.Intent
+import android.net.Uri
 import com.nhaarman.mockitokotlin2.*
 import org.junit.After
 import org.junit.Assert.assertEquals
@@ -26,6 +27,7 @@ import org.junit.Test
 class ExportIntentTest {
     private val intentSend: Intent = mock()
     private val intentChooser: Intent = mock()
+    private val uri: Uri = mock()
 
     private val fixture = spy(ExportIntent())
 
@@ -33,25 +35,26 @@ class ExportIntentTest {
     fun tearDown() {
         verifyNoMoreInteractions(intentSend)
         verifyNoMoreInteractions(intentChooser)
+        verifyNoMoreInteractions(uri)
     }
 
     @Test
     fun testIntent() {
         // setup
         val title = "title"
-        val data = "data"
+        val mimeType = "text/csv"
         doReturn(intentSend).whenever(fixture).intentSend()
         doReturn(intentChooser).whenever(fixture).intentChooser(intentSend, title)
         // execute
-        val actual = fixture.intent(title, data)
+        val actual = fixture.intent(title, uri, mimeType)
         // validate
         assertEquals(intentChooser, actual)
 
-        verify(intentSend).flags = Intent.FLAG_ACTIVITY_NEW_TASK
-        verify(intentSend).type = "text/plain"
+        verify(intentSend).flags = Intent.FLAG_ACTIVITY_NEW_TASK or Intent.FLAG_GRANT_READ_URI_PERMISSION
+        verify(intentSend).type = mimeType
         verify(intentSend).putExtra(Intent.EXTRA_TITLE, title)
         verify(intentSend).putExtra(Intent.EXTRA_SUBJECT, title)
-        verify(intentSend).putExtra(Intent.EXTRA_TEXT, data)
+        verify(intentSend).putExtra(Intent.EXTRA_STREAM, uri)
 
         verify(fixture).intentSend()
         verify(fixture).intentChooser(intentSend, title)
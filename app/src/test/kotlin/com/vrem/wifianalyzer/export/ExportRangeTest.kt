@@ -0,0 +1,48 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import org.junit.Assert.*
+import org.junit.Test
+import java.util.concurrent.TimeUnit
+
+class ExportRangeTest {
+    private val now = TimeUnit.DAYS.toMillis(10)
+
+    @Test
+    fun testExportRange() {
+        assertEquals(4, ExportRange.values().size)
+    }
+
+    @Test
+    fun testHistory() {
+        assertFalse(ExportRange.CURRENT.history)
+        assertTrue(ExportRange.LAST_HOUR.history)
+        assertTrue(ExportRange.LAST_DAY.history)
+        assertTrue(ExportRange.ALL.history)
+    }
+
+    @Test
+    fun testFrom() {
+        assertEquals(now, ExportRange.CURRENT.from(now))
+        assertEquals(now - TimeUnit.HOURS.toMillis(1), ExportRange.LAST_HOUR.from(now))
+        assertEquals(now - TimeUnit.DAYS.toMillis(1), ExportRange.LAST_DAY.from(now))
+        assertEquals(0, ExportRange.ALL.from(now))
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import com.vrem.wifianalyzer.wifi.model.*
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class ExportRowTest {
+    private val wiFiDetail = WiFiDetail(
+            WiFiIdentifier("SSID", "BSSID"),
+            "capabilities",
+            WiFiSignal(2432, 2442, WiFiWidth.MHZ_40, -10, true))
+    private val fixture = ExportRow(1000L, wiFiDetail)
+
+    @Test
+    fun testValues() {
+        assertEquals(1000L, fixture.long(ExportColumn.TIMESTAMP))
+        assertEquals("SSID", fixture.string(ExportColumn.SSID))
+        assertEquals("BSSID", fixture.string(ExportColumn.BSSID))
+        assertEquals(-10, fixture.int(ExportColumn.LEVEL))
+        assertEquals(5, fixture.int(ExportColumn.PRIMARY_CHANNEL))
+        assertEquals(2432, fixture.int(ExportColumn.PRIMARY_FREQUENCY))
+        assertEquals(7, fixture.int(ExportColumn.CENTER_CHANNEL))
+        assertEquals(2442, fixture.int(ExportColumn.CENTER_FREQUENCY))
+        assertEquals(40, fixture.int(ExportColumn.WIDTH))
+        assertEquals(2422, fixture.int(ExportColumn.FREQUENCY_START))
+        assertEquals(2462, fixture.int(ExportColumn.FREQUENCY_END))
+        assertEquals(calculateDistance(2432, -10), fixture.double(ExportColumn.DISTANCE), 0.0)
+        assertTrue(fixture.boolean(ExportColumn.MC80211))
+        assertEquals("capabilities", fixture.string(ExportColumn.CAPABILITIES))
+    }
+
+    @Test
+    fun testEveryColumnHasAValue() {
+        ExportColumn.values().forEach {
+            when (it.type) {
+                ExportColumnType.BOOLEAN -> fixture.boolean(it)
+                ExportColumnType.INT32 -> fixture.int(it)
+                ExportColumnType.INT64 -> fixture.long(it)
+                ExportColumnType.FLOAT64 -> fixture.double(it)
+                ExportColumnType.STRING -> fixture.string(it)
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException::class)
+    fun testWrongType() {
+        fixture.int(ExportColumn.SSID)
+    }
+
+}
@@ -19,10 +19,8 @@ package com.vrem.wifianalyzer.export
 
 import android.content.Intent
 import android.content.res.Resources
-import com.nhaarman.mockitokotlin2.mock
-import com.nhaarman.mockitokotlin2.verify
-import com.nhaarman.mockitokotlin2.verifyNoMoreInteractions
-import com.nhaarman.mockitokotlin2.whenever
+import android.net.Uri
+import com.nhaarman.mockitokotlin2.*
 import com.vrem.wifianalyzer.MainActivity
 import com.vrem.wifianalyzer.R
 import com.vrem.wifianalyzer.wifi.model.WiFiDetail
@@ -30,18 +28,26 @@ import com.vrem.wifianalyzer.wifi.model.WiFiIdentifier
 import com.vrem.wifianalyzer.wifi.model.WiFiSignal
 import com.vrem.wifianalyzer.wifi.model.WiFiWidth
 import org.junit.After
-import org.junit.Assert.assertEquals
+import org.junit.Assert.*
+import org.junit.Rule
 import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.File
+import java.io.ByteArrayOutputStream
 import java.text.SimpleDateFormat
 import java.util.*
 
 class ExportTest {
+    @get:Rule
+    val temporaryFolder = TemporaryFolder()
+
     private val name = "name"
     private val date = Date()
 
     private val mainActivity: MainActivity = mock()
     private val exportIntent: ExportIntent = mock()
     private val intent: Intent = mock()
+    private val uri: Uri = mock()
     private val resources: Resources = mock()
     private val fixture = Export(exportIntent)
 
@@ -50,6 +56,7 @@ class ExportTest {
         verifyNoMoreInteractions(mainActivity)
         verifyNoMoreInteractions(exportIntent)
         verifyNoMoreInteractions(intent)
+        verifyNoMoreInteractions(uri)
         verifyNoMoreInteractions(resources)
     }
 
@@ -60,16 +67,49 @@ class ExportTest {
         val timestamp = timestamp(date)
         val title = title(timestamp)
         val data = data(timestamp)
+        val progress: MutableList<Int> = mutableListOf()
+        val mimeType = ExportFormat.TEXT.mimeType
         whenever(mainActivity.resources).thenReturn(resources)
+        whenever(mainActivity.cacheDir).thenReturn(temporaryFolder.root)
         whenever(resources.getString(R.string.action_access_points)).thenReturn(name)
-        whenever(exportIntent.intent(title, data)).thenReturn(intent)
+        whenever(exportIntent.uri(eq(mainActivity), any())).thenReturn(uri)
+        whenever(exportIntent.intent(title, uri, mimeType)).thenReturn(intent)
         // execute
-        val actual = fixture.export(mainActivity, wiFiDetails, date)
+        val actual = fixture.export(mainActivity, wiFiDetails, date, ExportFormat.TEXT) { progress.add(it) }
         // validate
         assertEquals(intent, actual)
+        assertEquals(listOf(wiFiDetails.size), progress)
+        val file = argumentCaptor<File>()
+        verify(exportIntent).uri(eq(mainActivity), file.capture())
+        assertEquals(data, file.firstValue.readText())
         verify(mainActivity).resources
+        verify(mainActivity).cacheDir
         verify(resources).getString(R.string.action_access_points)
-        verify(exportIntent).intent(title, data)
+        verify(exportIntent).intent(title, uri, mimeType)
+    }
+
+    @Test
+    fun testWriteReportsProgress() {
+        // setup
+        val wiFiDetails = (1..250).map { withWiFiDetail(it % 50) }
+        val progress: MutableList<Int> = mutableListOf()
+        // execute
+        fixture.write(ByteArrayOutputStream(), ExportFormat.CSV, wiFiDetails, date) { progress.add(it) }
+        // validate
+        assertEquals(listOf(100, 200, 250), progress)
+    }
+
+    @Test
+    fun testFileReplacesPreviousExport() {
+        // setup
+        val previous = fixture.file(temporaryFolder.root, Date(0), ExportFormat.TEXT)
+        previous.writeText("previous")
+        // execute
+        val actual = fixture.file(temporaryFolder.root, date, ExportFormat.CSV)
+        // validate
+        assertFalse(previous.exists())
+        assertEquals(previous.parentFile, actual.parentFile)
+        assertEquals("wifianalyzer-" + SimpleDateFormat("yyyyMMdd-HHmmss", Locale.US).format(date) + ".csv", actual.name)
     }
 
     @Test
@@ -89,9 +129,9 @@ class ExportTest {
         val timestamp = timestamp(date)
         val expected = data(timestamp)
         // execute
-        val actual = fixture.data(wiFiDetails, timestamp)
+        val actual = fixture.data(wiFiDetails, date)
         // validate
-        assertEquals(expected, actual)
+        assertEquals(expected, String(actual))
     }
 
     @Test
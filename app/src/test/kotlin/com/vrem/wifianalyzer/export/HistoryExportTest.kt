@@ -0,0 +1,192 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import android.content.Intent
+import android.content.res.Resources
+import android.net.Uri
+import com.nhaarman.mockitokotlin2.*
+import com.vrem.wifianalyzer.MainActivity
+import com.vrem.wifianalyzer.R
+import com.vrem.wifianalyzer.wifi.scanlog.ScanLogWriter
+import com.vrem.wifianalyzer.wifi.scanlog.ScanRecord
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
+import org.junit.After
+import org.junit.Assert.*
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.ByteArrayOutputStream
+import java.io.File
+import java.io.FileOutputStream
+import java.util.concurrent.CancellationException
+import java.util.zip.GZIPInputStream
+
+class HistoryExportTest {
+    @get:Rule
+    val temporaryFolder = TemporaryFolder()
+
+    private val mainActivity: MainActivity = mock()
+    private val resources: Resources = mock()
+    private val exportIntent: ExportIntent = mock()
+    private val intent: Intent = mock()
+    private val uri: Uri = mock()
+
+    @After
+    fun tearDown() {
+        verifyNoMoreInteractions(mainActivity)
+        verifyNoMoreInteractions(exportIntent)
+        verifyNoMoreInteractions(intent)
+        verifyNoMoreInteractions(uri)
+    }
+
+    @Test
+    fun testAvailable() {
+        // setup
+        val fixture = HistoryExport(temporaryFolder.root)
+        // execute & validate
+        assertFalse(fixture.available())
+        withScanLog(1000, 1000L)
+        assertTrue(fixture.available())
+    }
+
+    @Test
+    fun testFiles() {
+        // setup
+        val file1 = withScanLog(1000, 1000L, 2000L)
+        val file2 = withScanLog(5000, 5000L, 6000L)
+        val file3 = withScanLog(9000, 9000L)
+        val fixture = HistoryExport(temporaryFolder.root)
+        // execute & validate
+        assertEquals(listOf(file1, file2, file3), fixture.files(0, Long.MAX_VALUE))
+        assertEquals(listOf(file2, file3), fixture.files(5500, Long.MAX_VALUE))
+        assertEquals(listOf(file1, file2), fixture.files(1500, 5500))
+        assertEquals(listOf(file1), fixture.files(0, 4000))
+        assertEquals(listOf<File>(), fixture.files(0, 500))
+    }
+
+    @Test
+    fun testWrite() {
+        // setup
+        val files = listOf(withScanLog(1000, 1000L, 2000L, 3000L), withScanLog(5000, 5000L, 6000L))
+        val outputStream = ByteArrayOutputStream()
+        val progress: MutableList<Int> = mutableListOf()
+        val fixture = HistoryExport(temporaryFolder.root)
+        // execute
+        fixture.write(outputStream, ExportFormat.CSV, files, 2000L, 5000L) { progress.add(it) }
+        // validate
+        val lines = String(outputStream.toByteArray()).split("\r\n").filter { it.isNotEmpty() }
+        assertEquals(1 + 3 * SCAN_RESULTS, lines.size)
+        assertEquals(SCAN_RESULTS, lines.count { it.startsWith("2000,") })
+        assertEquals(SCAN_RESULTS, lines.count { it.startsWith("3000,") })
+        assertEquals(SCAN_RESULTS, lines.count { it.startsWith("5000,") })
+        assertEquals(fixture.size(files), progress.last())
+    }
+
+    @Test
+    fun testWriteThrottlesProgress() {
+        // setup
+        val files = listOf(withScanLog(1000, *LongArray(20_000) { 1000L + it }))
+        val progress: MutableList<Int> = mutableListOf()
+        val fixture = HistoryExport(temporaryFolder.root)
+        assertTrue(fixture.size(files) > 200)
+        // execute
+        fixture.write(ByteArrayOutputStream(), ExportFormat.CSV, files, 0, Long.MAX_VALUE) { progress.add(it) }
+        // validate
+        assertTrue(progress.size <= 101)
+        assertEquals(fixture.size(files), progress.last())
+    }
+
+    @Test(expected = CancellationException::class)
+    fun testWriteCancelled() {
+        // setup
+        val files = listOf(withScanLog(1000, 1000L, 2000L))
+        val fixture = HistoryExport(temporaryFolder.root)
+        // execute
+        fixture.write(ByteArrayOutputStream(), ExportFormat.CSV, files, 0, Long.MAX_VALUE, { true })
+    }
+
+    @Test
+    fun testExport() {
+        // setup
+        val scanLogDirectory = temporaryFolder.newFolder("scanlog")
+        val cacheDirectory = temporaryFolder.newFolder("cache")
+        val files = listOf(withScanLog(scanLogDirectory, 1000, 1000L, 2000L))
+        val fixture = HistoryExport(scanLogDirectory, Export(exportIntent), exportIntent)
+        val expected = ByteArrayOutputStream().also { fixture.write(it, ExportFormat.JSON_LINES, files, 0, 2000L) }.toByteArray()
+        whenever(mainActivity.resources).thenReturn(resources)
+        whenever(mainActivity.cacheDir).thenReturn(cacheDirectory)
+        whenever(resources.getString(R.string.action_access_points)).thenReturn("name")
+        whenever(exportIntent.uri(eq(mainActivity), any())).thenReturn(uri)
+        whenever(exportIntent.intent(any(), eq(uri), eq("application/gzip"))).thenReturn(intent)
+        // execute
+        val actual = fixture.export(mainActivity, files, 0, 2000L, ExportFormat.JSON_LINES, { false })
+        // validate
+        assertEquals(intent, actual)
+        val file = argumentCaptor<File>()
+        verify(exportIntent).uri(eq(mainActivity), file.capture())
+        assertTrue(file.firstValue.name.endsWith(".jsonl.gz"))
+        assertArrayEquals(expected, GZIPInputStream(file.firstValue.inputStream()).use { it.readBytes() })
+        verify(exportIntent).intent(any(), eq(uri), eq("application/gzip"))
+        verify(mainActivity).resources
+        verify(mainActivity).cacheDir
+    }
+
+    @Test
+    fun testExportCancelledRemovesFile() {
+        // setup
+        val scanLogDirectory = temporaryFolder.newFolder("scanlog")
+        val cacheDirectory = temporaryFolder.newFolder("cache")
+        val files = listOf(withScanLog(scanLogDirectory, 1000, 1000L))
+        val fixture = HistoryExport(scanLogDirectory, Export(exportIntent), exportIntent)
+        whenever(mainActivity.resources).thenReturn(resources)
+        whenever(mainActivity.cacheDir).thenReturn(cacheDirectory)
+        whenever(resources.getString(R.string.action_access_points)).thenReturn("name")
+        // execute
+        try {
+            fixture.export(mainActivity, files, 0, 2000L, ExportFormat.CSV, { true })
+            fail("CancellationException expected")
+        } catch (e: CancellationException) {
+            // validate
+            assertEquals(0, File(cacheDirectory, "export").listFiles()?.size ?: 0)
+        }
+        verify(mainActivity).resources
+        verify(mainActivity).cacheDir
+    }
+
+    private fun withScanLog(started: Long, vararg timestamps: Long): File =
+            withScanLog(temporaryFolder.root, started, *timestamps)
+
+    private fun withScanLog(directory: File, started: Long, vararg timestamps: Long): File {
+        val file = File(directory, "$started.scanlog")
+        ScanLogWriter(FileOutputStream(file).channel).use { scanLogWriter ->
+            timestamps.forEach { scanLogWriter.write(withScanRecord(it)) }
+        }
+        return file
+    }
+
+    private fun withScanRecord(timestamp: Long): ScanRecord =
+            ScanRecord(timestamp, List(SCAN_RESULTS) {
+                ScanResultRecord("SSID$it", "BSSID$it", "[WPA2]", 2412 + it * 5, 0, 0, 0, false, -40 - it)
+            }, null)
+
+    companion object {
+        private const val SCAN_RESULTS = 3
+    }
+
+}
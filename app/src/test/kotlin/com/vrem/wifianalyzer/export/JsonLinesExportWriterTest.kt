@@ -0,0 +1,61 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.export
+
+import com.vrem.wifianalyzer.wifi.model.*
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import java.io.ByteArrayOutputStream
+
+class JsonLinesExportWriterTest {
+    private val outputStream = ByteArrayOutputStream()
+    private val fixture = JsonLinesExportWriter(outputStream)
+
+    @Test
+    fun testWrite() {
+        // setup
+        val distance = calculateDistance(2432, -10)
+        val expected = "{\"timestamp_ms\":1000,\"ssid\":\"SSID1\",\"bssid\":\"BSSID\",\"level_dbm\":-10," +
+                "\"primary_channel\":5,\"primary_frequency_mhz\":2432,\"center_channel\":7,\"center_frequency_mhz\":2442," +
+                "\"width_mhz\":40,\"frequency_start_mhz\":2422,\"frequency_end_mhz\":2462," +
+                "\"distance_m\":$distance,\"mc80211\":true,\"capabilities\":\"capabilities\"}\n"
+        // execute
+        fixture.use {
+            it.write(ExportRow(1000L, withWiFiDetail("SSID1")))
+            it.write(ExportRow(1000L, withWiFiDetail("SSID2")))
+        }
+        // validate
+        val actual = String(outputStream.toByteArray())
+        assertEquals(expected + expected.replace("SSID1", "SSID2"), actual)
+    }
+
+    @Test
+    fun testWriteEscapesStrings() {
+        // setup
+        val wiFiDetail = withWiFiDetail("a\"b\\c\nd\te\u0001")
+        // execute
+        fixture.use { it.write(ExportRow(1000L, wiFiDetail)) }
+        // validate
+        val actual = String(outputStream.toByteArray())
+        assertEquals(true, actual.contains("\"ssid\":\"a\\\"b\\\\c\\nd\\te\\u0001\","))
+    }
+
+    private fun withWiFiDetail(ssid: String): WiFiDetail =
+            WiFiDetail(WiFiIdentifier(ssid, "BSSID"), "capabilities", WiFiSignal(2432, 2442, WiFiWidth.MHZ_40, -10, true))
+
+}
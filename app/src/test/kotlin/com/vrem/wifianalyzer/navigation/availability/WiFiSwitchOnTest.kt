@@ -30,6 +30,7 @@ import com.vrem.wifianalyzer.R
 import com.vrem.wifianalyzer.RobolectricUtil
 import com.vrem.wifianalyzer.navigation.options.OptionMenu
 import com.vrem.wifianalyzer.wifi.band.WiFiBand
+import com.vrem.wifianalyzer.wifi.band.textResource
 import org.junit.After
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertTrue
@@ -22,9 +22,10 @@ import android.content.Intent
 import android.content.pm.PackageManager
 import android.view.MenuItem
 import android.view.View
+import android.widget.Toast
 import com.vrem.wifianalyzer.MainActivity
 import com.vrem.wifianalyzer.MainContextMockkHelper
-import com.vrem.wifianalyzer.export.Export
+import com.vrem.wifianalyzer.export.*
 import com.vrem.wifianalyzer.navigation.NavigationMenu
 import com.vrem.wifianalyzer.wifi.model.WiFiConnection
 import com.vrem.wifianalyzer.wifi.model.WiFiData
@@ -33,7 +34,11 @@ import io.mockk.*
 import org.junit.After
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
 import org.junit.Test
+import java.io.File
+import java.util.concurrent.CancellationException
+import java.util.concurrent.Executor
 
 class ExportItemTest {
     private val export: Export = mockk()
@@ -42,9 +47,12 @@ class ExportItemTest {
     private val intent: Intent = mockk()
     private val packageManager: PackageManager = mockk()
     private val componentName: ComponentName = mockk()
+    private val exportProgressDialog: ExportProgressDialog = mockk()
+    private val historyExport: HistoryExport = mockk()
     private val scanner = MainContextMockkHelper.INSTANCE.scannerService
+    private val executor = Executor { it.run() }
 
-    private val fixture = ExportItem(export)
+    private val fixture = spyk(ExportItem(export, executor))
 
     @After
     fun tearDown() {
@@ -54,6 +62,8 @@ class ExportItemTest {
         confirmVerified(intent)
         confirmVerified(packageManager)
         confirmVerified(componentName)
+        confirmVerified(exportProgressDialog)
+        confirmVerified(historyExport)
         confirmVerified(scanner)
         MainContextMockkHelper.INSTANCE.restore()
     }
@@ -62,19 +72,145 @@ class ExportItemTest {
     fun testActivate() {
         // setup
         val wiFiData: WiFiData = withWiFiData()
+        val progress = slot<(Int) -> Unit>()
+        every { fixture.historyExport(mainActivity) } returns historyExport
+        every { historyExport.available() } returns false
         every { scanner.wiFiData() } returns wiFiData
-        every { export.export(mainActivity, wiFiData.wiFiDetails) } returns intent
+        every { fixture.exportProgressDialog(mainActivity, 1) } returns exportProgressDialog
+        every { exportProgressDialog.show() } just runs
+        every { exportProgressDialog.update(1) } just runs
+        every { exportProgressDialog.dismiss() } just runs
+        every { mainActivity.runOnUiThread(any()) } answers { firstArg<Runnable>().run() }
+        every { mainActivity.isFinishing } returns false
+        every { mainActivity.isDestroyed } returns false
+        every { export.export(mainActivity, wiFiData.wiFiDetails, capture(progress)) } answers {
+            progress.captured(1)
+            intent
+        }
         every { mainActivity.startActivity(intent) } just runs
         every { mainActivity.packageManager } returns packageManager
         every { intent.resolveActivity(packageManager) } returns componentName
         // execute
         fixture.activate(mainActivity, menuItem, NavigationMenu.EXPORT)
         // validate
+        verify { historyExport.available() }
         verify { scanner.wiFiData() }
+        verify { exportProgressDialog.show() }
+        verify { exportProgressDialog.update(1) }
+        verify { exportProgressDialog.dismiss() }
+        verify(exactly = 2) { mainActivity.runOnUiThread(any()) }
+        verify(exactly = 2) { mainActivity.isFinishing }
+        verify(exactly = 2) { mainActivity.isDestroyed }
         verify { mainActivity.packageManager }
         verify { intent.resolveActivity(packageManager) }
         verify { mainActivity.startActivity(intent) }
-        verify { export.export(mainActivity, wiFiData.wiFiDetails) }
+        verify { export.export(mainActivity, wiFiData.wiFiDetails, any()) }
+    }
+
+    @Test
+    fun testActivateWithHistory() {
+        // setup
+        val settings = MainContextMockkHelper.INSTANCE.settings
+        val files: List<File> = listOf(File("1000.scanlog"))
+        val cancel = slot<() -> Unit>()
+        every { fixture.historyExport(mainActivity) } returns historyExport
+        every { historyExport.available() } returns true
+        every { fixture.chooseExportRange(mainActivity, any()) } answers { secondArg<(ExportRange) -> Unit>()(ExportRange.ALL) }
+        every { historyExport.files(0, any()) } returns files
+        every { historyExport.size(files) } returns 10
+        every { fixture.exportProgressDialog(mainActivity, 10, capture(cancel)) } returns exportProgressDialog
+        every { settings.exportFormat() } returns ExportFormat.CSV
+        every { exportProgressDialog.show() } just runs
+        every { exportProgressDialog.dismiss() } just runs
+        every { mainActivity.runOnUiThread(any()) } answers { firstArg<Runnable>().run() }
+        every { mainActivity.isFinishing } returns false
+        every { mainActivity.isDestroyed } returns false
+        every { historyExport.export(mainActivity, files, 0, any(), ExportFormat.CSV, any(), any()) } answers {
+            cancel.captured()
+            assertTrue(arg<() -> Boolean>(5)())
+            throw CancellationException()
+        }
+        // execute
+        fixture.activate(mainActivity, menuItem, NavigationMenu.EXPORT)
+        // validate
+        verify { historyExport.available() }
+        verify { historyExport.files(0, any()) }
+        verify { historyExport.size(files) }
+        verify { settings.exportFormat() }
+        verify { exportProgressDialog.show() }
+        verify { exportProgressDialog.dismiss() }
+        verify { mainActivity.runOnUiThread(any()) }
+        verify { mainActivity.isFinishing }
+        verify { mainActivity.isDestroyed }
+        verify { historyExport.export(mainActivity, files, 0, any(), ExportFormat.CSV, any(), any()) }
+    }
+
+    @Test
+    fun testActivateWithHistoryWhenActivityIsDestroyed() {
+        // setup
+        val settings = MainContextMockkHelper.INSTANCE.settings
+        val files: List<File> = listOf(File("1000.scanlog"))
+        every { fixture.historyExport(mainActivity) } returns historyExport
+        every { historyExport.available() } returns true
+        every { fixture.chooseExportRange(mainActivity, any()) } answers { secondArg<(ExportRange) -> Unit>()(ExportRange.ALL) }
+        every { historyExport.files(0, any()) } returns files
+        every { historyExport.size(files) } returns 10
+        every { fixture.exportProgressDialog(mainActivity, 10, any()) } returns exportProgressDialog
+        every { settings.exportFormat() } returns ExportFormat.CSV
+        every { exportProgressDialog.show() } just runs
+        every { mainActivity.runOnUiThread(any()) } answers { firstArg<Runnable>().run() }
+        every { mainActivity.isFinishing } returns false
+        every { mainActivity.isDestroyed } returns true
+        every { historyExport.export(mainActivity, files, 0, any(), ExportFormat.CSV, any(), any()) } answers {
+            assertTrue(arg<() -> Boolean>(5)())
+            throw CancellationException()
+        }
+        // execute
+        fixture.activate(mainActivity, menuItem, NavigationMenu.EXPORT)
+        // validate
+        verify { historyExport.available() }
+        verify { historyExport.files(0, any()) }
+        verify { historyExport.size(files) }
+        verify { settings.exportFormat() }
+        verify { exportProgressDialog.show() }
+        verify(exactly = 0) { exportProgressDialog.dismiss() }
+        verify { mainActivity.runOnUiThread(any()) }
+        verify(exactly = 2) { mainActivity.isFinishing }
+        verify(exactly = 2) { mainActivity.isDestroyed }
+        verify { historyExport.export(mainActivity, files, 0, any(), ExportFormat.CSV, any(), any()) }
+    }
+
+    @Test
+    fun testActivateWithExportFailure() {
+        // setup
+        val wiFiData: WiFiData = withWiFiData()
+        val toast: Toast = mockk()
+        mockkStatic(Toast::class)
+        every { fixture.historyExport(mainActivity) } returns historyExport
+        every { historyExport.available() } returns false
+        every { scanner.wiFiData() } returns wiFiData
+        every { fixture.exportProgressDialog(mainActivity, 1) } returns exportProgressDialog
+        every { exportProgressDialog.show() } just runs
+        every { exportProgressDialog.dismiss() } just runs
+        every { mainActivity.runOnUiThread(any()) } answers { firstArg<Runnable>().run() }
+        every { mainActivity.isFinishing } returns false
+        every { mainActivity.isDestroyed } returns false
+        every { export.export(mainActivity, wiFiData.wiFiDetails, any()) } throws IllegalArgumentException("corrupt")
+        every { Toast.makeText(mainActivity, "corrupt", Toast.LENGTH_LONG) } returns toast
+        every { toast.show() } just runs
+        // execute
+        fixture.activate(mainActivity, menuItem, NavigationMenu.EXPORT)
+        // validate
+        verify { historyExport.available() }
+        verify { scanner.wiFiData() }
+        verify { exportProgressDialog.show() }
+        verify { exportProgressDialog.dismiss() }
+        verify { mainActivity.runOnUiThread(any()) }
+        verify { mainActivity.isFinishing }
+        verify { mainActivity.isDestroyed }
+        verify { export.export(mainActivity, wiFiData.wiFiDetails, any()) }
+        verify { toast.show() }
+        unmockkStatic(Toast::class)
     }
 
     @Test
@@ -23,6 +23,7 @@ import com.vrem.util.defaultLanguageTag
 import com.vrem.util.ordinals
 import com.vrem.util.toLanguageTag
 import com.vrem.wifianalyzer.R
+import com.vrem.wifianalyzer.export.ExportFormat
 import com.vrem.wifianalyzer.navigation.NavigationMenu
 import com.vrem.wifianalyzer.wifi.accesspoint.AccessPointViewType
 import com.vrem.wifianalyzer.wifi.accesspoint.ConnectionViewType
@@ -430,4 +431,41 @@ class SettingsTest {
         verify { repository.boolean(R.string.keep_screen_on_key, true) }
         verify { repository.resourceBoolean(R.bool.keep_screen_on_default) }
     }
-}
\ No newline at end of file
+
+    @Test
+    fun testScanLog() {
+        // setup
+        every { repository.resourceBoolean(R.bool.scan_log_default) } returns false
+        every { repository.boolean(R.string.scan_log_key, false) } returns true
+        // execute
+        val actual = fixture.scanLog()
+        // validate
+        assertTrue(actual)
+        verify { repository.boolean(R.string.scan_log_key, false) }
+        verify { repository.resourceBoolean(R.bool.scan_log_default) }
+    }
+
+    @Test
+    fun testBackgroundLog() {
+        // setup
+        every { repository.resourceBoolean(R.bool.background_log_default) } returns false
+        every { repository.boolean(R.string.background_log_key, false) } returns true
+        // execute
+        val actual = fixture.backgroundLog()
+        // validate
+        assertTrue(actual)
+        verify { repository.boolean(R.string.background_log_key, false) }
+        verify { repository.resourceBoolean(R.bool.background_log_default) }
+    }
+
+    @Test
+    fun testExportFormat() {
+        // setup
+        every { repository.stringAsInteger(R.string.export_format_key, ExportFormat.TEXT.ordinal) } returns ExportFormat.CSV.ordinal
+        // execute
+        val actual = fixture.exportFormat()
+        // validate
+        assertEquals(ExportFormat.CSV, actual)
+        verify { repository.stringAsInteger(R.string.export_format_key, ExportFormat.TEXT.ordinal) }
+    }
+}
@@ -329,6 +329,21 @@ class AccessPointDetailTest {
         assertEquals(View.VISIBLE, actual.findViewById<View>(R.id.flag80211mc).visibility)
     }
 
+    @Test
+    fun testUpdateSignal() {
+        // setup
+        val view = fixture.makeView(null, null, withWiFiDetail(ssid, WiFiAdditional.EMPTY))
+        val wiFiDetail = WiFiDetail(WiFiIdentifier(ssid, "BSSID"), wiFiSignal = WiFiSignal(2437, 2437, WiFiWidth.MHZ_20, -85))
+        // execute
+        fixture.updateSignal(view, wiFiDetail)
+        // validate
+        val wiFiSignal = wiFiDetail.wiFiSignal
+        validateTextViewValue(view, "${wiFiSignal.level}dBm", R.id.level)
+        validateTextViewValue(view, wiFiSignal.distance, R.id.distance)
+        validateImageViewValue(view, wiFiSignal.strength.imageResource, R.id.levelImage)
+        validateTextViewValue(view, wiFiDetail.wiFiIdentifier.title, R.id.ssid)
+    }
+
     private fun withWiFiDetail(ssid: String, wiFiAdditional: WiFiAdditional): WiFiDetail =
             withWiFiDetail(ssid, wiFiAdditional, false)
 
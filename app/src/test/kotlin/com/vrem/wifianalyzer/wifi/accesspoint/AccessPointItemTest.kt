@@ -0,0 +1,141 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.accesspoint
+
+import com.vrem.wifianalyzer.wifi.model.WiFiAdditional
+import com.vrem.wifianalyzer.wifi.model.WiFiConnection
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+import com.vrem.wifianalyzer.wifi.model.WiFiIdentifier
+import com.vrem.wifianalyzer.wifi.model.WiFiSignal
+import com.vrem.wifianalyzer.wifi.model.WiFiStandard
+import com.vrem.wifianalyzer.wifi.model.WiFiWidth
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertNotEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class AccessPointItemTest {
+    private val wiFiIdentifier = WiFiIdentifier("SSID", "20:cf:30:ce:1d:71")
+    private val wiFiSignal = WiFiSignal(2437, 2437, WiFiWidth.MHZ_20, -40, false, WiFiStandard.N)
+    private val wiFiDetail = WiFiDetail(wiFiIdentifier, "[WPA2-PSK-CCMP][ESS]", wiFiSignal)
+
+    @Test
+    fun testId() {
+        // execute
+        val actual = AccessPointItem(wiFiDetail).id
+        // validate
+        assertEquals(0x20CF30CE1D71L, actual and 0xFFFFFFFFFFFFL)
+        assertEquals(actual, AccessPointItem(wiFiDetail.copy(wiFiSignal = wiFiSignal.copy(level = -80)), true).id)
+    }
+
+    @Test
+    fun testIdIsDifferentForDifferentAccessPoints() {
+        // setup
+        val other = WiFiDetail(WiFiIdentifier("SSID", "20:cf:30:ce:1d:72"))
+        val otherSSID = WiFiDetail(WiFiIdentifier("OTHER", "20:cf:30:ce:1d:71"))
+        // execute
+        val actual = AccessPointItem(wiFiDetail).id
+        // validate
+        assertNotEquals(actual, AccessPointItem(other).id)
+        assertNotEquals(actual, AccessPointItem(otherSSID).id)
+    }
+
+    @Test
+    fun testIdWithInvalidBSSID() {
+        // setup
+        val wiFiIdentifier = WiFiIdentifier("SSID", "BSSID")
+        // execute
+        val actual = accessPointId(wiFiIdentifier)
+        // validate
+        assertEquals(actual, accessPointId(WiFiIdentifier("SSID", "BSSID")))
+        assertNotEquals(actual, accessPointId(WiFiIdentifier("SSID", "BSSID1")))
+    }
+
+    @Test
+    fun testChangesWithSameContent() {
+        // setup
+        val previous = AccessPointItem(wiFiDetail)
+        val current = AccessPointItem(wiFiDetail.copy(wiFiAdditional = WiFiAdditional.EMPTY))
+        // execute
+        val actual = current.changes(previous)
+        // validate
+        assertTrue(actual.isEmpty())
+    }
+
+    @Test
+    fun testChangesWithSignal() {
+        // setup
+        val previous = AccessPointItem(wiFiDetail)
+        val current = AccessPointItem(wiFiDetail.copy(wiFiSignal = wiFiSignal.copy(level = -60)))
+        // execute
+        val actual = current.changes(previous)
+        // validate
+        assertEquals(setOf(AccessPointChange.SIGNAL), actual)
+    }
+
+    @Test
+    fun testChangesWithGroup() {
+        // setup
+        val parent = wiFiDetail.copy(children = listOf(WiFiDetail(WiFiIdentifier("SSID", "BSSID"))))
+        val previous = AccessPointItem(parent)
+        // execute & validate
+        assertEquals(setOf(AccessPointChange.GROUP), AccessPointItem(parent, expanded = true).changes(previous))
+        assertEquals(setOf(AccessPointChange.GROUP), AccessPointItem(wiFiDetail).changes(previous))
+    }
+
+    @Test
+    fun testChangesWithDetail() {
+        // setup
+        val previous = AccessPointItem(wiFiDetail)
+        // execute & validate
+        assertEquals(setOf(AccessPointChange.DETAIL), AccessPointItem(wiFiDetail, true).changes(previous))
+        assertEquals(setOf(AccessPointChange.DETAIL),
+                AccessPointItem(wiFiDetail.copy(capabilities = "[WPA3-SAE-CCMP][ESS]")).changes(previous))
+        assertEquals(setOf(AccessPointChange.DETAIL),
+                AccessPointItem(wiFiDetail.copy(wiFiSignal = wiFiSignal.copy(wiFiWidth = WiFiWidth.MHZ_40))).changes(previous))
+        assertEquals(setOf(AccessPointChange.DETAIL),
+                AccessPointItem(WiFiDetail(wiFiDetail, WiFiAdditional("Vendor", WiFiConnection.EMPTY))).changes(previous))
+    }
+
+    @Test
+    fun testChangesWithSignalAndDetail() {
+        // setup
+        val previous = AccessPointItem(wiFiDetail)
+        val current = AccessPointItem(wiFiDetail.copy(wiFiSignal = wiFiSignal.copy(primaryFrequency = 2412, level = -70)))
+        // execute
+        val actual = current.changes(previous)
+        // validate
+        assertEquals(setOf(AccessPointChange.SIGNAL, AccessPointChange.DETAIL), actual)
+    }
+
+    @Test
+    fun testAccessPointDiff() {
+        // setup
+        val previous = AccessPointItem(wiFiDetail)
+        val current = AccessPointItem(wiFiDetail.copy(wiFiSignal = wiFiSignal.copy(level = -60)))
+        val other = AccessPointItem(WiFiDetail(WiFiIdentifier("SSID", "20:cf:30:ce:1d:72")))
+        // execute & validate
+        assertTrue(AccessPointDiff.areItemsTheSame(previous, current))
+        assertFalse(AccessPointDiff.areItemsTheSame(previous, other))
+        assertTrue(AccessPointDiff.areContentsTheSame(previous, AccessPointItem(wiFiDetail)))
+        assertFalse(AccessPointDiff.areContentsTheSame(previous, current))
+        assertEquals(setOf(AccessPointChange.SIGNAL), AccessPointDiff.getChangePayload(previous, current))
+    }
+
+}
@@ -17,7 +17,6 @@
  */
 package com.vrem.wifianalyzer.wifi.accesspoint
 
-import android.widget.ExpandableListView
 import com.nhaarman.mockitokotlin2.*
 import com.vrem.wifianalyzer.MainContextHelper.INSTANCE
 import com.vrem.wifianalyzer.wifi.band.WiFiBand
@@ -25,12 +24,13 @@ import com.vrem.wifianalyzer.wifi.model.*
 import com.vrem.wifianalyzer.wifi.model.WiFiWidth
 import org.junit.After
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
 import org.junit.Test
 
 class AccessPointsAdapterDataTest {
     private val wiFiData: WiFiData = mock()
     private val accessPointsAdapterGroup: AccessPointsAdapterGroup = mock()
-    private val expandableListView: ExpandableListView = mock()
     private val settings = INSTANCE.settings
     private val configuration = INSTANCE.configuration
     private val fixture = AccessPointsAdapterData(accessPointsAdapterGroup)
@@ -39,19 +39,14 @@ class AccessPointsAdapterDataTest {
     fun tearDown() {
         verifyNoMoreInteractions(wiFiData)
         verifyNoMoreInteractions(accessPointsAdapterGroup)
-        verifyNoMoreInteractions(expandableListView)
         verifyNoMoreInteractions(configuration)
         INSTANCE.restore()
     }
 
     @Test
     fun testBeforeUpdate() {
-        assertEquals(0, fixture.parentsCount())
-        assertEquals(0, fixture.childrenCount(0))
-        assertEquals(WiFiDetail.EMPTY, fixture.parent(0))
-        assertEquals(WiFiDetail.EMPTY, fixture.parent(-1))
-        assertEquals(WiFiDetail.EMPTY, fixture.child(0, 0))
-        assertEquals(WiFiDetail.EMPTY, fixture.child(0, -1))
+        assertTrue(fixture.wiFiDetails.isEmpty())
+        assertTrue(fixture.items().isEmpty())
     }
 
     @Test
@@ -61,41 +56,55 @@ class AccessPointsAdapterDataTest {
         withSettings()
         whenever(wiFiData.wiFiDetails(any(), eq(SortBy.SSID), eq(GroupBy.CHANNEL))).thenReturn(wiFiDetails)
         // execute
-        fixture.update(wiFiData, expandableListView)
+        fixture.update(wiFiData)
         // validate
         verify(wiFiData).wiFiDetails(any(), eq(SortBy.SSID), eq(GroupBy.CHANNEL))
-        verify(accessPointsAdapterGroup).update(wiFiDetails, expandableListView)
+        verify(accessPointsAdapterGroup).updateGroupBy()
         verifySettings()
-        assertEquals(wiFiDetails.size, fixture.parentsCount())
-        assertEquals(wiFiDetails[0], fixture.parent(0))
-        assertEquals(wiFiDetails[0].children.size, fixture.childrenCount(0))
-        assertEquals(wiFiDetails[0].children[0], fixture.child(0, 0))
-        assertEquals(WiFiDetail.EMPTY, fixture.parent(-1))
-        assertEquals(WiFiDetail.EMPTY, fixture.parent(wiFiDetails.size))
-        assertEquals(WiFiDetail.EMPTY, fixture.child(0, -1))
-        assertEquals(WiFiDetail.EMPTY, fixture.child(0, wiFiDetails[0].children.size))
+        assertEquals(wiFiDetails, fixture.wiFiDetails)
     }
 
     @Test
-    fun testOnGroupCollapsed() {
+    fun testItemsWithGroupCollapsed() {
         // setup
-        val index = 11
-        val wiFiDetails: List<WiFiDetail> = fixture.wiFiDetails
+        val wiFiDetails = withWiFiDetails()
+        fixture.wiFiDetails.addAll(wiFiDetails)
+        // execute
+        val actual = fixture.items()
+        // validate
+        assertEquals(wiFiDetails, actual.map { it.wiFiDetail })
+        assertTrue(actual.none { it.child || it.expanded })
+        assertEquals(wiFiDetails[0].children.size, actual[0].childrenCount)
+        wiFiDetails.forEach { verify(accessPointsAdapterGroup).expanded(it) }
+    }
+
+    @Test
+    fun testItemsWithGroupExpanded() {
+        // setup
+        val wiFiDetails = withWiFiDetails()
+        fixture.wiFiDetails.addAll(wiFiDetails)
+        whenever(accessPointsAdapterGroup.expanded(wiFiDetails[0])).thenReturn(true)
         // execute
-        fixture.onGroupCollapsed(index)
+        val actual = fixture.items()
         // validate
-        verify(accessPointsAdapterGroup).onGroupCollapsed(wiFiDetails, index)
+        assertEquals(wiFiDetails.size + wiFiDetails[0].children.size, actual.size)
+        assertEquals(wiFiDetails[0], actual[0].wiFiDetail)
+        assertTrue(actual[0].expanded)
+        assertFalse(actual[0].child)
+        assertEquals(wiFiDetails[0].children, actual.subList(1, 4).map { it.wiFiDetail })
+        assertTrue(actual.subList(1, 4).all { it.child })
+        assertEquals(wiFiDetails[1], actual[4].wiFiDetail)
+        wiFiDetails.forEach { verify(accessPointsAdapterGroup).expanded(it) }
     }
 
     @Test
-    fun testOnGroupExpanded() {
+    fun testToggle() {
         // setup
-        val index = 22
-        val wiFiDetails: List<WiFiDetail> = fixture.wiFiDetails
+        val wiFiDetail = withWiFiDetail()
         // execute
-        fixture.onGroupExpanded(index)
+        fixture.toggle(wiFiDetail)
         // validate
-        verify(accessPointsAdapterGroup).onGroupExpanded(wiFiDetails, index)
+        verify(accessPointsAdapterGroup).toggle(wiFiDetail)
     }
 
     private fun withWiFiDetail(): WiFiDetail =
@@ -17,8 +17,6 @@
  */
 package com.vrem.wifianalyzer.wifi.accesspoint
 
-import android.widget.ExpandableListAdapter
-import android.widget.ExpandableListView
 import com.nhaarman.mockitokotlin2.*
 import com.vrem.wifianalyzer.MainContextHelper.INSTANCE
 import com.vrem.wifianalyzer.wifi.model.*
@@ -27,15 +25,11 @@ import org.junit.Assert.*
 import org.junit.Test
 
 class AccessPointsAdapterGroupTest {
-    private val expandableListView: ExpandableListView = mock()
-    private val expandableListAdapter: ExpandableListAdapter = mock()
     private val settings = INSTANCE.settings
     private val fixture = AccessPointsAdapterGroup()
 
     @After
     fun tearDown() {
-        verifyNoMoreInteractions(expandableListView)
-        verifyNoMoreInteractions(expandableListAdapter)
         INSTANCE.restore()
     }
 
@@ -45,23 +39,6 @@ class AccessPointsAdapterGroupTest {
         assertTrue(fixture.expanded.isEmpty())
     }
 
-    @Test
-    fun testAfterUpdateWithGroupByChannel() {
-        // setup
-        val wiFiDetails = withWiFiDetails()
-        whenever(settings.groupBy()).thenReturn(GroupBy.CHANNEL)
-        whenever(expandableListView.expandableListAdapter).thenReturn(expandableListAdapter)
-        whenever(expandableListAdapter.groupCount).thenReturn(wiFiDetails.size)
-        // execute
-        fixture.update(wiFiDetails, expandableListView)
-        // validate
-        verify(settings).groupBy()
-        verify(expandableListView).expandableListAdapter
-        verify(expandableListAdapter).groupCount
-        verify(expandableListView, times(3)).collapseGroup(any())
-        assertEquals(GroupBy.CHANNEL, fixture.groupBy)
-    }
-
     @Test
     fun testUpdateGroupBy() {
         // setup
@@ -99,28 +76,55 @@ class AccessPointsAdapterGroupTest {
     }
 
     @Test
-    fun testOnGroupExpanded() {
+    fun testToggleExpands() {
         // setup
         whenever(settings.groupBy()).thenReturn(GroupBy.SSID)
         fixture.updateGroupBy()
         val wiFiDetails = withWiFiDetails()
         // execute
-        fixture.onGroupExpanded(wiFiDetails, 0)
+        fixture.toggle(wiFiDetails[0])
         // validate
         assertTrue(fixture.expanded.contains(wiFiDetails[0].wiFiIdentifier.ssid))
+        assertTrue(fixture.expanded(wiFiDetails[0]))
+        assertFalse(fixture.expanded(wiFiDetails[1]))
     }
 
     @Test
-    fun testOnGroupCollapsed() {
+    fun testToggleCollapses() {
         // setup
         whenever(settings.groupBy()).thenReturn(GroupBy.SSID)
         fixture.updateGroupBy()
         val wiFiDetails = withWiFiDetails()
-        fixture.onGroupExpanded(wiFiDetails, 0)
+        fixture.toggle(wiFiDetails[0])
         // execute
-        fixture.onGroupCollapsed(wiFiDetails, 0)
+        fixture.toggle(wiFiDetails[0])
         // validate
         assertTrue(fixture.expanded.isEmpty())
+        assertFalse(fixture.expanded(wiFiDetails[0]))
+    }
+
+    @Test
+    fun testToggleWithoutChildren() {
+        // setup
+        whenever(settings.groupBy()).thenReturn(GroupBy.SSID)
+        fixture.updateGroupBy()
+        val wiFiDetails = withWiFiDetails()
+        // execute
+        fixture.toggle(wiFiDetails[1])
+        // validate
+        assertTrue(fixture.expanded.isEmpty())
+    }
+
+    @Test
+    fun testExpandedWithGroupByNone() {
+        // setup
+        val wiFiDetails = withWiFiDetails()
+        fixture.expanded.add(wiFiDetails[0].wiFiIdentifier.ssid)
+        // execute
+        fixture.toggle(wiFiDetails[0])
+        // validate
+        assertFalse(fixture.expanded(wiFiDetails[0]))
+        assertEquals(setOf(wiFiDetails[0].wiFiIdentifier.ssid), fixture.expanded)
     }
 
     private fun withWiFiDetail(): WiFiDetail =
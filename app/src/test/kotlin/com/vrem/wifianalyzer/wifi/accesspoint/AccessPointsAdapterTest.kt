@@ -19,10 +19,13 @@ package com.vrem.wifianalyzer.wifi.accesspoint
 
 import android.os.Build
 import android.view.View
-import android.view.ViewGroup
-import android.widget.ExpandableListView
+import android.widget.FrameLayout
 import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.nhaarman.mockitokotlin2.any
+import com.nhaarman.mockitokotlin2.anyOrNull
 import com.nhaarman.mockitokotlin2.mock
+import com.nhaarman.mockitokotlin2.never
+import com.nhaarman.mockitokotlin2.times
 import com.nhaarman.mockitokotlin2.verify
 import com.nhaarman.mockitokotlin2.verifyNoMoreInteractions
 import com.nhaarman.mockitokotlin2.whenever
@@ -32,9 +35,9 @@ import com.vrem.wifianalyzer.RobolectricUtil
 import com.vrem.wifianalyzer.wifi.model.WiFiConnection
 import com.vrem.wifianalyzer.wifi.model.WiFiData
 import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+import com.vrem.wifianalyzer.wifi.model.WiFiIdentifier
 import org.junit.After
 import org.junit.Assert.*
-import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.robolectric.annotation.Config
@@ -46,227 +49,171 @@ class AccessPointsAdapterTest {
     private val accessPointsAdapterData: AccessPointsAdapterData = mock()
     private val accessPointDetail: AccessPointDetail = mock()
     private val accessPointPopup: AccessPointPopup = mock()
-    private val expandableListView: ExpandableListView = mock()
-    private val viewGroup: ViewGroup = mock()
     private val settings = MainContextHelper.INSTANCE.settings
+    private val wiFiData = WiFiData(listOf(), WiFiConnection.EMPTY)
+    private val child = WiFiDetail(WiFiIdentifier("SSID1", "BSSID2"))
+    private val parent = WiFiDetail(WiFiIdentifier("SSID1", "BSSID1"), children = listOf(child))
     private val fixture = AccessPointsAdapter(accessPointsAdapterData, accessPointDetail, accessPointPopup)
 
-    @Before
-    fun setUp() {
-        fixture.expandableListView = expandableListView
-    }
-
     @After
     fun tearDown() {
         verifyNoMoreInteractions(accessPointsAdapterData)
         verifyNoMoreInteractions(accessPointDetail)
-        verifyNoMoreInteractions(expandableListView)
-        verifyNoMoreInteractions(viewGroup)
         MainContextHelper.INSTANCE.restore()
     }
 
     @Test
-    fun testGetGroupViewWithNoChildren() {
+    fun testUpdate() {
         // setup
-        val wiFiDetail = WiFiDetail.EMPTY
-        whenever(accessPointsAdapterData.parent(1)).thenReturn(wiFiDetail)
-        whenever(accessPointsAdapterData.childrenCount(1)).thenReturn(0)
-        val view = withView(wiFiDetail, AccessPointViewType.COMPLETE)
+        val items = listOf(AccessPointItem(parent), AccessPointItem(WiFiDetail.EMPTY))
         // execute
-        val actual = fixture.getGroupView(1, false, view, viewGroup)
+        withItems(AccessPointViewType.COMPLETE, items)
         // validate
-        assertNotNull(actual)
-        assertEquals(View.GONE, actual.findViewById<View>(R.id.groupIndicator).visibility)
-        verify(accessPointsAdapterData).parent(1)
-        verify(accessPointsAdapterData).childrenCount(1)
-        verifyView(view, wiFiDetail)
+        assertEquals(items.size, fixture.itemCount)
+        assertEquals(AccessPointViewType.COMPLETE.layout, fixture.getItemViewType(0))
+        assertEquals(items[0].id, fixture.getItemId(0))
+        assertEquals(items[1].id, fixture.getItemId(1))
+        verifyItems()
     }
 
     @Test
-    fun testGetGroupViewCompactAddsPopup() {
-        // setup
-        val wiFiDetail = WiFiDetail.EMPTY
-        whenever(accessPointsAdapterData.parent(1)).thenReturn(wiFiDetail)
-        whenever(accessPointsAdapterData.childrenCount(1)).thenReturn(0)
-        val view = withView(wiFiDetail, AccessPointViewType.COMPACT)
-        // execute
-        val actual = fixture.getGroupView(1, false, view, viewGroup)
-        // validate
-        assertNotNull(actual)
-        assertEquals(View.GONE, actual.findViewById<View>(R.id.groupIndicator).visibility)
-        verify(accessPointsAdapterData).parent(1)
-        verify(accessPointsAdapterData).childrenCount(1)
-        verifyView(view, wiFiDetail)
-        verify(accessPointPopup).attach(view.findViewById(R.id.attachPopup), wiFiDetail)
-        verify(accessPointPopup).attach(view.findViewById(R.id.ssid), wiFiDetail)
+    fun testHasStableIds() {
+        assertTrue(fixture.hasStableIds())
     }
 
     @Test
-    fun testGetGroupViewWithChildren() {
-        // setup
-        val wiFiDetail = WiFiDetail.EMPTY
-        whenever(accessPointsAdapterData.parent(1)).thenReturn(wiFiDetail)
-        whenever(accessPointsAdapterData.childrenCount(1)).thenReturn(5)
-        val view = withView(wiFiDetail, AccessPointViewType.COMPACT)
+    fun testOnCreateViewHolder() {
         // execute
-        val actual = fixture.getGroupView(1, false, view, viewGroup)
+        val actual = fixture.onCreateViewHolder(FrameLayout(mainActivity), AccessPointViewType.COMPLETE.layout)
         // validate
-        assertNotNull(actual)
-        assertEquals(View.VISIBLE, actual.findViewById<View>(R.id.groupIndicator).visibility)
-        verify(accessPointsAdapterData).parent(1)
-        verify(accessPointsAdapterData).childrenCount(1)
-        verifyView(view, wiFiDetail)
+        assertEquals(actual.itemView.findViewById<View>(R.id.groupIndicator), actual.groupIndicator)
+        assertEquals(actual.itemView.findViewById<View>(R.id.attachPopup), actual.attachPopup)
     }
 
     @Test
-    fun testGetChildView() {
+    fun testOnBindViewHolderWithNoChildren() {
         // setup
-        val wiFiDetail = WiFiDetail.EMPTY
-        whenever(accessPointsAdapterData.child(0, 0)).thenReturn(wiFiDetail)
-        val view = withChildView(wiFiDetail, AccessPointViewType.COMPLETE)
+        withItems(AccessPointViewType.COMPLETE, listOf(AccessPointItem(child)))
+        val holder = fixture.onCreateViewHolder(FrameLayout(mainActivity), AccessPointViewType.COMPLETE.layout)
         // execute
-        val actual = fixture.getChildView(0, 0, false, view, viewGroup)
+        fixture.onBindViewHolder(holder, 0)
         // validate
-        assertNotNull(actual)
-        assertEquals(View.GONE, actual.findViewById<View>(R.id.groupIndicator).visibility)
-        verify(accessPointsAdapterData).child(0, 0)
-        verifyChildView(view, wiFiDetail)
+        assertEquals(View.GONE, holder.groupIndicator.visibility)
+        verify(accessPointDetail).makeView(holder.itemView, null, child, false, AccessPointViewType.COMPLETE.layout)
+        verifyItems()
     }
 
     @Test
-    fun testGetChildViewCompactAddsPopup() {
+    fun testOnBindViewHolderWithChildren() {
         // setup
-        val wiFiDetail = WiFiDetail.EMPTY
-        whenever(accessPointsAdapterData.child(0, 0)).thenReturn(wiFiDetail)
-        val view = withChildView(wiFiDetail, AccessPointViewType.COMPACT)
+        withItems(AccessPointViewType.COMPLETE, listOf(AccessPointItem(parent)))
+        val holder = fixture.onCreateViewHolder(FrameLayout(mainActivity), AccessPointViewType.COMPLETE.layout)
         // execute
-        val actual = fixture.getChildView(0, 0, false, view, viewGroup)
+        fixture.onBindViewHolder(holder, 0)
         // validate
-        assertNotNull(actual)
-        assertEquals(View.GONE, actual.findViewById<View>(R.id.groupIndicator).visibility)
-        verify(accessPointsAdapterData).child(0, 0)
-        verifyChildView(view, wiFiDetail)
-        verify(accessPointPopup).attach(view.findViewById(R.id.attachPopup), wiFiDetail)
-        verify(accessPointPopup).attach(view.findViewById(R.id.ssid), wiFiDetail)
+        assertEquals(View.VISIBLE, holder.groupIndicator.visibility)
+        verify(accessPointDetail).makeView(holder.itemView, null, parent, false, AccessPointViewType.COMPLETE.layout)
+        verifyItems()
     }
 
     @Test
-    fun testUpdate() {
+    fun testOnBindViewHolderWithChild() {
         // setup
-        val wiFiData = WiFiData(listOf(), WiFiConnection.EMPTY)
+        withItems(AccessPointViewType.COMPLETE, listOf(AccessPointItem(child, true)))
+        val holder = fixture.onCreateViewHolder(FrameLayout(mainActivity), AccessPointViewType.COMPLETE.layout)
         // execute
-        fixture.update(wiFiData)
+        fixture.onBindViewHolder(holder, 0)
         // validate
-        verify(accessPointsAdapterData).update(wiFiData, expandableListView)
+        assertEquals(View.GONE, holder.groupIndicator.visibility)
+        verify(accessPointDetail).makeView(holder.itemView, null, child, true, AccessPointViewType.COMPLETE.layout)
+        verifyItems()
     }
 
     @Test
-    fun testGetGroupCount() {
+    fun testOnBindViewHolderCompactAddsPopup() {
         // setup
-        val expected = 5
-        whenever(accessPointsAdapterData.parentsCount()).thenReturn(expected)
+        withItems(AccessPointViewType.COMPACT, listOf(AccessPointItem(child)))
+        val holder = fixture.onCreateViewHolder(FrameLayout(mainActivity), AccessPointViewType.COMPACT.layout)
         // execute
-        val actual = fixture.groupCount
+        fixture.onBindViewHolder(holder, 0)
         // validate
-        assertEquals(expected, actual)
-        verify(accessPointsAdapterData).parentsCount()
+        verify(accessPointDetail).makeView(holder.itemView, null, child, false, AccessPointViewType.COMPACT.layout)
+        verify(accessPointPopup).attach(holder.itemView.findViewById(R.id.attachPopup), child)
+        verify(accessPointPopup).attach(holder.itemView.findViewById(R.id.ssid), child)
+        verifyItems()
     }
 
     @Test
-    fun testGetChildrenCount() {
+    fun testOnBindViewHolderWithSignalPayload() {
         // setup
-        val expected = 25
-        whenever(accessPointsAdapterData.childrenCount(1)).thenReturn(expected)
+        withItems(AccessPointViewType.COMPLETE, listOf(AccessPointItem(parent)))
+        val holder = fixture.onCreateViewHolder(FrameLayout(mainActivity), AccessPointViewType.COMPLETE.layout)
         // execute
-        val actual = fixture.getChildrenCount(1)
+        fixture.onBindViewHolder(holder, 0, mutableListOf(setOf(AccessPointChange.SIGNAL)))
         // validate
-        assertEquals(expected, actual)
-        verify(accessPointsAdapterData).childrenCount(1)
+        verify(accessPointDetail).updateSignal(holder.itemView, parent)
+        verify(accessPointDetail, never()).makeView(any(), anyOrNull(), any(), any(), any())
+        verifyItems()
     }
 
     @Test
-    fun testGetGroup() {
+    fun testOnBindViewHolderWithGroupPayload() {
         // setup
-        val expected = WiFiDetail.EMPTY
-        whenever(accessPointsAdapterData.parent(3)).thenReturn(expected)
+        withItems(AccessPointViewType.COMPLETE, listOf(AccessPointItem(parent, expanded = true)))
+        val holder = fixture.onCreateViewHolder(FrameLayout(mainActivity), AccessPointViewType.COMPLETE.layout)
         // execute
-        val actual = fixture.getGroup(3)
+        fixture.onBindViewHolder(holder, 0, mutableListOf(setOf(AccessPointChange.GROUP)))
         // validate
-        assertEquals(expected, actual)
-        verify(accessPointsAdapterData).parent(3)
+        assertEquals(View.VISIBLE, holder.groupIndicator.visibility)
+        verify(accessPointDetail, never()).updateSignal(any(), any())
+        verify(accessPointDetail, never()).makeView(any(), anyOrNull(), any(), any(), any())
+        verifyItems()
     }
 
     @Test
-    fun testGetChild() {
+    fun testOnBindViewHolderWithDetailPayload() {
         // setup
-        val expected = WiFiDetail.EMPTY
-        whenever(accessPointsAdapterData.child(1, 2)).thenReturn(expected)
+        withItems(AccessPointViewType.COMPLETE, listOf(AccessPointItem(parent)))
+        val holder = fixture.onCreateViewHolder(FrameLayout(mainActivity), AccessPointViewType.COMPLETE.layout)
         // execute
-        val actual = fixture.getChild(1, 2)
+        fixture.onBindViewHolder(holder, 0, mutableListOf(setOf(AccessPointChange.SIGNAL), setOf(AccessPointChange.DETAIL)))
         // validate
-        assertEquals(expected, actual)
-        verify(accessPointsAdapterData).child(1, 2)
-    }
-
-    @Test
-    fun testGetGroupId() {
-        assertEquals(22, fixture.getGroupId(22))
+        verify(accessPointDetail).makeView(holder.itemView, null, parent, false, AccessPointViewType.COMPLETE.layout)
+        verify(accessPointDetail, never()).updateSignal(any(), any())
+        verifyItems()
     }
 
     @Test
-    fun testGetChildId() {
-        assertEquals(11, fixture.getChildId(1, 11))
-    }
-
-    @Test
-    fun testHasStableIds() {
-        assertTrue(fixture.hasStableIds())
-    }
-
-    @Test
-    fun testIsChildSelectable() {
-        assertTrue(fixture.isChildSelectable(0, 0))
-    }
-
-    @Test
-    fun testOnGroupCollapsed() {
+    fun testToggle() {
         // setup
-        val index = 11
+        withItems(AccessPointViewType.COMPLETE, listOf(AccessPointItem(parent)))
         // execute
-        fixture.onGroupCollapsed(index)
+        fixture.toggle(0)
         // validate
-        verify(accessPointsAdapterData).onGroupCollapsed(index)
+        verify(accessPointsAdapterData).toggle(parent)
+        verify(accessPointsAdapterData).update(wiFiData)
+        verify(accessPointsAdapterData, times(2)).items()
     }
 
     @Test
-    fun testOnGroupExpanded() {
+    fun testToggleWithoutChildren() {
         // setup
-        val index = 22
+        withItems(AccessPointViewType.COMPLETE, listOf(AccessPointItem(parent, true), AccessPointItem(child)))
         // execute
-        fixture.onGroupExpanded(index)
+        fixture.toggle(0)
+        fixture.toggle(1)
         // validate
-        verify(accessPointsAdapterData).onGroupExpanded(index)
-    }
-
-    private fun withView(wiFiDetail: WiFiDetail, accessPointViewType: AccessPointViewType): View {
-        val view = mainActivity.layoutInflater.inflate(accessPointViewType.layout, null, false)
-        whenever(settings.accessPointView()).thenReturn(accessPointViewType)
-        whenever(accessPointDetail.makeView(view, viewGroup, wiFiDetail)).thenReturn(view)
-        return view
+        verifyItems()
     }
 
-    private fun withChildView(wiFiDetail: WiFiDetail, accessPointViewType: AccessPointViewType): View {
-        val view = mainActivity.layoutInflater.inflate(accessPointViewType.layout, null, true)
+    private fun withItems(accessPointViewType: AccessPointViewType, items: List<AccessPointItem>) {
         whenever(settings.accessPointView()).thenReturn(accessPointViewType)
-        whenever(accessPointDetail.makeView(view, viewGroup, wiFiDetail, true)).thenReturn(view)
-        return view
-    }
-
-    private fun verifyView(view: View, wiFiDetail: WiFiDetail) {
-        verify(accessPointDetail).makeView(view, viewGroup, wiFiDetail)
+        whenever(accessPointsAdapterData.items()).thenReturn(items)
+        fixture.update(wiFiData)
     }
 
-    private fun verifyChildView(view: View, wiFiDetail: WiFiDetail) {
-        verify(accessPointDetail).makeView(view, viewGroup, wiFiDetail, true)
+    private fun verifyItems() {
+        verify(accessPointsAdapterData).update(wiFiData)
+        verify(accessPointsAdapterData).items()
     }
-}
\ No newline at end of file
+}
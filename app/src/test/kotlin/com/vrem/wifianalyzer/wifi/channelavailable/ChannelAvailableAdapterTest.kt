@@ -29,6 +29,7 @@ import com.vrem.wifianalyzer.R
 import com.vrem.wifianalyzer.RobolectricUtil
 import com.vrem.wifianalyzer.wifi.band.WiFiBand
 import com.vrem.wifianalyzer.wifi.band.WiFiChannelCountry.Companion.find
+import com.vrem.wifianalyzer.wifi.band.textResource
 import org.junit.After
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertNotNull
@@ -22,6 +22,8 @@ import com.nhaarman.mockitokotlin2.verify
 import com.nhaarman.mockitokotlin2.verifyNoMoreInteractions
 import com.vrem.wifianalyzer.settings.Settings
 import com.vrem.wifianalyzer.wifi.model.Strength
+import com.vrem.wifianalyzer.wifi.model.colorResource
+import com.vrem.wifianalyzer.wifi.model.colorResourceDefault
 import org.junit.After
 import org.junit.Assert.*
 import org.junit.Test
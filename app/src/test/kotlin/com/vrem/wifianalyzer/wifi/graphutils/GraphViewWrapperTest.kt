@@ -163,12 +163,11 @@ class GraphViewWrapperTest {
     }
 
     @Test
-    fun testAppendSeriesWhenSeriesDoesNotExistsDoesNotUpdateSeries() {
+    fun testRefreshSeriesWhenSeriesDoesNotExistsDoesNotRefreshSeries() {
         // setup
-        val count = 10
         whenever(seriesCache.contains(wiFiDetail)).thenReturn(false)
         // execute
-        val actual = fixture.appendToSeries(wiFiDetail, dataPoint, count, true)
+        val actual = fixture.refreshSeries(wiFiDetail, true)
         // validate
         assertFalse(actual)
         verify(seriesCache).contains(wiFiDetail)
@@ -176,23 +175,32 @@ class GraphViewWrapperTest {
     }
 
     @Test
-    fun testAppendSeriesWhenSeriesDoesExists() {
+    fun testRefreshSeriesWhenSeriesDoesExists() {
         // setup
-        val count = 10
         val connected = wiFiDetail.wiFiAdditional.wiFiConnection.connected
         whenever(seriesCache.contains(wiFiDetail)).thenReturn(true)
         whenever(seriesCache[wiFiDetail]).thenReturn(baseSeries)
         // execute
-        val actual = fixture.appendToSeries(wiFiDetail, dataPoint, count, true)
+        val actual = fixture.refreshSeries(wiFiDetail, true)
         // validate
         assertTrue(actual)
         verify(seriesCache).contains(wiFiDetail)
         verify(seriesCache)[wiFiDetail]
-        verify(baseSeries).appendData(dataPoint, true, count + 1)
         verify(seriesOptions).highlightConnected(baseSeries, connected)
         verify(seriesOptions).drawBackground(baseSeries, true)
     }
 
+    @Test
+    fun testScrollToEnd() {
+        // setup
+        whenever(graphView.viewport).thenReturn(viewport)
+        // execute
+        fixture.scrollToEnd()
+        // validate
+        verify(graphView).viewport
+        verify(viewport).scrollToEnd()
+    }
+
     @Test
     fun testUpdateLegend() {
         // setup
@@ -185,6 +185,38 @@ class SeriesCacheTest {
         assertEquals(wiFiDetails[1], actual)
     }
 
+    @Test
+    fun testFindReplacedSeries() {
+        // setup
+        val wiFiDetails = withData()
+        fixture.put(wiFiDetails[0], series3)
+        // execute
+        val actual = fixture.find(series3)
+        // validate
+        assertEquals(wiFiDetails[0], actual)
+    }
+
+    @Test(expected = NoSuchElementException::class)
+    fun testFindRemovedSeries() {
+        // setup
+        val wiFiDetails = withData()
+        fixture.remove(wiFiDetails.subList(1, 2))
+        // execute
+        fixture.find(series2)
+    }
+
+    @Test
+    fun testDifferenceWithNewSeries() {
+        // setup
+        val expected = withData()
+        val wiFiDetail = makeWiFiDetail("SSID-999")
+        fixture.difference(expected.toSet())
+        // execute
+        val actual = fixture.difference(setOf(wiFiDetail, expected[1]))
+        // validate
+        assertEquals(listOf(expected[0], expected[2]), actual)
+    }
+
     private fun makeWiFiDetail(SSID: String): WiFiDetail {
         return WiFiDetail(
                 WiFiIdentifier(SSID, "BSSID"),
@@ -0,0 +1,128 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.manager
+
+import android.content.BroadcastReceiver
+import android.content.Context
+import android.content.Intent
+import android.content.IntentFilter
+import android.net.wifi.WifiManager
+import android.os.Build
+import android.os.Handler
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.nhaarman.mockitokotlin2.*
+import org.junit.After
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.annotation.Config
+import java.util.concurrent.Executor
+
+@RunWith(AndroidJUnit4::class)
+@Config(sdk = [Build.VERSION_CODES.Q])
+class ScanResultsSubscriptionTest {
+    private val wifiManager: WifiManager = mock()
+    private val context: Context = mock()
+    private val handler: Handler = mock()
+    private val fixture = spy(ScanResultsSubscription(wifiManager))
+    private var notified = 0
+    private val listener: () -> Unit = { notified++ }
+
+    @After
+    fun tearDown() {
+        verifyNoMoreInteractions(wifiManager)
+        verifyNoMoreInteractions(context)
+    }
+
+    @Test
+    fun testSubscribe() {
+        // setup
+        doReturn(false).whenever(fixture).minVersionR()
+        // execute
+        fixture.subscribe(context, handler, listener)
+        // validate
+        assertTrue(fixture.subscribed())
+        val filter = argumentCaptor<IntentFilter>()
+        verify(context).registerReceiver(any(), filter.capture(), eq(null), eq(handler))
+        assertTrue(filter.firstValue.hasAction(WifiManager.SCAN_RESULTS_AVAILABLE_ACTION))
+    }
+
+    @Test
+    fun testSubscribeNotifiesUpdatedResults() {
+        // setup
+        doReturn(false).whenever(fixture).minVersionR()
+        fixture.subscribe(context, handler, listener)
+        val receiver = argumentCaptor<BroadcastReceiver>()
+        verify(context).registerReceiver(receiver.capture(), any(), eq(null), eq(handler))
+        // execute
+        receiver.firstValue.onReceive(context, Intent(WifiManager.SCAN_RESULTS_AVAILABLE_ACTION))
+        receiver.firstValue.onReceive(context, Intent(WifiManager.SCAN_RESULTS_AVAILABLE_ACTION)
+                .putExtra(WifiManager.EXTRA_RESULTS_UPDATED, false))
+        // validate
+        assertEquals(1, notified)
+    }
+
+    @Test
+    fun testUnsubscribe() {
+        // setup
+        doReturn(false).whenever(fixture).minVersionR()
+        fixture.subscribe(context, handler, listener)
+        val receiver = argumentCaptor<BroadcastReceiver>()
+        verify(context).registerReceiver(receiver.capture(), any(), eq(null), eq(handler))
+        // execute
+        fixture.unsubscribe(context)
+        fixture.unsubscribe(context)
+        // validate
+        assertFalse(fixture.subscribed())
+        verify(context).unregisterReceiver(receiver.firstValue)
+    }
+
+    @Test
+    fun testSubscribeWithAndroidR() {
+        // setup
+        doReturn(true).whenever(fixture).minVersionR()
+        // execute
+        fixture.subscribe(context, handler, listener)
+        // validate
+        assertTrue(fixture.subscribed())
+        val executor = argumentCaptor<Executor>()
+        val callback = argumentCaptor<WifiManager.ScanResultsCallback>()
+        verify(wifiManager).registerScanResultsCallback(executor.capture(), callback.capture())
+        callback.firstValue.onScanResultsAvailable()
+        assertEquals(1, notified)
+        executor.firstValue.execute {}
+        verify(handler).post(any())
+    }
+
+    @Test
+    fun testUnsubscribeWithAndroidR() {
+        // setup
+        doReturn(true).whenever(fixture).minVersionR()
+        fixture.subscribe(context, handler, listener)
+        val callback = argumentCaptor<WifiManager.ScanResultsCallback>()
+        verify(wifiManager).registerScanResultsCallback(any(), callback.capture())
+        // execute
+        fixture.unsubscribe(context)
+        // validate
+        assertFalse(fixture.subscribed())
+        verify(wifiManager).unregisterScanResultsCallback(callback.firstValue)
+    }
+
+}
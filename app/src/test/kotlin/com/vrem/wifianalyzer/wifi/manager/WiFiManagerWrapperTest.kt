@@ -17,9 +17,11 @@
  */
 package com.vrem.wifianalyzer.wifi.manager
 
+import android.content.Context
 import android.net.wifi.ScanResult
 import android.net.wifi.WifiInfo
 import android.net.wifi.WifiManager
+import android.os.Handler
 import com.nhaarman.mockitokotlin2.*
 import org.junit.After
 import org.junit.Assert.*
@@ -29,12 +31,17 @@ class WiFiManagerWrapperTest {
     private val wifiManager: WifiManager = mock()
     private val wiFiSwitch: WiFiSwitch = mock()
     private val wifiInfo: WifiInfo = mock()
-    private val fixture = spy(WiFiManagerWrapper(wifiManager, wiFiSwitch))
+    private val scanResultsSubscription: ScanResultsSubscription = mock()
+    private val context: Context = mock()
+    private val handler: Handler = mock()
+    private val listener: () -> Unit = {}
+    private val fixture = spy(WiFiManagerWrapper(wifiManager, wiFiSwitch, scanResultsSubscription))
 
     @After
     fun tearDown() {
         verifyNoMoreInteractions(wifiManager)
         verifyNoMoreInteractions(wiFiSwitch)
+        verifyNoMoreInteractions(scanResultsSubscription)
     }
 
     @Test
@@ -268,4 +275,80 @@ class WiFiManagerWrapperTest {
         verify(fixture).minVersionR()
     }
 
+    @Test
+    fun testSubscribeScanResults() {
+        // execute
+        val actual = fixture.subscribeScanResults(context, handler, listener)
+        // validate
+        assertTrue(actual)
+        verify(scanResultsSubscription).subscribe(context, handler, listener)
+    }
+
+    @Test
+    fun testSubscribeScanResultsWithException() {
+        // setup
+        whenever(scanResultsSubscription.subscribe(context, handler, listener)).thenThrow(RuntimeException())
+        // execute
+        val actual = fixture.subscribeScanResults(context, handler, listener)
+        // validate
+        assertFalse(actual)
+        verify(scanResultsSubscription).subscribe(context, handler, listener)
+    }
+
+    @Test
+    fun testUnsubscribeScanResults() {
+        // execute
+        fixture.unsubscribeScanResults(context)
+        // validate
+        verify(scanResultsSubscription).unsubscribe(context)
+    }
+
+    @Test
+    fun testUnsubscribeScanResultsWithException() {
+        // setup
+        whenever(scanResultsSubscription.unsubscribe(context)).thenThrow(RuntimeException())
+        // execute
+        fixture.unsubscribeScanResults(context)
+        // validate
+        verify(scanResultsSubscription).unsubscribe(context)
+    }
+
+    @Test
+    fun testScanThrottleEnabled() {
+        // setup
+        doReturn(false).whenever(fixture).minVersionR()
+        // execute
+        val actual = fixture.scanThrottleEnabled()
+        // validate
+        assertTrue(actual)
+        verify(wifiManager, never()).isScanThrottleEnabled
+        verify(fixture).minVersionR()
+    }
+
+    @Test
+    fun testScanThrottleEnabledWithAndroidR() {
+        // setup
+        doReturn(true).whenever(fixture).minVersionR()
+        whenever(wifiManager.isScanThrottleEnabled).thenReturn(false)
+        // execute
+        val actual = fixture.scanThrottleEnabled()
+        // validate
+        assertFalse(actual)
+        verify(wifiManager).isScanThrottleEnabled
+        verify(fixture).minVersionR()
+    }
+
+    @Test
+    fun testScanThrottleEnabledWithException() {
+        // setup
+        doReturn(true).whenever(fixture).minVersionR()
+        whenever(wifiManager.isScanThrottleEnabled).thenThrow(RuntimeException())
+        // execute
+        val actual = fixture.scanThrottleEnabled()
+        // validate
+        assertTrue(actual)
+        verify(wifiManager).isScanThrottleEnabled
+        verify(fixture).minVersionR()
+    }
+
 }
\ No newline at end of file
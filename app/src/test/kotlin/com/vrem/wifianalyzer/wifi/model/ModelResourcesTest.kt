@@ -15,22 +15,45 @@
  * You should have received a copy of the GNU General Public License
  * along with this program.  If not, see <http://www.gnu.org/licenses/>
  */
-
 package com.vrem.wifianalyzer.wifi.model
 
-import android.net.wifi.ScanResult
 import com.vrem.wifianalyzer.R
 import org.junit.Assert.assertEquals
 import org.junit.Test
 
-class WiFiStandardTest {
+class ModelResourcesTest {
+
+    @Test
+    fun testSecurityImageResource() {
+        assertEquals(R.drawable.ic_lock_open, Security.NONE.imageResource)
+        assertEquals(R.drawable.ic_lock_outline, Security.WPS.imageResource)
+        assertEquals(R.drawable.ic_lock_outline, Security.WEP.imageResource)
+        assertEquals(R.drawable.ic_lock, Security.WPA.imageResource)
+        assertEquals(R.drawable.ic_lock, Security.WPA2.imageResource)
+        assertEquals(R.drawable.ic_lock, Security.WPA3.imageResource)
+    }
+
     @Test
-    fun testWidth() {
-        assertEquals(5, WiFiStandard.values().size)
+    fun testStrengthImageResource() {
+        assertEquals(R.drawable.ic_signal_wifi_0_bar, Strength.ZERO.imageResource)
+        assertEquals(R.drawable.ic_signal_wifi_1_bar, Strength.ONE.imageResource)
+        assertEquals(R.drawable.ic_signal_wifi_2_bar, Strength.TWO.imageResource)
+        assertEquals(R.drawable.ic_signal_wifi_3_bar, Strength.THREE.imageResource)
+        assertEquals(R.drawable.ic_signal_wifi_4_bar, Strength.FOUR.imageResource)
     }
 
     @Test
-    fun testNameResource() {
+    fun testStrengthColorResource() {
+        assertEquals(R.color.error, Strength.ZERO.colorResource)
+        assertEquals(R.color.warning, Strength.ONE.colorResource)
+        assertEquals(R.color.warning, Strength.TWO.colorResource)
+        assertEquals(R.color.success, Strength.THREE.colorResource)
+        assertEquals(R.color.success, Strength.FOUR.colorResource)
+        assertEquals(R.color.regular, Strength.colorResourceDefault)
+    }
+
+    @Test
+    fun testWiFiStandardNameResource() {
         assertEquals(R.string.wifi_standard_unknown, WiFiStandard.UNKNOWN.nameResource)
         assertEquals(R.string.wifi_standard_legacy, WiFiStandard.LEGACY.nameResource)
         assertEquals(R.string.wifi_standard_n, WiFiStandard.N.nameResource)
@@ -39,7 +62,7 @@ class WiFiStandardTest {
     }
 
     @Test
-    fun testImageResource() {
+    fun testWiFiStandardImageResource() {
         assertEquals(R.drawable.ic_wifi_unknown, WiFiStandard.UNKNOWN.imageResource)
         assertEquals(R.drawable.ic_wifi_legacy, WiFiStandard.LEGACY.imageResource)
         assertEquals(R.drawable.ic_wifi_4, WiFiStandard.N.imageResource)
@@ -47,15 +70,4 @@ class WiFiStandardTest {
         assertEquals(R.drawable.ic_wifi_6, WiFiStandard.AX.imageResource)
     }
 
-    @Test
-    fun testFindOne() {
-        assertEquals(WiFiStandard.UNKNOWN, WiFiStandard.findOne(ScanResult.WIFI_STANDARD_UNKNOWN))
-        assertEquals(WiFiStandard.LEGACY, WiFiStandard.findOne(ScanResult.WIFI_STANDARD_LEGACY))
-        assertEquals(WiFiStandard.N, WiFiStandard.findOne(ScanResult.WIFI_STANDARD_11N))
-        assertEquals(WiFiStandard.AC, WiFiStandard.findOne(ScanResult.WIFI_STANDARD_11AC))
-        assertEquals(WiFiStandard.AX, WiFiStandard.findOne(ScanResult.WIFI_STANDARD_11AX))
-        assertEquals(WiFiStandard.UNKNOWN, WiFiStandard.findOne(ScanResult.WIFI_STANDARD_UNKNOWN - 1))
-        assertEquals(WiFiStandard.UNKNOWN, WiFiStandard.findOne(ScanResult.WIFI_STANDARD_11AX + 1))
-    }
-
-}
\ No newline at end of file
+}
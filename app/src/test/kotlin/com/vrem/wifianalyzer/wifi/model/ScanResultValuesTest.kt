@@ -0,0 +1,44 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.model
+
+import android.net.wifi.ScanResult
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class ScanResultValuesTest {
+
+    @Test
+    fun testWiFiWidth() {
+        assertEquals(ScanResult.CHANNEL_WIDTH_20MHZ, WiFiWidth.MHZ_20.channelWidth)
+        assertEquals(ScanResult.CHANNEL_WIDTH_40MHZ, WiFiWidth.MHZ_40.channelWidth)
+        assertEquals(ScanResult.CHANNEL_WIDTH_80MHZ, WiFiWidth.MHZ_80.channelWidth)
+        assertEquals(ScanResult.CHANNEL_WIDTH_160MHZ, WiFiWidth.MHZ_160.channelWidth)
+        assertEquals(ScanResult.CHANNEL_WIDTH_80MHZ_PLUS_MHZ, WiFiWidth.MHZ_80_PLUS.channelWidth)
+    }
+
+    @Test
+    fun testWiFiStandard() {
+        assertEquals(ScanResult.WIFI_STANDARD_UNKNOWN, WiFiStandard.UNKNOWN.wiFiStandardId)
+        assertEquals(ScanResult.WIFI_STANDARD_LEGACY, WiFiStandard.LEGACY.wiFiStandardId)
+        assertEquals(ScanResult.WIFI_STANDARD_11N, WiFiStandard.N.wiFiStandardId)
+        assertEquals(ScanResult.WIFI_STANDARD_11AC, WiFiStandard.AC.wiFiStandardId)
+        assertEquals(ScanResult.WIFI_STANDARD_11AX, WiFiStandard.AX.wiFiStandardId)
+    }
+
+}
@@ -17,10 +17,7 @@
  */
 package com.vrem.wifianalyzer.wifi.predicate
 
-import com.nhaarman.mockitokotlin2.mock
-import com.nhaarman.mockitokotlin2.verify
-import com.nhaarman.mockitokotlin2.verifyNoMoreInteractions
-import com.nhaarman.mockitokotlin2.whenever
+import com.nhaarman.mockitokotlin2.*
 import com.vrem.wifianalyzer.settings.Settings
 import com.vrem.wifianalyzer.wifi.band.WiFiBand
 import com.vrem.wifianalyzer.wifi.model.*
@@ -28,10 +25,6 @@ import org.junit.After
 import org.junit.Assert.*
 import org.junit.Test
 
-internal enum class TestObject {
-    VALUE1, VALUE3, VALUE2
-}
-
 class PredicateTest {
     private val ssid = "SSID"
     private val wpa2 = "WPA2"
@@ -118,6 +111,37 @@ class PredicateTest {
         verifySettings()
     }
 
+    @Test
+    fun testMakeAccessPointsPredicateIsReusedWithSameSettings() {
+        // setup
+        whenSettings()
+        val expected: Predicate = makeAccessPointsPredicate(settings)
+        // execute
+        val actual: Predicate = makeAccessPointsPredicate(settings)
+        // validate
+        assertSame(expected, actual)
+        verify(settings, times(2)).findSSIDs()
+        verify(settings, times(2)).findWiFiBands()
+        verify(settings, times(2)).findStrengths()
+        verify(settings, times(2)).findSecurities()
+    }
+
+    @Test
+    fun testMakeAccessPointsPredicateIsNotReusedWithDifferentSettings() {
+        // setup
+        whenSettings()
+        val expected: Predicate = makeAccessPointsPredicate(settings)
+        whenever(settings.findWiFiBands()).thenReturn(setOf(WiFiBand.GHZ5))
+        // execute
+        val actual: Predicate = makeAccessPointsPredicate(settings)
+        // validate
+        assertNotSame(expected, actual)
+        verify(settings, times(2)).findSSIDs()
+        verify(settings, times(2)).findWiFiBands()
+        verify(settings, times(2)).findStrengths()
+        verify(settings, times(2)).findSecurities()
+    }
+
     @Test
     fun testMakeOtherPredicate() {
         // setup
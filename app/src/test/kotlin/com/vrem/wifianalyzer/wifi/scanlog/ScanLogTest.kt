@@ -0,0 +1,197 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanlog
+
+import com.nhaarman.mockitokotlin2.*
+import com.vrem.wifianalyzer.settings.Settings
+import org.junit.After
+import org.junit.Assert.*
+import org.junit.Before
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+class ScanLogTest {
+    @get:Rule
+    val temporaryFolder = TemporaryFolder()
+
+    private val settings: Settings = mock()
+    private val scanRecord = ScanRecord(1000, listOf(scanResultRecord()), null)
+    private val executors: MutableList<ExecutorService> = mutableListOf()
+    private lateinit var fixture: ScanLog
+
+    @Before
+    fun setUp() {
+        fixture = ScanLog(settings, temporaryFolder.root) {
+            Executors.newSingleThreadExecutor().also { executors.add(it) }
+        }
+    }
+
+    @After
+    fun tearDown() {
+        verifyNoMoreInteractions(settings)
+    }
+
+    @Test
+    fun testRecord() {
+        // setup
+        whenever(settings.scanLog()).thenReturn(true)
+        // execute
+        fixture.record(scanRecord)
+        fixture.record(scanRecord)
+        fixture.close()
+        // validate
+        awaitTermination()
+        val actual = read()
+        assertEquals(2, actual.size)
+        assertEquals(scanRecord, actual[0])
+        verify(settings, times(2)).scanLog()
+    }
+
+    @Test
+    fun testRecordWhenDisabled() {
+        // setup
+        whenever(settings.scanLog()).thenReturn(false)
+        whenever(settings.backgroundLog()).thenReturn(false)
+        // execute
+        fixture.record(scanRecord)
+        // validate
+        assertTrue(executors.isEmpty())
+        assertTrue(fixture.files().isEmpty())
+        verify(settings).scanLog()
+        verify(settings).backgroundLog()
+    }
+
+    @Test
+    fun testRecordWhenBackgroundLog() {
+        // setup
+        whenever(settings.scanLog()).thenReturn(false)
+        whenever(settings.backgroundLog()).thenReturn(true)
+        // execute
+        fixture.record(scanRecord)
+        fixture.close()
+        // validate
+        awaitTermination()
+        assertEquals(listOf(scanRecord), read())
+        verify(settings).scanLog()
+        verify(settings).backgroundLog()
+    }
+
+    @Test
+    fun testRecordFlushesInBatches() {
+        // setup
+        whenever(settings.scanLog()).thenReturn(true)
+        // execute
+        repeat(FLUSH_SCANS - 1) { fixture.record(scanRecord) }
+        awaitWrites()
+        val pending = read()
+        fixture.record(scanRecord)
+        awaitWrites()
+        val flushed = read()
+        // validate
+        assertTrue(pending.isEmpty())
+        assertEquals(FLUSH_SCANS, flushed.size)
+        verify(settings, times(FLUSH_SCANS)).scanLog()
+        fixture.close()
+        awaitTermination()
+    }
+
+    @Test
+    fun testRecordFlushesAfterInterval() {
+        // setup
+        whenever(settings.scanLog()).thenReturn(true)
+        val later = scanRecord.copy(timestamp = System.currentTimeMillis() + 2 * FLUSH_INTERVAL)
+        // execute
+        fixture.record(scanRecord)
+        fixture.record(later)
+        awaitWrites()
+        // validate
+        assertEquals(listOf(scanRecord, later), read())
+        verify(settings, times(2)).scanLog()
+        fixture.close()
+        awaitTermination()
+    }
+
+    @Test
+    fun testRecordClosesWhenDisabled() {
+        // setup
+        whenever(settings.scanLog()).thenReturn(true, false, true)
+        whenever(settings.backgroundLog()).thenReturn(false)
+        // execute
+        fixture.record(scanRecord)
+        fixture.record(scanRecord)
+        fixture.record(scanRecord)
+        fixture.close()
+        // validate
+        awaitTermination()
+        assertEquals(2, executors.size)
+        assertTrue(executors[0].isShutdown)
+        verify(settings, times(3)).scanLog()
+        verify(settings).backgroundLog()
+    }
+
+    @Test
+    fun testRecordImmediatelyAfterClose() {
+        // setup
+        whenever(settings.scanLog()).thenReturn(true)
+        val closing = CountDownLatch(1)
+        fixture = ScanLog(settings, temporaryFolder.root) {
+            Executors.newSingleThreadExecutor().also {
+                if (executors.isEmpty()) {
+                    it.execute { closing.await() }
+                }
+                executors.add(it)
+            }
+        }
+        // execute
+        repeat(FLUSH_SCANS / 2) { fixture.record(scanRecord) }
+        fixture.close()
+        repeat(FLUSH_SCANS / 2) { fixture.record(scanRecord) }
+        executors[1].submit {}.get(5, TimeUnit.SECONDS)
+        closing.countDown()
+        fixture.close()
+        // validate
+        awaitTermination()
+        assertEquals(2, fixture.files().size)
+        assertEquals(FLUSH_SCANS, read().size)
+        verify(settings, times(FLUSH_SCANS)).scanLog()
+    }
+
+    private fun awaitWrites() {
+        executors.forEach { it.submit {}.get(5, TimeUnit.SECONDS) }
+    }
+
+    private fun awaitTermination() {
+        executors.forEach { assertTrue(it.awaitTermination(5, TimeUnit.SECONDS)) }
+    }
+
+    private fun read(): List<ScanRecord> =
+            fixture.files().flatMap { file ->
+                ScanLogReader(file.inputStream()).use { reader ->
+                    generateSequence { reader.read() }.toList()
+                }
+            }
+
+    private fun scanResultRecord(): ScanResultRecord =
+            ScanResultRecord("SSID", "BSSID", "[ESS]", 5180, 5190, 1, 5, true, -60)
+
+}
@@ -0,0 +1,82 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import android.content.Intent
+import android.os.Build
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.nhaarman.mockitokotlin2.verify
+import com.nhaarman.mockitokotlin2.verifyNoMoreInteractions
+import com.vrem.wifianalyzer.MainContextHelper
+import org.junit.After
+import org.junit.Assert.*
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
+import org.robolectric.annotation.Config
+import org.robolectric.shadows.ShadowPowerManager
+
+@RunWith(AndroidJUnit4::class)
+@Config(sdk = [Build.VERSION_CODES.Q])
+class BackgroundScanServiceTest {
+    private val scannerService = MainContextHelper.INSTANCE.scannerService
+    private val serviceController = Robolectric.buildService(BackgroundScanService::class.java)
+    private val fixture = serviceController.create().get()
+
+    @After
+    fun tearDown() {
+        verifyNoMoreInteractions(scannerService)
+        MainContextHelper.INSTANCE.restore()
+    }
+
+    @Test
+    fun testStartCommand() {
+        // execute
+        fixture.onStartCommand(Intent(), 0, 1)
+        // validate
+        assertTrue(ShadowPowerManager.getLatestWakeLock().isHeld)
+        assertNotNull(shadowOf(fixture).lastForegroundNotification)
+        verify(scannerService).resume()
+        serviceController.destroy()
+    }
+
+    @Test
+    fun testDestroy() {
+        // setup
+        fixture.onStartCommand(Intent(), 0, 1)
+        // execute
+        serviceController.destroy()
+        // validate
+        assertFalse(ShadowPowerManager.getLatestWakeLock().isHeld)
+        verify(scannerService).resume()
+    }
+
+    @Test
+    fun testStopAction() {
+        // setup
+        val intent = Intent().setAction(BackgroundScanService.ACTION_STOP)
+        // execute
+        fixture.onStartCommand(intent, 0, 1)
+        // validate
+        assertTrue(shadowOf(fixture).isStoppedBySelf)
+        verify(scannerService).pause()
+        verify(scannerService).stop()
+    }
+
+}
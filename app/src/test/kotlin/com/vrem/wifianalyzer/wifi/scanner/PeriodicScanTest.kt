@@ -18,17 +18,21 @@
 package com.vrem.wifianalyzer.wifi.scanner
 
 import android.os.Handler
+import com.nhaarman.mockitokotlin2.any
+import com.nhaarman.mockitokotlin2.eq
 import com.nhaarman.mockitokotlin2.mock
 import com.nhaarman.mockitokotlin2.verify
 import com.nhaarman.mockitokotlin2.whenever
 import com.vrem.wifianalyzer.settings.Settings
+import org.junit.Assert.assertEquals
 import org.junit.Test
 
 class PeriodicScanTest {
     private val handler: Handler = mock()
     private val settings: Settings = mock()
-    private val scanner: ScannerService = mock()
-    private val fixture: PeriodicScan = PeriodicScan(scanner, handler, settings)
+    private val scanner: Scanner = mock()
+    private val scanBudget: ScanBudget = mock()
+    private val fixture: PeriodicScan = PeriodicScan(scanner, handler, settings, scanBudget)
 
     @Test
     fun testRun() {
@@ -39,11 +43,38 @@ class PeriodicScanTest {
         // execute
         fixture.run()
         // validate
-        verify(scanner).update()
+        verify(scanner).refresh()
         verify(handler).removeCallbacks(fixture)
         verify(handler).postDelayed(fixture, scanSpeed * delayInterval)
     }
 
+    @Test
+    fun testRunWithScanBudgetExhausted() {
+        // setup
+        val delay = 25_000L
+        whenever(settings.scanSpeed()).thenReturn(5)
+        whenever(scanBudget.pace()).thenReturn(SCAN_BUDGET_PERIOD / SCAN_BUDGET_CAPACITY)
+        whenever(scanBudget.delay(any())).thenReturn(delay + SCAN_BUDGET_PERIOD / SCAN_BUDGET_CAPACITY)
+        // execute
+        fixture.run()
+        // validate
+        verify(scanner).refresh()
+        verify(handler).postDelayed(fixture, delay + SCAN_BUDGET_PERIOD / SCAN_BUDGET_CAPACITY)
+    }
+
+    @Test
+    fun testDelayWithThrottle() {
+        // setup
+        val now = 1000L
+        whenever(settings.scanSpeed()).thenReturn(5)
+        whenever(scanBudget.pace()).thenReturn(SCAN_BUDGET_PERIOD / SCAN_BUDGET_CAPACITY)
+        // execute
+        val actual = fixture.delay(now)
+        // validate
+        assertEquals(SCAN_BUDGET_PERIOD / SCAN_BUDGET_CAPACITY, actual)
+        verify(scanBudget).delay(eq(now))
+    }
+
     @Test
     fun testStop() {
         // execute
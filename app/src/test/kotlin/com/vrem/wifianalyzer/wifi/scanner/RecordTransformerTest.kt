@@ -0,0 +1,185 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import android.net.wifi.ScanResult
+import android.net.wifi.WifiInfo
+import com.nhaarman.mockitokotlin2.*
+import com.vrem.wifianalyzer.wifi.model.WiFiStandard
+import com.vrem.wifianalyzer.wifi.model.WiFiWidth
+import com.vrem.wifianalyzer.wifi.scanlog.ConnectionRecord
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
+import org.junit.After
+import org.junit.Assert.*
+import org.junit.Test
+
+class RecordTransformerTest {
+    private val scanResult = withScanResult()
+    private val wifiInfo: WifiInfo = mock()
+    private val fixture = spy(RecordTransformer())
+
+    @After
+    fun tearDown() {
+        verifyNoMoreInteractions(wifiInfo)
+    }
+
+    @Test
+    fun testScanRecord() {
+        // setup
+        doReturn(true).whenever(fixture).minVersionM()
+        doReturn(true).whenever(fixture).minVersionR()
+        whenever(scanResult.is80211mcResponder).thenReturn(true)
+        withWiFiInfo()
+        // execute
+        val actual = fixture.scanRecord(TIMESTAMP, listOf(scanResult), wifiInfo)
+        // validate
+        assertEquals(TIMESTAMP, actual.timestamp)
+        assertEquals(listOf(ScanResultRecord(SSID, BSSID, WPA, FREQUENCY, CENTER_FREQUENCY,
+                WiFiWidth.MHZ_40.channelWidth, WiFiStandard.AX.wiFiStandardId, true, LEVEL)), actual.scanResults)
+        assertEquals(ConnectionRecord(SSID, BSSID, IP_ADDRESS, LINK_SPEED), actual.connection)
+        verifyWiFiInfo()
+    }
+
+    @Test
+    fun testScanResultRecordLegacy() {
+        // execute
+        val actual = fixture.scanResultRecord(scanResult)
+        // validate
+        assertEquals(ScanResultRecord(SSID, BSSID, WPA, FREQUENCY, 0,
+                WiFiWidth.MHZ_20.channelWidth, WiFiStandard.UNKNOWN.wiFiStandardId, false, LEVEL), actual)
+    }
+
+    @Test
+    fun testConnectionRecordWithNull() {
+        // execute
+        val actual = fixture.connectionRecord(null)
+        // validate
+        assertNull(actual)
+    }
+
+    @Test
+    fun testConnectionRecordNotConnected() {
+        // setup
+        whenever(wifiInfo.networkId).thenReturn(-1)
+        // execute
+        val actual = fixture.connectionRecord(wifiInfo)
+        // validate
+        assertNull(actual)
+        verify(wifiInfo).networkId
+    }
+
+    @Test
+    fun testChannelWidth() {
+        // setup
+        doReturn(true).whenever(fixture).minVersionM()
+        // execute
+        val actual = fixture.channelWidth(scanResult)
+        // validate
+        assertEquals(WiFiWidth.MHZ_40.channelWidth, actual)
+        verify(fixture).minVersionM()
+    }
+
+    @Test
+    fun testChannelWidthLegacy() {
+        // execute
+        val actual = fixture.channelWidth(scanResult)
+        // validate
+        assertEquals(WiFiWidth.MHZ_20.channelWidth, actual)
+    }
+
+    @Test
+    fun testWiFiStandard() {
+        // setup
+        doReturn(true).whenever(fixture).minVersionR()
+        // execute
+        val actual = fixture.wiFiStandard(scanResult)
+        // validate
+        assertEquals(WiFiStandard.AX.wiFiStandardId, actual)
+        verify(fixture).minVersionR()
+    }
+
+    @Test
+    fun testWiFiStandardLegacy() {
+        // execute
+        val actual = fixture.wiFiStandard(scanResult)
+        // validate
+        assertEquals(WiFiStandard.UNKNOWN.wiFiStandardId, actual)
+    }
+
+    @Test
+    fun testMc80211() {
+        // setup
+        doReturn(true).whenever(fixture).minVersionM()
+        whenever(scanResult.is80211mcResponder).thenReturn(true)
+        // execute
+        val actual = fixture.mc80211(scanResult)
+        // validate
+        assertTrue(actual)
+        verify(scanResult).is80211mcResponder
+        verify(fixture).minVersionM()
+    }
+
+    @Test
+    fun testMc80211Legacy() {
+        // execute
+        val actual = fixture.mc80211(scanResult)
+        // validate
+        assertFalse(actual)
+    }
+
+    private fun withScanResult(): ScanResult {
+        val scanResult: ScanResult = mock()
+        scanResult.SSID = SSID
+        scanResult.BSSID = BSSID
+        scanResult.capabilities = WPA
+        scanResult.frequency = FREQUENCY
+        scanResult.centerFreq0 = CENTER_FREQUENCY
+        scanResult.level = LEVEL
+        scanResult.channelWidth = WiFiWidth.MHZ_40.channelWidth
+        whenever(scanResult.wifiStandard).thenReturn(WiFiStandard.AX.wiFiStandardId)
+        return scanResult
+    }
+
+    private fun withWiFiInfo() {
+        whenever(wifiInfo.networkId).thenReturn(0)
+        whenever(wifiInfo.ssid).thenReturn(SSID)
+        whenever(wifiInfo.bssid).thenReturn(BSSID)
+        whenever(wifiInfo.ipAddress).thenReturn(IP_ADDRESS)
+        whenever(wifiInfo.linkSpeed).thenReturn(LINK_SPEED)
+    }
+
+    private fun verifyWiFiInfo() {
+        verify(wifiInfo).networkId
+        verify(wifiInfo).ssid
+        verify(wifiInfo).bssid
+        verify(wifiInfo).ipAddress
+        verify(wifiInfo).linkSpeed
+    }
+
+    companion object {
+        private const val SSID = "SSID_1-123"
+        private const val BSSID = "BSSID_1-123"
+        private const val WPA = "WPA"
+        private const val FREQUENCY = 5170
+        private const val CENTER_FREQUENCY = 5190
+        private const val LEVEL = -40
+        private const val IP_ADDRESS = 123456789
+        private const val LINK_SPEED = 21
+        private const val TIMESTAMP = 1000L
+    }
+}
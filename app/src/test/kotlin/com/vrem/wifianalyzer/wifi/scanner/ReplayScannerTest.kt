@@ -0,0 +1,149 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import android.os.Handler
+import com.nhaarman.mockitokotlin2.*
+import com.vrem.wifianalyzer.wifi.model.WiFiData
+import com.vrem.wifianalyzer.wifi.scanlog.*
+import org.junit.After
+import org.junit.Assert.*
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.FileOutputStream
+
+class ReplayScannerTest {
+    @get:Rule
+    val temporaryFolder = TemporaryFolder()
+
+    private val scanResult = ScanResultRecord("SSID", "BSSID", "[ESS]", 5180, 5190, 1, 5, false, -60)
+    private val connection = ConnectionRecord("\"SSID\"", "BSSID", 123456789, 144)
+    private val scanRecord1 = ScanRecord(10_000L, listOf(scanResult), connection)
+    private val scanRecord2 = ScanRecord(15_000L, listOf(scanResult, scanResult.copy(bssid = "BSSID2")), null)
+    private val scanHandler: Handler = mock()
+    private val mainHandler: Handler = mock()
+    private val cache: Cache = mock()
+    private val transformer: Transformer = mock()
+    private val wiFiData: WiFiData = mock()
+    private val cacheResults: List<CacheResult> = listOf()
+
+    @After
+    fun tearDown() {
+        verifyNoMoreInteractions(cache)
+        verifyNoMoreInteractions(transformer)
+    }
+
+    @Test
+    fun testResume() {
+        // setup
+        val fixture = fixture(2.0, scanRecord1)
+        // execute
+        fixture.resume()
+        // validate
+        assertTrue(fixture.running())
+        verify(scanHandler).removeCallbacks(any())
+        verify(scanHandler).post(any())
+    }
+
+    @Test
+    fun testPause() {
+        // setup
+        val fixture = fixture(2.0, scanRecord1)
+        fixture.resume()
+        // execute
+        fixture.pause()
+        // validate
+        assertFalse(fixture.running())
+        verify(scanHandler, times(2)).removeCallbacks(any())
+    }
+
+    @Test
+    fun testReplay() {
+        // setup
+        val fixture = fixture(2.0, scanRecord1, scanRecord2)
+        withCache()
+        // execute
+        fixture.replay()
+        // validate
+        assertEquals(wiFiData, fixture.wiFiData())
+        verify(cache).add(listOf(scanResult), connection)
+        verifyCache()
+        verify(scanHandler).postDelayed(any(), eq(2_500L))
+        verify(mainHandler).post(any())
+        assertEquals(1.0, fixture.scanStatistics().scansPerMinute(System.currentTimeMillis()), 0.0)
+    }
+
+    @Test
+    fun testReplayLastRecordStops() {
+        // setup
+        val fixture = fixture(2.0, scanRecord1)
+        withCache()
+        fixture.resume()
+        // execute
+        fixture.replay()
+        // validate
+        assertFalse(fixture.running())
+        verify(cache).add(listOf(scanResult), connection)
+        verifyCache()
+        verify(scanHandler, never()).postDelayed(any(), any())
+    }
+
+    @Test
+    fun testUpdate() {
+        // setup
+        val fixture = fixture(1.0)
+        // execute
+        fixture.update()
+        // validate
+        verify(scanHandler).removeCallbacks(any())
+        verify(scanHandler).post(any())
+    }
+
+    @Test
+    fun testDelay() {
+        assertEquals(5_000L, fixture(1.0).delay(scanRecord1, scanRecord2))
+        assertEquals(500L, fixture(10.0).delay(scanRecord1, scanRecord2))
+        assertEquals(0L, fixture(REPLAY_SPEED_MAXIMUM).delay(scanRecord1, scanRecord2))
+        assertEquals(0L, fixture(1.0).delay(scanRecord2, scanRecord1))
+    }
+
+    private fun withCache() {
+        whenever(cache.scanResults()).thenReturn(cacheResults)
+        whenever(cache.connection()).thenReturn(connection)
+        whenever(transformer.transformToWiFiData(cacheResults, connection)).thenReturn(wiFiData)
+    }
+
+    private fun verifyCache() {
+        verify(cache).scanResults()
+        verify(cache).connection()
+        verify(transformer).transformToWiFiData(cacheResults, connection)
+    }
+
+    private fun fixture(speed: Double, vararg scanRecords: ScanRecord): ReplayScanner {
+        val file = temporaryFolder.newFile()
+        ScanLogWriter(FileOutputStream(file).channel).use { writer ->
+            scanRecords.forEach { writer.write(it) }
+        }
+        val replayScanner = ReplayScanner(ScanLogReader(file.inputStream()), speed, cache, transformer)
+        replayScanner.scanHandler = scanHandler
+        replayScanner.mainHandler = mainHandler
+        return replayScanner
+    }
+
+}
@@ -17,24 +17,33 @@
  */
 package com.vrem.wifianalyzer.wifi.scanner
 
+import android.content.Context
 import android.os.Handler
 import com.nhaarman.mockitokotlin2.*
+import com.vrem.wifianalyzer.MainContextHelper
 import com.vrem.wifianalyzer.settings.Settings
 import com.vrem.wifianalyzer.wifi.manager.WiFiManagerWrapper
 import org.junit.After
 import org.junit.Assert.assertTrue
 import org.junit.Test
+import java.io.File
 
 class ScannerServiceTest {
     private val wiFiManagerWrapper: WiFiManagerWrapper = mock()
-    private val handler: Handler = mock()
+    private val scanHandler: Handler = mock()
+    private val mainHandler: Handler = mock()
     private val settings: Settings = mock()
+    private val context: Context = mock()
+    private val vendorService = MainContextHelper.INSTANCE.vendorService
 
     @After
     fun tearDown() {
+        MainContextHelper.INSTANCE.restore()
         verifyNoMoreInteractions(wiFiManagerWrapper)
-        verifyNoMoreInteractions(handler)
+        verifyNoMoreInteractions(scanHandler)
+        verifyNoMoreInteractions(mainHandler)
         verifyNoMoreInteractions(settings)
+        verifyNoMoreInteractions(vendorService)
     }
 
     @Test
@@ -42,11 +51,12 @@ class ScannerServiceTest {
         // setup
         val delayInitial = 1L
         // execute
-        val actual = makeScannerService(wiFiManagerWrapper, handler, settings)
+        val actual = makeScannerService(context, wiFiManagerWrapper, scanHandler, mainHandler, settings, File("scanlog"))
         // validate
         assertTrue(actual is Scanner)
         assertTrue(actual.running())
-        verify(handler).removeCallbacks(any())
-        verify(handler).postDelayed(any(), eq(delayInitial))
+        verify(wiFiManagerWrapper).subscribeScanResults(eq(context), eq(scanHandler), any())
+        verify(scanHandler).removeCallbacks(any())
+        verify(scanHandler).postDelayed(any(), eq(delayInitial))
     }
 }
\ No newline at end of file
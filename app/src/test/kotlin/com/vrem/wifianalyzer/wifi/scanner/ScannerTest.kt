@@ -17,15 +17,25 @@
  */
 package com.vrem.wifianalyzer.wifi.scanner
 
+import android.content.Context
 import android.net.wifi.ScanResult
 import android.net.wifi.WifiInfo
+import android.os.Handler
 import com.nhaarman.mockitokotlin2.*
 import com.vrem.wifianalyzer.settings.Settings
 import com.vrem.wifianalyzer.wifi.manager.WiFiManagerWrapper
+import com.vrem.wifianalyzer.wifi.model.GroupBy
+import com.vrem.wifianalyzer.wifi.model.SortBy
 import com.vrem.wifianalyzer.wifi.model.WiFiData
+import com.vrem.wifianalyzer.wifi.scanlog.ConnectionRecord
+import com.vrem.wifianalyzer.wifi.scanlog.ScanLog
+import com.vrem.wifianalyzer.wifi.scanlog.ScanRecord
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
 import org.junit.After
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
 import org.junit.Assert.assertNotNull
+import org.junit.Assert.assertTrue
 import org.junit.Before
 import org.junit.Test
 
@@ -38,15 +48,29 @@ class ScannerTest {
     private val wifiInfo: WifiInfo = mock()
     private val cache: Cache = mock()
     private val transformer: Transformer = mock()
+    private val recordTransformer: RecordTransformer = mock()
     private val wiFiData: WiFiData = mock()
     private val periodicScan: PeriodicScan = mock()
+    private val scanHandler: Handler = mock()
+    private val mainHandler: Handler = mock()
+    private val scanLog: ScanLog = mock()
+    private val context: Context = mock()
     private val scanResults: List<ScanResult> = listOf()
+    private val scanResultRecords: List<ScanResultRecord> = listOf()
+    private val connection = ConnectionRecord("SSID", "BSSID", 0, 0)
+    private val scanRecord = ScanRecord(0, scanResultRecords, connection)
     private val cacheResults: List<CacheResult> = listOf()
-    private val fixture = Scanner(wiFiManagerWrapper, settings, cache, transformer)
+    private val scanBudget: ScanBudget = mock()
+    private val scanStatistics: ScanStatistics = mock()
+    private val fixture = Scanner(wiFiManagerWrapper, settings, cache, transformer, recordTransformer)
 
     @Before
     fun setUp() {
         fixture.periodicScan = periodicScan
+        fixture.context = context
+        fixture.scanHandler = scanHandler
+        fixture.mainHandler = mainHandler
+        fixture.scanLog = scanLog
         fixture.register(updateNotifier1)
         fixture.register(updateNotifier2)
         fixture.register(updateNotifier3)
@@ -58,7 +82,13 @@ class ScannerTest {
         verifyNoMoreInteractions(wiFiManagerWrapper)
         verifyNoMoreInteractions(cache)
         verifyNoMoreInteractions(transformer)
+        verifyNoMoreInteractions(recordTransformer)
         verifyNoMoreInteractions(periodicScan)
+        verifyNoMoreInteractions(scanHandler)
+        verifyNoMoreInteractions(mainHandler)
+        verifyNoMoreInteractions(scanLog)
+        verifyNoMoreInteractions(scanBudget)
+        verifyNoMoreInteractions(scanStatistics)
     }
 
     @Test
@@ -88,17 +118,200 @@ class ScannerTest {
 
     @Test
     fun testUpdate() {
+        // execute
+        fixture.update()
+        // validate
+        verify(scanHandler).removeCallbacks(any())
+        verify(scanHandler).post(any())
+    }
+
+    @Test
+    fun testScan() {
         // setup
         withCache()
         withTransformer()
         withWiFiManagerWrapper()
         // execute
-        fixture.update()
+        fixture.scan()
+        // validate
+        assertEquals(wiFiData, fixture.wiFiData())
+        verifyCache()
+        verifyTransformer()
+        verifyWiFiManagerWrapper()
+        verify(mainHandler).post(any())
+        verify(updateNotifier1, never()).update(wiFiData)
+    }
+
+    @Test
+    fun testScanCoalescesPendingUpdates() {
+        // setup
+        withCache()
+        withTransformer()
+        withWiFiManagerWrapper()
+        // execute
+        fixture.scan()
+        fixture.scan()
+        // validate
+        verify(recordTransformer, times(2)).scanRecord(any(), eq(scanResults), eq(wifiInfo))
+        verify(cache, times(2)).add(scanResultRecords, connection)
+        verify(scanLog, times(2)).record(scanRecord)
+        verify(cache, times(2)).scanResults()
+        verify(cache, times(2)).connection()
+        verify(transformer, times(2)).transformToWiFiData(cacheResults, connection)
+        verifySettings(2)
+        verify(wiFiManagerWrapper, times(2)).enableWiFi()
+        verify(wiFiManagerWrapper, times(2)).startScan()
+        verify(wiFiManagerWrapper, times(2)).scanResults()
+        verify(wiFiManagerWrapper, times(2)).wiFiInfo()
+        verify(mainHandler).post(any())
+    }
+
+    @Test
+    fun testScanWithStartScanRefusedPublishes() {
+        // setup
+        val fixture = withScanBudget(true)
+        withCache()
+        withTransformer()
+        whenever(wiFiManagerWrapper.startScan()).thenReturn(false)
+        // execute
+        fixture.scan()
+        // validate
+        assertEquals(wiFiData, fixture.wiFiData())
+        verify(wiFiManagerWrapper).enableWiFi()
+        verify(wiFiManagerWrapper).startScan()
+        verify(scanBudget).acquire(any())
+        verify(scanBudget).refused(any())
+        verify(scanStatistics).refuse()
+        verify(cache).scanResults()
+        verify(cache).connection()
+        verify(transformer).transformToWiFiData(cacheResults, connection)
+        verifySettings(1)
+        verify(mainHandler).post(any())
+    }
+
+    @Test
+    fun testRefresh() {
+        // setup
+        val fixture = withScanBudget(true)
+        withCache()
+        withTransformer()
+        withWiFiManagerWrapper()
+        // execute
+        val actual = fixture.refresh()
+        // validate
+        assertTrue(actual)
+        assertEquals(wiFiData, fixture.wiFiData())
+        verifyCache()
+        verifyTransformer()
+        verifyWiFiManagerWrapper()
+        verify(scanBudget).acquire(any())
+        verify(scanStatistics).start(any())
+        verify(scanStatistics).deliver(any())
+        verify(mainHandler).post(any())
+    }
+
+    @Test
+    fun testRefreshWithStartScanRefusedSkipsUpdate() {
+        // setup
+        val fixture = withScanBudget(true)
+        whenever(wiFiManagerWrapper.startScan()).thenReturn(false)
+        // execute
+        val actual = fixture.refresh()
         // validate
+        assertFalse(actual)
+        verify(wiFiManagerWrapper).enableWiFi()
+        verify(wiFiManagerWrapper).startScan()
+        verify(scanBudget).acquire(any())
+        verify(scanBudget).refused(any())
+        verify(scanStatistics).refuse()
+    }
+
+    @Test
+    fun testRefreshWithScanBudgetExhaustedSkipsScan() {
+        // setup
+        val fixture = withScanBudget(false)
+        // execute
+        val actual = fixture.refresh()
+        // validate
+        assertFalse(actual)
+        verify(wiFiManagerWrapper).enableWiFi()
+        verify(wiFiManagerWrapper, never()).startScan()
+        verify(scanBudget).acquire(any())
+        verify(scanStatistics).skip()
+    }
+
+    @Test
+    fun testScanStatistics() {
+        // setup
+        val fixture = withScanBudget(true)
+        // execute & validate
+        assertEquals(scanStatistics, fixture.scanStatistics())
+    }
+
+    @Test
+    fun testNotifyUpdate() {
+        // setup
+        withCache()
+        withTransformer()
+        withWiFiManagerWrapper()
+        fixture.scan()
+        // execute
+        fixture.notifyUpdate()
+        fixture.notifyUpdate()
+        // validate
+        verifyCache()
+        verifyTransformer()
+        verifyWiFiManagerWrapper()
+        verify(mainHandler).post(any())
+        verify(updateNotifier1).update(wiFiData)
+        verify(updateNotifier2).update(wiFiData)
+        verify(updateNotifier3).update(wiFiData)
+    }
+
+    @Test
+    fun testPauseUpdatesSkipsNotifiers() {
+        // setup
+        withCache()
+        withTransformer()
+        withWiFiManagerWrapper()
+        fixture.scan()
+        // execute
+        fixture.pauseUpdates()
+        fixture.notifyUpdate()
+        fixture.scan()
+        // validate
+        verify(recordTransformer, times(2)).scanRecord(any(), eq(scanResults), eq(wifiInfo))
+        verify(cache, times(2)).add(scanResultRecords, connection)
+        verify(scanLog, times(2)).record(scanRecord)
+        verify(cache, times(2)).scanResults()
+        verify(cache, times(2)).connection()
+        verify(transformer, times(2)).transformToWiFiData(cacheResults, connection)
+        verifySettings(2)
+        verify(wiFiManagerWrapper, times(2)).enableWiFi()
+        verify(wiFiManagerWrapper, times(2)).startScan()
+        verify(wiFiManagerWrapper, times(2)).scanResults()
+        verify(wiFiManagerWrapper, times(2)).wiFiInfo()
+        verify(mainHandler).post(any())
+        verify(updateNotifier1, never()).update(wiFiData)
         assertEquals(wiFiData, fixture.wiFiData())
+    }
+
+    @Test
+    fun testResumeUpdatesPublishesLatestWiFiData() {
+        // setup
+        withCache()
+        withTransformer()
+        withWiFiManagerWrapper()
+        fixture.pauseUpdates()
+        fixture.scan()
+        // execute
+        fixture.resumeUpdates()
+        fixture.notifyUpdate()
+        // validate
         verifyCache()
         verifyTransformer()
         verifyWiFiManagerWrapper()
+        verify(mainHandler).post(any())
         verify(updateNotifier1).update(wiFiData)
         verify(updateNotifier2).update(wiFiData)
         verify(updateNotifier3).update(wiFiData)
@@ -113,6 +326,7 @@ class ScannerTest {
         // validate
         verify(settings).wiFiOffOnExit()
         verify(wiFiManagerWrapper).disableWiFi()
+        verify(scanLog).close()
     }
 
     @Test
@@ -124,21 +338,37 @@ class ScannerTest {
         // validate
         verify(settings).wiFiOffOnExit()
         verify(wiFiManagerWrapper, never()).enableWiFi()
+        verify(scanLog).close()
+    }
+
+    private fun withScanBudget(available: Boolean): Scanner {
+        whenever(scanBudget.acquire(any())).thenReturn(available)
+        val scanner = Scanner(wiFiManagerWrapper, settings, cache, transformer, recordTransformer, scanBudget, scanStatistics)
+        scanner.periodicScan = periodicScan
+        scanner.context = context
+        scanner.scanHandler = scanHandler
+        scanner.mainHandler = mainHandler
+        scanner.scanLog = scanLog
+        return scanner
     }
 
     private fun withCache() {
         whenever(cache.scanResults()).thenReturn(cacheResults)
-        whenever(cache.wifiInfo()).thenReturn(wifiInfo)
+        whenever(cache.connection()).thenReturn(connection)
     }
 
     private fun withTransformer() {
-        whenever(transformer.transformToWiFiData(cacheResults, wifiInfo)).thenReturn(wiFiData)
+        whenever(recordTransformer.scanRecord(any(), eq(scanResults), eq(wifiInfo))).thenReturn(scanRecord)
+        whenever(transformer.transformToWiFiData(cacheResults, connection)).thenReturn(wiFiData)
+        whenever(settings.sortBy()).thenReturn(SortBy.STRENGTH)
+        whenever(settings.groupBy()).thenReturn(GroupBy.NONE)
     }
 
     private fun verifyCache() {
-        verify(cache).add(scanResults, wifiInfo)
+        verify(cache).add(scanResultRecords, connection)
+        verify(scanLog).record(scanRecord)
         verify(cache).scanResults()
-        verify(cache).wifiInfo()
+        verify(cache).connection()
     }
 
     private fun verifyWiFiManagerWrapper() {
@@ -165,7 +395,19 @@ class ScannerTest {
     }
 
     private fun verifyTransformer() {
-        verify(transformer).transformToWiFiData(cacheResults, wifiInfo)
+        verify(recordTransformer).scanRecord(any(), eq(scanResults), eq(wifiInfo))
+        verify(transformer).transformToWiFiData(cacheResults, connection)
+        verifySettings(1)
+    }
+
+    private fun verifySettings(times: Int) {
+        verify(settings, times(times)).findSSIDs()
+        verify(settings, times(times)).findWiFiBands()
+        verify(settings, times(times)).findStrengths()
+        verify(settings, times(times)).findSecurities()
+        verify(settings, times(times)).sortBy()
+        verify(settings, times(times)).groupBy()
+        verify(wiFiData, times(times)).wiFiDetails(any(), eq(SortBy.STRENGTH), eq(GroupBy.NONE))
     }
 
     @Test
@@ -185,9 +427,140 @@ class ScannerTest {
         // execute
         fixture.resume()
         // validate
+        verify(wiFiManagerWrapper).subscribeScanResults(eq(context), eq(scanHandler), any())
         verify(periodicScan).start()
     }
 
+    @Test
+    fun testResumeWithSubscriptionPrimesScanResults() {
+        // setup
+        withSubscription()
+        // execute
+        fixture.resume()
+        fixture.resume()
+        // validate
+        verify(wiFiManagerWrapper, times(2)).subscribeScanResults(eq(context), eq(scanHandler), any())
+        verify(scanHandler).post(any())
+        verify(periodicScan, times(2)).start()
+    }
+
+    @Test
+    fun testPauseWithSubscriptionUnsubscribes() {
+        // setup
+        withSubscription()
+        fixture.resume()
+        // execute
+        fixture.pause()
+        fixture.pause()
+        // validate
+        verify(wiFiManagerWrapper).subscribeScanResults(eq(context), eq(scanHandler), any())
+        verify(wiFiManagerWrapper).unsubscribeScanResults(context)
+        verify(scanHandler).post(any())
+        verify(scanHandler).removeCallbacks(any())
+        verify(periodicScan).start()
+        verify(periodicScan, times(2)).stop()
+    }
+
+    @Test
+    fun testScanWithSubscriptionDoesNotReadScanResults() {
+        // setup
+        withSubscribedFixture()
+        withCache()
+        withTransformer()
+        withWiFiManagerStartScan()
+        // execute
+        fixture.scan()
+        // validate
+        verify(wiFiManagerWrapper).enableWiFi()
+        verifyWiFiManagerStartScan()
+        verify(wiFiManagerWrapper, never()).scanResults()
+        verify(cache, never()).add(any(), any())
+        verify(cache).scanResults()
+        verify(cache).connection()
+        verify(transformer).transformToWiFiData(cacheResults, connection)
+        verifySettings(1)
+        verify(mainHandler).post(any())
+    }
+
+    @Test
+    fun testRefreshWithSubscriptionWaitsForScanResults() {
+        // setup
+        withSubscribedFixture()
+        withWiFiManagerStartScan()
+        // execute
+        val actual = fixture.refresh()
+        // validate
+        assertTrue(actual)
+        verify(wiFiManagerWrapper).enableWiFi()
+        verifyWiFiManagerStartScan()
+        verify(wiFiManagerWrapper, never()).scanResults()
+        verify(transformer, never()).transformToWiFiData(any(), any())
+        verify(mainHandler, never()).post(any())
+    }
+
+    @Test
+    fun testScanResultsAvailable() {
+        // setup
+        val fixture = withScanBudget(true)
+        withCache()
+        withTransformer()
+        withWiFiManagerWrapper()
+        // execute
+        fixture.scanResultsAvailable()
+        // validate
+        assertEquals(wiFiData, fixture.wiFiData())
+        verifyCache()
+        verifyTransformer()
+        verify(wiFiManagerWrapper).scanResults()
+        verify(wiFiManagerWrapper).wiFiInfo()
+        verify(scanStatistics).deliver(any())
+        verify(mainHandler).post(any())
+    }
+
+    @Test
+    fun testScanResultsAvailableCountsOnlyRequestedScans() {
+        // setup
+        withSubscribedFixture()
+        withCache()
+        withTransformer()
+        withWiFiManagerWrapper()
+        fixture.refresh()
+        // execute
+        fixture.scanResultsAvailable()
+        fixture.scanResultsAvailable()
+        // validate
+        val actual = fixture.scanStatistics()
+        assertEquals(1.0, actual.scansPerMinute(System.currentTimeMillis()), 0.0)
+        assertEquals(1L, actual.unrequested())
+        assertTrue(actual.latency() >= 0)
+        verify(wiFiManagerWrapper).enableWiFi()
+        verifyWiFiManagerStartScan()
+        verify(wiFiManagerWrapper, times(2)).scanResults()
+        verify(wiFiManagerWrapper, times(2)).wiFiInfo()
+        verify(recordTransformer, times(2)).scanRecord(any(), eq(scanResults), eq(wifiInfo))
+        verify(cache, times(2)).add(scanResultRecords, connection)
+        verify(scanLog, times(2)).record(scanRecord)
+        verify(cache, times(2)).scanResults()
+        verify(cache, times(2)).connection()
+        verify(transformer, times(2)).transformToWiFiData(cacheResults, connection)
+        verifySettings(2)
+        verify(mainHandler).post(any())
+    }
+
+    @Test
+    fun testStopWithSubscriptionUnsubscribes() {
+        // setup
+        withSubscribedFixture()
+        whenever(settings.wiFiOffOnExit()).thenReturn(false)
+        // execute
+        fixture.stop()
+        // validate
+        verify(wiFiManagerWrapper).unsubscribeScanResults(context)
+        verify(scanHandler).removeCallbacks(any())
+        verify(settings).wiFiOffOnExit()
+        verify(scanLog).close()
+    }
+
     @Test
     fun testToggleWhenRunning() {
         // setup
@@ -209,6 +582,19 @@ class ScannerTest {
         fixture.toggle()
         // validate
         verify(periodicScan).running
+        verify(wiFiManagerWrapper).subscribeScanResults(eq(context), eq(scanHandler), any())
+        verify(periodicScan).start()
+    }
+
+    private fun withSubscription() {
+        whenever(wiFiManagerWrapper.subscribeScanResults(eq(context), eq(scanHandler), any())).thenReturn(true)
+    }
+
+    private fun withSubscribedFixture() {
+        withSubscription()
+        fixture.resume()
+        verify(wiFiManagerWrapper).subscribeScanResults(eq(context), eq(scanHandler), any())
+        verify(scanHandler).post(any())
         verify(periodicScan).start()
     }
 }
\ No newline at end of file
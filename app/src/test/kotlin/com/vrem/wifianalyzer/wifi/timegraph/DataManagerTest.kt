@@ -39,7 +39,8 @@ class DataManagerTest {
     private val mainActivity = RobolectricUtil.INSTANCE.activity
     private val graphViewWrapper: GraphViewWrapper = mock()
     private val timeGraphCache: TimeGraphCache = mock()
-    private val fixture = DataManager(timeGraphCache)
+    private val timeSeriesStore = TimeSeriesStore()
+    private val fixture = DataManager(timeGraphCache, timeSeriesStore)
 
     @Test
     fun testAddSeriesDataIncreaseXValue() {
@@ -91,23 +92,43 @@ class DataManagerTest {
     }
 
     @Test
-    fun testAdjustDataAppendsData() {
+    fun testAddSeriesDataScrollsToEndWhenSeriesExist() {
+        // setup
+        val wiFiDetail = makeWiFiDetail("SSID")
+        whenever(graphViewWrapper.newSeries(wiFiDetail)).thenReturn(true)
+        fixture.addSeriesData(graphViewWrapper, listOf(wiFiDetail), MAX_Y)
+        verify(graphViewWrapper, never()).scrollToEnd()
+        whenever(graphViewWrapper.newSeries(wiFiDetail)).thenReturn(false)
+        // execute
+        fixture.addSeriesData(graphViewWrapper, listOf(wiFiDetail), MAX_Y)
+        // validate
+        verify(graphViewWrapper).scrollToEnd()
+        assertEquals(1, timeSeriesStore.count())
+    }
+
+    @Test
+    fun testAddSeriesDataReleasesRemovedSeries() {
+        // setup
+        val wiFiDetail = makeWiFiDetail("SSID")
+        whenever(graphViewWrapper.newSeries(wiFiDetail)).thenReturn(true)
+        whenever(timeGraphCache.active()).thenReturn(setOf())
+        fixture.addSeriesData(graphViewWrapper, listOf(wiFiDetail), MAX_Y)
+        // execute
+        fixture.addSeriesData(graphViewWrapper, listOf(), MAX_Y)
+        // validate
+        assertEquals(0, timeSeriesStore.count())
+    }
+
+    @Test
+    fun testAdjustDataAddsNotSeen() {
         // setup
         val wiFiDetails: Set<WiFiDetail> = setOf()
         val difference = makeWiFiDetails()
-        val xValue = fixture.xValue
-        val scanCount = fixture.scanCount
-        val dataPoint = GraphDataPoint(xValue, MIN_Y + MIN_Y_OFFSET)
         whenever(graphViewWrapper.differenceSeries(wiFiDetails)).thenReturn(difference)
         // execute
         fixture.adjustData(graphViewWrapper, wiFiDetails)
         // validate
         difference.forEach {
-            verify(graphViewWrapper).appendToSeries(
-                    it,
-                    dataPoint,
-                    scanCount,
-                    it.wiFiAdditional.wiFiConnection.connected)
             verify(timeGraphCache).add(it)
         }
         verify(timeGraphCache).clear()
@@ -130,46 +151,37 @@ class DataManagerTest {
     @Test
     fun testAddDataToExistingSeries() {
         // setup
-        val scanCount = fixture.scanCount
-        val xValue = fixture.xValue
         val wiFiDetail = makeWiFiDetail("SSID")
-        val dataPoint = GraphDataPoint(xValue, level)
+        timeSeriesStore.advance(fixture.xValue.toLong())
         whenever(graphViewWrapper.newSeries(wiFiDetail)).thenReturn(false)
         // execute
         fixture.addData(graphViewWrapper, wiFiDetail, MAX_Y)
         // validate
         verify(graphViewWrapper).newSeries(wiFiDetail)
-        verify(graphViewWrapper).appendToSeries(
-                wiFiDetail,
-                dataPoint,
-                scanCount,
-                wiFiDetail.wiFiAdditional.wiFiConnection.connected)
+        verify(graphViewWrapper).refreshSeries(wiFiDetail, wiFiDetail.wiFiAdditional.wiFiConnection.connected)
         verify(timeGraphCache).reset(wiFiDetail)
+        assertEquals(level, timeSeriesStore.level(timeSeriesStore.add(wiFiDetail), fixture.xValue.toLong()))
     }
 
     @Test
     fun testAddDataToExistingSeriesExpectLevelToEqualToLevelMax() {
         // setup
         val expectedLevel = level - 10
-        val scanCount = fixture.scanCount
-        val xValue = fixture.xValue
         val wiFiDetail = makeWiFiDetail("SSID")
-        val dataPoint = GraphDataPoint(xValue, expectedLevel)
+        timeSeriesStore.advance(fixture.xValue.toLong())
         whenever(graphViewWrapper.newSeries(wiFiDetail)).thenReturn(false)
         // execute
         fixture.addData(graphViewWrapper, wiFiDetail, expectedLevel)
         // validate
-        verify(graphViewWrapper).appendToSeries(
-                wiFiDetail,
-                dataPoint,
-                scanCount,
-                wiFiDetail.wiFiAdditional.wiFiConnection.connected)
+        verify(graphViewWrapper).refreshSeries(wiFiDetail, wiFiDetail.wiFiAdditional.wiFiConnection.connected)
+        assertEquals(expectedLevel, timeSeriesStore.level(timeSeriesStore.add(wiFiDetail), fixture.xValue.toLong()))
     }
 
     @Test
     fun testAddDataNewSeries() {
         // setup
         val wiFiDetail = makeWiFiDetailConnected("SSID")
+        timeSeriesStore.advance(fixture.xValue.toLong())
         whenever(graphViewWrapper.newSeries(wiFiDetail)).thenReturn(true)
         // execute
         fixture.addData(graphViewWrapper, wiFiDetail, MAX_Y)
@@ -178,8 +190,22 @@ class DataManagerTest {
         verify(timeGraphCache).reset(wiFiDetail)
         verify(graphViewWrapper).addSeries(
                 eq(wiFiDetail),
-                any(),
+                any<TimeGraphSeries>(),
                 eq(wiFiDetail.wiFiAdditional.wiFiConnection.connected))
+        assertEquals(level, timeSeriesStore.level(timeSeriesStore.add(wiFiDetail), fixture.xValue.toLong()))
+    }
+
+    @Test
+    fun testAddDataNewSeriesAfterFirstScanStartsNotSeen() {
+        // setup
+        val wiFiDetail = makeWiFiDetail("SSID")
+        fixture.scanCount = 1
+        timeSeriesStore.advance(fixture.xValue.toLong())
+        whenever(graphViewWrapper.newSeries(wiFiDetail)).thenReturn(true)
+        // execute
+        fixture.addData(graphViewWrapper, wiFiDetail, MAX_Y)
+        // validate
+        assertEquals(NOT_SEEN_LEVEL, timeSeriesStore.level(timeSeriesStore.add(wiFiDetail), fixture.xValue.toLong()))
     }
 
     private fun makeWiFiDetailConnected(SSID: String): WiFiDetail {
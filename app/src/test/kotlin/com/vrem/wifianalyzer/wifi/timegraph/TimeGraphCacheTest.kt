@@ -36,7 +36,7 @@ class TimeGraphCacheTest {
         // execute
         val actual = fixture.wiFiDetails
         // validate
-        assertEquals(expected.size, actual.size)
+        assertEquals(expected.size - 1, actual.size)
     }
 
     @Test
@@ -50,6 +50,49 @@ class TimeGraphCacheTest {
         assertFalse(actual.contains(expected[0]))
     }
 
+    @Test
+    fun testActiveWithinNotSeenWindow() {
+        // setup
+        val wiFiDetail = withWiFiDetail("SSID")
+        // execute
+        for (i in 0 until MAX_NOT_SEEN_COUNT) {
+            fixture.add(wiFiDetail)
+            fixture.clear()
+        }
+        // validate
+        assertTrue(fixture.active().contains(wiFiDetail))
+    }
+
+    @Test
+    fun testActiveWithNotSeenWindow() {
+        // setup
+        val fixture = TimeGraphCache(2)
+        val wiFiDetail = withWiFiDetail("SSID")
+        fixture.add(wiFiDetail)
+        fixture.clear()
+        fixture.add(wiFiDetail)
+        fixture.clear()
+        // execute
+        fixture.add(wiFiDetail)
+        fixture.clear()
+        // validate
+        assertTrue(fixture.active().isEmpty())
+        assertTrue(fixture.wiFiDetails.isEmpty())
+    }
+
+    @Test
+    fun testAddOncePerScan() {
+        // setup
+        val wiFiDetail = withWiFiDetail("SSID")
+        // execute
+        for (i in 0..MAX_NOT_SEEN_COUNT) {
+            fixture.add(wiFiDetail)
+        }
+        fixture.clear()
+        // validate
+        assertTrue(fixture.active().contains(wiFiDetail))
+    }
+
     @Test
     fun testClear() {
         // setup
@@ -67,11 +110,28 @@ class TimeGraphCacheTest {
         // setup
         val expected = withWiFiDetails()
         // execute
-        fixture.reset(expected[0])
+        fixture.reset(expected[1])
         // validate
         val actual = fixture.wiFiDetails
-        assertEquals(expected.size, actual.size)
-        assertTrue(actual.contains(expected[0]))
+        assertEquals(expected.size - 1, actual.size)
+        assertTrue(actual.contains(expected[1]))
+        assertFalse(fixture.active().contains(expected[1]))
+    }
+
+    @Test
+    fun testResetRestartsNotSeenWindow() {
+        // setup
+        val expected = withWiFiDetails()
+        fixture.reset(expected[1])
+        fixture.clear()
+        // execute
+        for (i in 0 until MAX_NOT_SEEN_COUNT) {
+            fixture.add(expected[1])
+            fixture.clear()
+        }
+        // validate
+        assertTrue(fixture.active().contains(expected[1]))
+        assertFalse(fixture.active().contains(expected[2]))
     }
 
     private fun withWiFiDetail(SSID: String): WiFiDetail {
@@ -87,11 +147,13 @@ class TimeGraphCacheTest {
             val wiFiDetail = withWiFiDetail("SSID$i")
             results.add(wiFiDetail)
         }
-        results.forEach { fixture.add(it) }
         for (i in 0 until MAX_NOT_SEEN_COUNT) {
             fixture.add(results[0])
+            fixture.clear()
         }
+        results.forEach { fixture.add(it) }
+        fixture.clear()
         return results
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.timegraph
+
+import android.os.Build
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+import com.vrem.wifianalyzer.wifi.model.WiFiIdentifier
+import org.junit.Assert.*
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.annotation.Config
+
+@RunWith(AndroidJUnit4::class)
+@Config(sdk = [Build.VERSION_CODES.Q])
+class TimeGraphSeriesTest {
+    private val timeSeriesStore = TimeSeriesStore(5)
+    private var slot = 0
+    private lateinit var fixture: TimeGraphSeries
+
+    @Before
+    fun setUp() {
+        timeSeriesStore.advance(0)
+        slot = timeSeriesStore.add(WiFiDetail(WiFiIdentifier("SSID", "BSSID")))
+        listOf(-50, -30, -70).forEachIndexed { index, level ->
+            if (index > 0) timeSeriesStore.advance(index.toLong())
+            timeSeriesStore.update(slot, level)
+        }
+        fixture = TimeGraphSeries(timeSeriesStore, slot)
+    }
+
+    @Test
+    fun testGetValues() {
+        // execute
+        val actual = fixture.getValues(0.0, 2.0).asSequence().map { Pair(it.x, it.y) }.toList()
+        // validate
+        assertEquals(listOf(Pair(0.0, -50.0), Pair(1.0, -30.0), Pair(2.0, -70.0)), actual)
+    }
+
+    @Test
+    fun testGetValuesWithinRange() {
+        // execute
+        val actual = fixture.getValues(1.5, 1.5).asSequence().map { it.x }.toList()
+        // validate
+        assertEquals(listOf(1.0, 2.0), actual)
+    }
+
+    @Test
+    fun testGetValuesAfterLast() {
+        // execute
+        val actual = fixture.getValues(3.0, 4.0)
+        // validate
+        assertFalse(actual.hasNext())
+    }
+
+    @Test
+    fun testLowestAndHighestValues() {
+        assertEquals(0.0, fixture.lowestValueX, 0.0)
+        assertEquals(2.0, fixture.highestValueX, 0.0)
+        assertEquals(-70.0, fixture.lowestValueY, 0.0)
+        assertEquals(-30.0, fixture.highestValueY, 0.0)
+        assertFalse(fixture.isEmpty)
+    }
+
+}
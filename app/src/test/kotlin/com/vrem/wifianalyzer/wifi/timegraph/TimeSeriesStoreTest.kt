@@ -0,0 +1,116 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.timegraph
+
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+import com.vrem.wifianalyzer.wifi.model.WiFiIdentifier
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotEquals
+import org.junit.Test
+
+class TimeSeriesStoreTest {
+    private val wiFiDetail1 = WiFiDetail(WiFiIdentifier("SSID1", "BSSID1"))
+    private val wiFiDetail2 = WiFiDetail(WiFiIdentifier("SSID2", "BSSID2"))
+    private val fixture = TimeSeriesStore(3)
+
+    @Test
+    fun testAdd() {
+        // setup
+        fixture.advance(0)
+        // execute
+        val actual1 = fixture.add(wiFiDetail1)
+        val actual2 = fixture.add(wiFiDetail2)
+        // validate
+        assertNotEquals(actual1, actual2)
+        assertEquals(actual1, fixture.add(wiFiDetail1))
+        assertEquals(2, fixture.count())
+    }
+
+    @Test
+    fun testAdvanceSetsNotSeen() {
+        // setup
+        fixture.advance(0)
+        val slot = fixture.add(wiFiDetail1)
+        fixture.update(slot, -40)
+        // execute
+        fixture.advance(1)
+        // validate
+        assertEquals(-40, fixture.level(slot, 0L))
+        assertEquals(NOT_SEEN_LEVEL, fixture.level(slot, 1L))
+        assertEquals(1L, fixture.last())
+        assertEquals(2, fixture.size)
+    }
+
+    @Test
+    fun testAdvanceKeepsCapacity() {
+        // setup
+        fixture.advance(0)
+        val slot = fixture.add(wiFiDetail1)
+        // execute
+        (1L..4L).forEach {
+            fixture.advance(it)
+            fixture.update(slot, -it.toInt())
+        }
+        // validate
+        assertEquals(3, fixture.size)
+        assertEquals(2L, fixture.first(slot))
+        assertEquals(4L, fixture.last())
+        assertEquals(-2, fixture.level(slot, 2L))
+        assertEquals(-4, fixture.level(slot, 4L))
+    }
+
+    @Test
+    fun testFirstStartsWhenAdded() {
+        // setup
+        fixture.advance(0)
+        fixture.advance(1)
+        // execute
+        val actual = fixture.add(wiFiDetail1)
+        // validate
+        assertEquals(1L, fixture.first(actual))
+    }
+
+    @Test
+    fun testLowestAndHighest() {
+        // setup
+        fixture.advance(0)
+        val slot = fixture.add(wiFiDetail1)
+        fixture.update(slot, -50)
+        fixture.advance(1)
+        fixture.update(slot, -30)
+        fixture.advance(2)
+        fixture.update(slot, -70)
+        // execute & validate
+        assertEquals(-70, fixture.lowest(slot))
+        assertEquals(-30, fixture.highest(slot))
+    }
+
+    @Test
+    fun testRetainReleasesSlots() {
+        // setup
+        fixture.advance(0)
+        val slot = fixture.add(wiFiDetail1)
+        fixture.add(wiFiDetail2)
+        // execute
+        fixture.retain(setOf(wiFiDetail2))
+        // validate
+        assertEquals(1, fixture.count())
+        assertEquals(slot, fixture.add(wiFiDetail1))
+    }
+
+}
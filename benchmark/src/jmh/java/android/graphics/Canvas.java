@@ -0,0 +1,41 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package android.graphics;
+
+/**
+ * JVM replacement of the framework class, whose drawing calls are native. Benchmarks subclass it to record draw calls.
+ */
+public class Canvas {
+
+    public void drawLines(float[] pts, int offset, int count, Paint paint) {
+    }
+
+    public void drawLines(float[] pts, Paint paint) {
+        drawLines(pts, 0, pts.length, paint);
+    }
+
+    public void drawPath(Path path, Paint paint) {
+    }
+
+    public void drawText(String text, float x, float y, Paint paint) {
+    }
+
+    public void drawCircle(float cx, float cy, float radius, Paint paint) {
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package android.graphics;
+
+/**
+ * JVM replacement of the framework class, which is backed by a native paint.
+ */
+public class Paint {
+    private Cap strokeCap = Cap.BUTT;
+    private Style style = Style.FILL;
+    private Align textAlign = Align.LEFT;
+    private int color;
+    private float strokeWidth;
+    private float textSize;
+    private boolean fakeBoldText;
+
+    public Paint() {
+    }
+
+    public Paint(int flags) {
+    }
+
+    public Cap getStrokeCap() {
+        return strokeCap;
+    }
+
+    public void setStrokeCap(Cap strokeCap) {
+        this.strokeCap = strokeCap;
+    }
+
+    public Style getStyle() {
+        return style;
+    }
+
+    public void setStyle(Style style) {
+        this.style = style;
+    }
+
+    public Align getTextAlign() {
+        return textAlign;
+    }
+
+    public void setTextAlign(Align textAlign) {
+        this.textAlign = textAlign;
+    }
+
+    public int getColor() {
+        return color;
+    }
+
+    public void setColor(int color) {
+        this.color = color;
+    }
+
+    public float getStrokeWidth() {
+        return strokeWidth;
+    }
+
+    public void setStrokeWidth(float strokeWidth) {
+        this.strokeWidth = strokeWidth;
+    }
+
+    public float getTextSize() {
+        return textSize;
+    }
+
+    public void setTextSize(float textSize) {
+        this.textSize = textSize;
+    }
+
+    public boolean isFakeBoldText() {
+        return fakeBoldText;
+    }
+
+    public void setFakeBoldText(boolean fakeBoldText) {
+        this.fakeBoldText = fakeBoldText;
+    }
+
+    public enum Cap {
+        BUTT, ROUND, SQUARE
+    }
+
+    public enum Style {
+        FILL, STROKE, FILL_AND_STROKE
+    }
+
+    public enum Align {
+        LEFT, CENTER, RIGHT
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.benchmark
+
+import android.content.res.Resources
+import com.nhaarman.mockitokotlin2.any
+import com.nhaarman.mockitokotlin2.doAnswer
+import com.nhaarman.mockitokotlin2.doReturn
+import com.nhaarman.mockitokotlin2.mock
+import com.vrem.wifianalyzer.Configuration
+import com.vrem.wifianalyzer.MainContext
+import com.vrem.wifianalyzer.settings.Settings
+import com.vrem.wifianalyzer.vendor.model.VendorDatabase
+import com.vrem.wifianalyzer.vendor.model.VendorService
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
+import com.vrem.wifianalyzer.wifi.scanner.Cache
+import com.vrem.wifianalyzer.wifi.scanner.Transformer
+import java.io.File
+import java.io.FileInputStream
+import java.nio.ByteBuffer
+
+internal object BenchmarkContext {
+    private const val VENDOR_DATABASE = "vendor.database"
+    private const val SCAN_SPEED = 5
+    private const val SCAN_COUNT = 8
+
+    private val vendorDatabaseFile: File by lazy { File(System.getProperty(VENDOR_DATABASE)) }
+
+    private val resources: Resources by lazy {
+        mock<Resources> {
+            on { openRawResource(any()) } doAnswer { FileInputStream(vendorDatabaseFile) }
+        }
+    }
+
+    val vendorService: VendorService by lazy { VendorService(resources) }
+
+    val vendorDatabase: VendorDatabase by lazy { VendorDatabase(ByteBuffer.wrap(vendorDatabaseFile.readBytes())) }
+
+    fun initialize() {
+        val settings: Settings = mock {
+            on { scanSpeed() } doReturn SCAN_SPEED
+        }
+        MainContext.INSTANCE.settings = settings
+        MainContext.INSTANCE.configuration = Configuration(false)
+        MainContext.INSTANCE.vendorService = vendorService
+    }
+
+    val transformer: Transformer by lazy { Transformer(vendorService) }
+
+    fun cache(): Cache = Cache({ MainContext.INSTANCE.configuration.sizeAvailable }, { SCAN_SPEED })
+
+    fun scans(accessPoints: Int): List<List<ScanResultRecord>> =
+            ScanGenerator(vendorService.findMacs()).scans(accessPoints, SCAN_COUNT)
+
+    fun wiFiDetails(accessPoints: Int): List<WiFiDetail> {
+        val cache = cache()
+        scans(accessPoints).forEach { cache.add(it, null) }
+        return transformer.transformCacheResults(cache.scanResults())
+    }
+
+}
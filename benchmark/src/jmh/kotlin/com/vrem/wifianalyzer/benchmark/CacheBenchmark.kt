@@ -0,0 +1,49 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.benchmark
+
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
+import com.vrem.wifianalyzer.wifi.scanner.Cache
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+
+@State(Scope.Benchmark)
+class CacheBenchmark {
+    @Param("10", "100", "500", "1000", "5000")
+    var accessPoints: Int = 0
+
+    private lateinit var scans: List<List<ScanResultRecord>>
+    private lateinit var cache: Cache
+    private var index: Int = 0
+
+    @Setup
+    fun setUp() {
+        BenchmarkContext.initialize()
+        scans = BenchmarkContext.scans(accessPoints)
+        cache = BenchmarkContext.cache()
+        scans.forEach { cache.add(it, null) }
+    }
+
+    @Benchmark
+    fun scanResults(blackhole: Blackhole) {
+        index = (index + 1) % scans.size
+        cache.add(scans[index], null)
+        blackhole.consume(cache.scanResults())
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.benchmark
+
+import com.vrem.wifianalyzer.wifi.band.WiFiBand
+import com.vrem.wifianalyzer.wifi.band.WiFiChannel
+import com.vrem.wifianalyzer.wifi.model.ChannelAPCount
+import com.vrem.wifianalyzer.wifi.model.ChannelRating
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+import com.vrem.wifianalyzer.wifi.predicate.predicate
+import org.openjdk.jmh.annotations.*
+
+@State(Scope.Benchmark)
+class ChannelRatingBenchmark {
+    @Param("10", "100", "500", "1000", "5000")
+    var accessPoints: Int = 0
+
+    @Param
+    var wiFiBand: WiFiBand = WiFiBand.GHZ2
+
+    private lateinit var wiFiDetails: List<WiFiDetail>
+    private lateinit var wiFiChannels: List<WiFiChannel>
+
+    @Setup
+    fun setUp() {
+        BenchmarkContext.initialize()
+        wiFiDetails = BenchmarkContext.wiFiDetails(accessPoints).filter(wiFiBand.predicate())
+        wiFiChannels = wiFiBand.wiFiChannels.availableChannels(COUNTRY_CODE)
+    }
+
+    @Benchmark
+    fun bestChannels(): List<ChannelAPCount> {
+        val channelRating = ChannelRating()
+        channelRating.wiFiDetails(wiFiDetails)
+        return channelRating.bestChannels(wiFiChannels)
+    }
+
+    companion object {
+        private const val COUNTRY_CODE = "US"
+    }
+
+}
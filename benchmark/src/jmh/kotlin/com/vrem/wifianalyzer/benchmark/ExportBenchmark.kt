@@ -0,0 +1,54 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.benchmark
+
+import com.vrem.wifianalyzer.export.Export
+import com.vrem.wifianalyzer.export.ExportFormat
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+import org.openjdk.jmh.annotations.*
+import java.io.ByteArrayOutputStream
+import java.util.*
+
+@State(Scope.Benchmark)
+class ExportBenchmark {
+    @Param("10", "100", "500", "1000", "5000")
+    var accessPoints: Int = 0
+
+    @Param("TEXT", "CSV", "JSON_LINES", "COLUMNAR")
+    lateinit var exportFormat: ExportFormat
+
+    private val export: Export = Export()
+    private val outputStream: ByteArrayOutputStream = ByteArrayOutputStream(1024 * 1024)
+    private lateinit var wiFiDetails: List<WiFiDetail>
+    private lateinit var date: Date
+
+    @Setup
+    fun setUp() {
+        BenchmarkContext.initialize()
+        wiFiDetails = BenchmarkContext.wiFiDetails(accessPoints)
+        date = Date()
+    }
+
+    @Benchmark
+    fun write(): Int {
+        outputStream.reset()
+        export.write(outputStream, exportFormat, wiFiDetails, date)
+        return outputStream.size()
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.benchmark
+
+import com.vrem.wifianalyzer.wifi.model.WiFiStandard
+import com.vrem.wifianalyzer.wifi.model.WiFiWidth
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
+import kotlin.random.Random
+
+internal class ScanGenerator(private val ouis: List<String>, seed: Long = SEED) {
+    private val random: Random = Random(seed)
+
+    fun scans(accessPoints: Int, count: Int): List<List<ScanResultRecord>> {
+        val scanResults: List<ScanResultRecord> = (0 until accessPoints).map { scanResult(accessPoints) }
+        return (0 until count).map { scanResults.map { next(it) } }
+    }
+
+    private fun scanResult(accessPoints: Int): ScanResultRecord {
+        val ghz5: Boolean = random.nextInt(PERCENT) < GHZ5_PERCENT
+        val frequency: Int = if (ghz5) frequencyGHZ5(CHANNELS_GHZ5.random(random)) else frequencyGHZ2(CHANNELS_GHZ2.random(random))
+        val channelWidth: Int = random.nextInt(if (ghz5) WiFiWidth.MHZ_160.channelWidth + 1 else WiFiWidth.MHZ_40.channelWidth + 1)
+        return ScanResultRecord(
+                if (random.nextInt(PERCENT) < HIDDEN_PERCENT) "" else "SSID-${random.nextInt(accessPoints / ACCESS_POINTS_PER_SSID + 1)}",
+                bssid(),
+                CAPABILITIES.random(random),
+                frequency,
+                frequency + CENTER_OFFSETS[channelWidth],
+                channelWidth,
+                WIFI_STANDARDS.random(random).wiFiStandardId,
+                random.nextInt(PERCENT) < MC80211_PERCENT,
+                random.nextInt(LEVEL_MINIMUM, LEVEL_MAXIMUM))
+    }
+
+    private fun next(scanResult: ScanResultRecord): ScanResultRecord =
+            scanResult.copy(level = (scanResult.level + random.nextInt(-LEVEL_JITTER, LEVEL_JITTER + 1)).coerceIn(LEVEL_MINIMUM, LEVEL_MAXIMUM))
+
+    private fun bssid(): String {
+        val oui: String = if (ouis.isEmpty()) "%06X".format(random.nextInt(OUI_MAXIMUM)) else ouis.random(random)
+        val nic: String = "%06X".format(random.nextInt(OUI_MAXIMUM))
+        return (oui + nic).chunked(2).joinToString(":").toLowerCase()
+    }
+
+    private fun frequencyGHZ2(channel: Int): Int = 2407 + channel * 5
+
+    private fun frequencyGHZ5(channel: Int): Int = 5000 + channel * 5
+
+    companion object {
+        private const val SEED = 20210401L
+        private const val PERCENT = 100
+        private const val GHZ5_PERCENT = 40
+        private const val HIDDEN_PERCENT = 5
+        private const val MC80211_PERCENT = 10
+        private const val ACCESS_POINTS_PER_SSID = 3
+        private const val OUI_MAXIMUM = 0x1000000
+        private const val LEVEL_MINIMUM = -95
+        private const val LEVEL_MAXIMUM = -30
+        private const val LEVEL_JITTER = 4
+        private val CHANNELS_GHZ2: List<Int> = (1..13).toList()
+        private val CHANNELS_GHZ5: List<Int> = (36..64 step 4) + (100..144 step 4) + (149..165 step 4)
+        private val CENTER_OFFSETS: IntArray = intArrayOf(0, 10, 30, 70)
+        private val WIFI_STANDARDS: List<WiFiStandard> = listOf(WiFiStandard.LEGACY, WiFiStandard.N, WiFiStandard.AC, WiFiStandard.AX)
+        private val CAPABILITIES: List<String> = listOf(
+                "[ESS]",
+                "[WEP][ESS]",
+                "[WPS][ESS]",
+                "[WPA-PSK-TKIP][ESS]",
+                "[WPA2-PSK-CCMP][ESS]",
+                "[WPA2-PSK-CCMP][RSN-PSK-CCMP][ESS][WPS]",
+                "[WPA-PSK-CCMP+TKIP][WPA2-PSK-CCMP+TKIP][ESS]",
+                "[WPA2-EAP-CCMP][RSN-EAP-CCMP][ESS]",
+                "[WPA2-PSK-CCMP][RSN-PSK+SAE-CCMP][ESS]",
+                "[RSN-SAE-CCMP][ESS]")
+    }
+
+}
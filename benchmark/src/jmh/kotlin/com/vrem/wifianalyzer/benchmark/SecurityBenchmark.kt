@@ -0,0 +1,42 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.benchmark
+
+import com.vrem.wifianalyzer.wifi.model.Security
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+
+@State(Scope.Benchmark)
+class SecurityBenchmark {
+    @Param("10", "100", "500", "1000", "5000")
+    var accessPoints: Int = 0
+
+    private lateinit var capabilities: List<String>
+
+    @Setup
+    fun setUp() {
+        BenchmarkContext.initialize()
+        capabilities = BenchmarkContext.scans(accessPoints).first().map { it.capabilities }
+    }
+
+    @Benchmark
+    fun findAll(blackhole: Blackhole) {
+        capabilities.forEach { blackhole.consume(Security.findAll(it)) }
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.benchmark
+
+import android.graphics.Canvas
+import android.graphics.Paint
+import android.graphics.Path
+import com.jjoe64.graphview.GraphView
+import com.jjoe64.graphview.Viewport
+import com.jjoe64.graphview.series.TitleLineGraphSeries
+import com.vrem.wifianalyzer.wifi.channelgraph.DataManager
+import com.vrem.wifianalyzer.wifi.graphutils.GraphDataPoint
+import com.vrem.wifianalyzer.wifi.graphutils.MAX_Y
+import com.vrem.wifianalyzer.wifi.graphutils.MIN_Y
+import org.objenesis.ObjenesisStd
+import org.openjdk.jmh.annotations.*
+
+@State(Scope.Benchmark)
+class TitleLineGraphSeriesBenchmark {
+    @Param("10", "100", "500", "1000", "5000")
+    var accessPoints: Int = 0
+
+    private val canvas: RecordingCanvas = RecordingCanvas()
+    private lateinit var graphView: FrameGraphView
+    private lateinit var series: List<TitleLineGraphSeries<GraphDataPoint>>
+    private var minFrequency: Double = 0.0
+    private var span: Int = 0
+    private var scroll: Int = 0
+
+    @Setup
+    fun setUp() {
+        BenchmarkContext.initialize()
+        val dataManager = DataManager()
+        series = BenchmarkContext.wiFiDetails(accessPoints).map {
+            TitleLineGraphSeries(dataManager.graphDataPoints(it, MAX_Y)).apply { title = it.wiFiIdentifier.ssid }
+        }
+        minFrequency = series.minOf { it.lowestValueX }
+        span = maxOf(1, (series.maxOf { it.highestValueX } - minFrequency).toInt())
+        graphView = FrameGraphView.create()
+    }
+
+    @Benchmark
+    fun draw(): Int {
+        scroll = (scroll + SCROLL) % span
+        val minX = minFrequency + scroll
+        graphView.frameViewport.set(minX, minX + WINDOW)
+        series.forEach { it.draw(graphView, canvas, false) }
+        return canvas.segments + canvas.paths + canvas.texts
+    }
+
+    companion object {
+        private const val WINDOW = 160
+        private const val SCROLL = 5
+    }
+
+}
+
+private class RecordingCanvas : Canvas() {
+    var segments: Int = 0
+    var paths: Int = 0
+    var texts: Int = 0
+
+    override fun drawLines(pts: FloatArray, offset: Int, count: Int, paint: Paint) {
+        segments += count / 4
+    }
+
+    override fun drawPath(path: Path, paint: Paint) {
+        paths++
+    }
+
+    override fun drawText(text: String, x: Float, y: Float, paint: Paint) {
+        texts++
+    }
+
+}
+
+// GraphView and Viewport are created without running their constructors, which need a live Android view hierarchy.
+private class FrameGraphView : GraphView(null) {
+    lateinit var frameViewport: FrameViewport
+
+    override fun getViewport(): Viewport = frameViewport
+
+    override fun getGraphContentHeight(): Int = HEIGHT
+
+    override fun getGraphContentWidth(): Int = WIDTH
+
+    override fun getGraphContentLeft(): Int = 0
+
+    override fun getGraphContentTop(): Int = 0
+
+    override fun getTitleTextSize(): Float = TITLE_TEXT_SIZE
+
+    companion object {
+        private const val HEIGHT = 1080
+        private const val WIDTH = 1920
+        private const val TITLE_TEXT_SIZE = 32f
+        private val objenesis = ObjenesisStd()
+
+        fun create(): FrameGraphView =
+                objenesis.newInstance(FrameGraphView::class.java).apply {
+                    frameViewport = objenesis.newInstance(FrameViewport::class.java)
+                }
+    }
+
+}
+
+private class FrameViewport : Viewport(null) {
+    private var minX: Double = 0.0
+    private var maxX: Double = 0.0
+
+    fun set(minX: Double, maxX: Double) {
+        this.minX = minX
+        this.maxX = maxX
+    }
+
+    override fun getMinX(completeRange: Boolean): Double = minX
+
+    override fun getMaxX(completeRange: Boolean): Double = maxX
+
+    override fun getMinY(completeRange: Boolean): Double = MIN_Y.toDouble()
+
+    override fun getMaxY(completeRange: Boolean): Double = MAX_Y.toDouble()
+
+}
@@ -0,0 +1,42 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.benchmark
+
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+import com.vrem.wifianalyzer.wifi.scanner.CacheResult
+import org.openjdk.jmh.annotations.*
+
+@State(Scope.Benchmark)
+class TransformerBenchmark {
+    @Param("10", "100", "500", "1000", "5000")
+    var accessPoints: Int = 0
+
+    private lateinit var cacheResults: List<CacheResult>
+
+    @Setup
+    fun setUp() {
+        BenchmarkContext.initialize()
+        val cache = BenchmarkContext.cache()
+        BenchmarkContext.scans(accessPoints).forEach { cache.add(it, null) }
+        cacheResults = cache.scanResults()
+    }
+
+    @Benchmark
+    fun transformCacheResults(): List<WiFiDetail> = BenchmarkContext.transformer.transformCacheResults(cacheResults)
+
+}
@@ -0,0 +1,66 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.benchmark
+
+import com.vrem.wifianalyzer.vendor.model.VendorDatabase
+import com.vrem.wifianalyzer.vendor.model.VendorService
+import com.vrem.wifianalyzer.vendor.model.toOui
+import com.vrem.wifianalyzer.vendor.model.toOuiString
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.util.*
+
+@State(Scope.Benchmark)
+class VendorServiceBenchmark {
+    @Param("10", "100", "500", "1000", "5000")
+    var accessPoints: Int = 0
+
+    private lateinit var vendorService: VendorService
+    private lateinit var vendorDatabase: VendorDatabase
+    private lateinit var vendorNames: SortedMap<String, String>
+    private lateinit var bssids: List<String>
+
+    @Setup
+    fun setUp() {
+        BenchmarkContext.initialize()
+        vendorService = BenchmarkContext.vendorService
+        vendorDatabase = BenchmarkContext.vendorDatabase
+        vendorNames = (0 until vendorDatabase.ouiCount)
+                .associateTo(TreeMap()) { vendorDatabase.oui(it).toOuiString() to vendorDatabase.vendorName(vendorDatabase.vendorIndex(it)) }
+        bssids = BenchmarkContext.scans(accessPoints).first().map { it.bssid }
+    }
+
+    @Benchmark
+    fun findVendorName(blackhole: Blackhole) {
+        bssids.forEach { blackhole.consume(vendorService.findVendorName(it)) }
+    }
+
+    @Benchmark
+    fun findVendorNameUncached(blackhole: Blackhole) {
+        bssids.forEach { blackhole.consume(vendorDatabase.findVendorName(it.toOui())) }
+    }
+
+    // lookup before the binary vendor database: normalize the BSSID into a string key of a TreeMap
+    @Benchmark
+    fun findVendorNameTreeMap(blackhole: Blackhole) {
+        bssids.forEach { blackhole.consume(vendorNames[it.clean()].orEmpty()) }
+    }
+
+    private fun String.clean(): String = replace(":", "").take(6).toUpperCase(Locale.getDefault())
+
+}
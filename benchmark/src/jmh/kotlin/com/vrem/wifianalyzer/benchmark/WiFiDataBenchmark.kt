@@ -0,0 +1,50 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.benchmark
+
+import com.vrem.wifianalyzer.wifi.model.*
+import com.vrem.wifianalyzer.wifi.predicate.truePredicate
+import org.openjdk.jmh.annotations.*
+
+@State(Scope.Benchmark)
+class WiFiDataBenchmark {
+    @Param("10", "100", "500", "1000", "5000")
+    var accessPoints: Int = 0
+
+    @Param
+    var sortBy: SortBy = SortBy.STRENGTH
+
+    @Param
+    var groupBy: GroupBy = GroupBy.NONE
+
+    private lateinit var wiFiDetails: List<WiFiDetail>
+    private lateinit var wiFiConnection: WiFiConnection
+
+    @Setup
+    fun setUp() {
+        BenchmarkContext.initialize()
+        wiFiDetails = BenchmarkContext.wiFiDetails(accessPoints)
+        wiFiConnection = WiFiConnection(wiFiDetails.first().wiFiIdentifier, "192.168.1.10", 866)
+    }
+
+    // WiFiData caches each query, so every invocation starts from a new scan as the app does
+    @Benchmark
+    fun wiFiDetails(): List<WiFiDetail> =
+            WiFiData(wiFiDetails, wiFiConnection, BenchmarkContext.vendorService).wiFiDetails(truePredicate, sortBy, groupBy)
+
+}
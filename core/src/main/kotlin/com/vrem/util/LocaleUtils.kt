@@ -17,16 +17,13 @@
  */
 package com.vrem.util
 
-import android.annotation.SuppressLint
 import java.util.*
 
 private object SyncAvoid {
-    @SuppressLint("ConstantLocale")
     val defaultLocale: Locale = Locale.getDefault()
     val countryCodes: Set<String> = Locale.getISOCountries().toSet()
     val availableLocales: List<Locale> = Locale.getAvailableLocales().filter { countryCodes.contains(it.country) }
 
-    @SuppressLint("ConstantLocale")
     val countriesLocales: SortedMap<String, Locale> = availableLocales.map { it.country.capitalize(Locale.getDefault()) to it }.toMap().toSortedMap()
     val supportedLocales: List<Locale> = setOf(
             BULGARIAN,
@@ -17,11 +17,9 @@
  */
 package com.vrem.wifianalyzer.wifi.band
 
-import com.vrem.wifianalyzer.R
-
-enum class WiFiBand(val textResource: Int, val wiFiChannels: WiFiChannels) {
-    GHZ2(R.string.wifi_band_2ghz, WiFiChannelsGHZ2()),
-    GHZ5(R.string.wifi_band_5ghz, WiFiChannelsGHZ5());
+enum class WiFiBand(val wiFiChannels: WiFiChannels) {
+    GHZ2(WiFiChannelsGHZ2()),
+    GHZ5(WiFiChannelsGHZ5());
 
     fun toggle(): WiFiBand = if (ghz5()) GHZ2 else GHZ5
 
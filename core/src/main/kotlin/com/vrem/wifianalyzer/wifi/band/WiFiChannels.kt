@@ -23,14 +23,20 @@ typealias WiFiChannelPair = Pair<WiFiChannel, WiFiChannel>
 fun WiFiChannelPair.channelCount(): Int = second.channel - first.channel + 1 + WiFiChannels.CHANNEL_OFFSET * 2
 
 abstract class WiFiChannels(private val wiFiRange: WiFiRange, private val wiFiChannelPairs: List<WiFiChannelPair>) {
+    private val wiFiChannelsByFrequency: Array<WiFiChannel> =
+            (wiFiRange.first..wiFiRange.second).map { frequency ->
+                wiFiChannelPairs.asSequence()
+                        .map { wiFiChannel(frequency, it) }
+                        .find { WiFiChannel.UNKNOWN != it }
+                        ?: WiFiChannel.UNKNOWN
+            }.toTypedArray()
+
     fun inRange(frequency: Int): Boolean =
             frequency in wiFiRange.first..wiFiRange.second
 
     fun wiFiChannelByFrequency(frequency: Int): WiFiChannel =
             if (inRange(frequency)) {
-                wiFiChannelPairs.find { WiFiChannel.UNKNOWN != wiFiChannel(frequency, it) }
-                        ?.let { wiFiChannel(frequency, it) }
-                        ?: WiFiChannel.UNKNOWN
+                wiFiChannelsByFrequency[frequency - wiFiRange.first]
             } else {
                 WiFiChannel.UNKNOWN
             }
@@ -69,9 +75,9 @@ abstract class WiFiChannels(private val wiFiRange: WiFiRange, private val wiFiCh
 
     companion object {
         val UNKNOWN = WiFiChannelPair(WiFiChannel.UNKNOWN, WiFiChannel.UNKNOWN)
-        internal const val FREQUENCY_SPREAD = 5
-        internal const val CHANNEL_OFFSET = 2
-        internal const val FREQUENCY_OFFSET = FREQUENCY_SPREAD * CHANNEL_OFFSET
+        const val FREQUENCY_SPREAD = 5
+        const val CHANNEL_OFFSET = 2
+        const val FREQUENCY_OFFSET = FREQUENCY_SPREAD * CHANNEL_OFFSET
     }
 
 }
\ No newline at end of file
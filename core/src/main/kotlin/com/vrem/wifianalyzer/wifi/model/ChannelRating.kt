@@ -0,0 +1,76 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.model
+
+import com.vrem.annotation.OpenClass
+import com.vrem.wifianalyzer.wifi.band.WiFiChannel
+
+@OpenClass
+class ChannelRating {
+    private val wiFiDetails: MutableList<WiFiDetail> = mutableListOf()
+    private var overlapping: FrequencyIndex = FrequencyIndex(listOf())
+    private var strengths: List<FrequencyIndex> = enumValues<Strength>().map { FrequencyIndex(listOf()) }
+
+    fun count(wiFiChannel: WiFiChannel): Int = overlapping.count(wiFiChannel.frequency)
+
+    fun strength(wiFiChannel: WiFiChannel): Strength =
+            strength { strengths[it.ordinal].count(wiFiChannel.frequency) }
+
+    fun wiFiDetails(): List<WiFiDetail> = wiFiDetails
+
+    fun wiFiDetails(wiFiDetails: List<WiFiDetail>) {
+        this.wiFiDetails.clear()
+        this.wiFiDetails.addAll(removeSame(wiFiDetails))
+        index()
+    }
+
+    fun ratings(wiFiChannels: List<WiFiChannel>): List<ChannelAPRating> {
+        val frequencies: IntArray = wiFiChannels.map { it.frequency }.toIntArray()
+        val counts: IntArray = overlapping.counts(frequencies)
+        val strengthCounts: List<IntArray> = strengths.map { it.counts(frequencies) }
+        return wiFiChannels.mapIndexed { index, wiFiChannel ->
+            ChannelAPRating(wiFiChannel, counts[index], strength { strengthCounts[it.ordinal][index] })
+        }
+    }
+
+    fun bestChannels(wiFiChannels: List<WiFiChannel>): List<ChannelAPCount> =
+            ratings(wiFiChannels)
+                    .filter { bestChannel(it.strength) }
+                    .map { ChannelAPCount(it.wiFiChannel, it.count) }
+                    .sorted()
+
+    private fun removeSame(wiFiDetails: List<WiFiDetail>): List<WiFiDetail> {
+        return wiFiDetails.distinctBy { it.wiFiVirtual }.sortedWith(SortBy.STRENGTH.sort)
+    }
+
+    private fun index() {
+        overlapping = FrequencyIndex(wiFiDetails.map { it.wiFiSignal })
+        val notConnected: Map<Strength, List<WiFiSignal>> = wiFiDetails
+                .filter { !it.wiFiAdditional.wiFiConnection.connected }
+                .map { it.wiFiSignal }
+                .groupBy { it.strength }
+        strengths = enumValues<Strength>().map { FrequencyIndex(notConnected[it].orEmpty()) }
+    }
+
+    private fun strength(count: (Strength) -> Int): Strength =
+            enumValues<Strength>().reversed().find { count(it) > 0 } ?: Strength.ZERO
+
+    private fun bestChannel(strength: Strength): Boolean =
+            Strength.ZERO == strength || Strength.ONE == strength
+
+}
\ No newline at end of file
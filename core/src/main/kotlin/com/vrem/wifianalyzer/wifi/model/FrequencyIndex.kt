@@ -0,0 +1,64 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.model
+
+internal class FrequencyIndex(wiFiSignals: List<WiFiSignal>) {
+    private val frequencyStarts: IntArray = wiFiSignals.map { it.frequencyStart }.toIntArray().apply { sort() }
+    private val frequencyEnds: IntArray = wiFiSignals.map { it.frequencyEnd }.toIntArray().apply { sort() }
+
+    val size: Int
+        get() = frequencyStarts.size
+
+    fun count(frequency: Int): Int =
+            upperBound(frequencyStarts, frequency) - lowerBound(frequencyEnds, frequency)
+
+    fun counts(frequencies: IntArray): IntArray {
+        val results = IntArray(frequencies.size)
+        val order: List<Int> = frequencies.indices.sortedBy { frequencies[it] }
+        var started = 0
+        var ended = 0
+        order.forEach {
+            val frequency = frequencies[it]
+            while (started < frequencyStarts.size && frequencyStarts[started] <= frequency) started++
+            while (ended < frequencyEnds.size && frequencyEnds[ended] < frequency) ended++
+            results[it] = started - ended
+        }
+        return results
+    }
+
+    private fun upperBound(values: IntArray, value: Int): Int {
+        var low = 0
+        var high = values.size
+        while (low < high) {
+            val middle = (low + high) ushr 1
+            if (values[middle] <= value) low = middle + 1 else high = middle
+        }
+        return low
+    }
+
+    private fun lowerBound(values: IntArray, value: Int): Int {
+        var low = 0
+        var high = values.size
+        while (low < high) {
+            val middle = (low + high) ushr 1
+            if (values[middle] < value) low = middle + 1 else high = middle
+        }
+        return low
+    }
+
+}
@@ -17,29 +17,44 @@
  */
 package com.vrem.wifianalyzer.wifi.model
 
-import androidx.annotation.DrawableRes
 import com.vrem.util.EMPTY
-import com.vrem.wifianalyzer.R
 import java.util.*
+import java.util.concurrent.ConcurrentHashMap
 
 private const val SAE = "SAE"
 
-enum class Security(@DrawableRes val imageResource: Int, val additional: String = String.EMPTY) {
-    NONE(R.drawable.ic_lock_open),
-    WPS(R.drawable.ic_lock_outline),
-    WEP(R.drawable.ic_lock_outline),
-    WPA(R.drawable.ic_lock),
-    WPA2(R.drawable.ic_lock),
-    WPA3(R.drawable.ic_lock, SAE);
+enum class Security(val additional: String = String.EMPTY) {
+    NONE,
+    WPS,
+    WEP,
+    WPA,
+    WPA2,
+    WPA3(SAE);
 
     companion object {
+        private const val CACHE_MAXIMUM = 256
         private val regex = Regex("[^A-Z0-9]")
+        private val cache: MutableMap<String, Set<Security>> = ConcurrentHashMap()
 
         fun findAll(capabilities: String): Set<Security> =
-                parse(capabilities).mapNotNull(transform()).toSortedSet().ifEmpty { setOf(NONE) }
+                cache[capabilities] ?: parseAll(capabilities).also {
+                    if (cache.size >= CACHE_MAXIMUM) {
+                        cache.clear()
+                    }
+                    cache[capabilities] = it
+                }
 
         fun findOne(capabilities: String): Security = findAll(capabilities).first()
 
+        private fun parseAll(capabilities: String): Set<Security> {
+            val securities: EnumSet<Security> = EnumSet.noneOf(Security::class.java)
+            parse(capabilities).mapNotNullTo(securities, transform())
+            if (securities.isEmpty()) {
+                securities.add(NONE)
+            }
+            return Collections.unmodifiableSet(securities)
+        }
+
         private fun transform(): (String) -> Security? = {
             try {
                 enumValueOf<Security>(it)
@@ -18,28 +18,53 @@
 package com.vrem.wifianalyzer.wifi.model
 
 import com.vrem.annotation.OpenClass
-import com.vrem.wifianalyzer.MainContext
 import com.vrem.wifianalyzer.wifi.predicate.Predicate
+import java.util.concurrent.atomic.AtomicLong
+
+private data class WiFiDetailsKey(val predicate: Predicate, val sortBy: SortBy, val groupBy: GroupBy)
 
 @OpenClass
-class WiFiData(val wiFiDetails: List<WiFiDetail>, val wiFiConnection: WiFiConnection) {
+class WiFiData(val wiFiDetails: List<WiFiDetail>,
+               val wiFiConnection: WiFiConnection,
+               private val vendorNames: VendorNames = VendorNames.NONE) {
+    private val cache: MutableMap<WiFiDetailsKey, List<WiFiDetail>> = HashMap()
 
-    fun connection(): WiFiDetail =
-            wiFiDetails
-                    .find { connected(it) }
-                    ?.let { copy(it) }
-                    ?: WiFiDetail.EMPTY
+    private val connection: WiFiDetail by lazy {
+        wiFiDetails
+                .find { connected(it) }
+                ?.let { copy(it) }
+                ?: WiFiDetail.EMPTY
+    }
+
+    private val transformed: List<WiFiDetail> by lazy {
+        val connection: WiFiDetail = connection()
+        wiFiDetails.map { transform(it, connection) }
+    }
+
+    fun connection(): WiFiDetail = connection
 
     fun wiFiDetails(predicate: Predicate, sortBy: SortBy): List<WiFiDetail> =
             wiFiDetails(predicate, sortBy, GroupBy.NONE)
 
     fun wiFiDetails(predicate: Predicate, sortBy: SortBy, groupBy: GroupBy): List<WiFiDetail> {
-        val connection: WiFiDetail = connection()
-        return wiFiDetails
+        val key = WiFiDetailsKey(predicate, sortBy, groupBy)
+        synchronized(cache) {
+            cache[key]?.let {
+                hits.incrementAndGet()
+                return it
+            }
+        }
+        misses.incrementAndGet()
+        val results: List<WiFiDetail> = transformed
                 .filter { predicate(it) }
-                .map { transform(it, connection) }
                 .sortAndGroup(sortBy, groupBy)
                 .sortedWith(sortBy.sort)
+        synchronized(cache) {
+            if (cache.size < CACHE_MAXIMUM) {
+                cache[key] = results
+            }
+        }
+        return results
     }
 
     private fun List<WiFiDetail>.sortAndGroup(sortBy: SortBy, groupBy: GroupBy): List<WiFiDetail> =
@@ -67,7 +92,7 @@ class WiFiData(val wiFiDetails: List<WiFiDetail>, val wiFiConnection: WiFiConnec
             when (wiFiDetail) {
                 connection -> connection
                 else -> {
-                    val vendorName: String = MainContext.INSTANCE.vendorService.findVendorName(wiFiDetail.wiFiIdentifier.bssid)
+                    val vendorName: String = vendorNames.findVendorName(wiFiDetail.wiFiIdentifier.bssid)
                     val wiFiAdditional = WiFiAdditional(vendorName, WiFiConnection.EMPTY)
                     WiFiDetail(wiFiDetail, wiFiAdditional)
                 }
@@ -77,13 +102,21 @@ class WiFiData(val wiFiDetails: List<WiFiDetail>, val wiFiConnection: WiFiConnec
             wiFiConnection.wiFiIdentifier.equals(it.wiFiIdentifier, true)
 
     private fun copy(wiFiDetail: WiFiDetail): WiFiDetail {
-        val vendorName: String = MainContext.INSTANCE.vendorService.findVendorName(wiFiDetail.wiFiIdentifier.bssid)
+        val vendorName: String = vendorNames.findVendorName(wiFiDetail.wiFiIdentifier.bssid)
         val wiFiAdditional = WiFiAdditional(vendorName, wiFiConnection)
         return WiFiDetail(wiFiDetail, wiFiAdditional)
     }
 
     companion object {
+        private const val CACHE_MAXIMUM = 32
+        private val hits: AtomicLong = AtomicLong()
+        private val misses: AtomicLong = AtomicLong()
+
         val EMPTY = WiFiData(listOf(), WiFiConnection.EMPTY)
+
+        fun cacheHits(): Long = hits.get()
+
+        fun cacheMisses(): Long = misses.get()
     }
 
 }
\ No newline at end of file
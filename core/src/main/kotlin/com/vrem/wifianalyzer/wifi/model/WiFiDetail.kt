@@ -32,11 +32,10 @@ data class WiFiDetail(
     constructor(wiFiDetail: WiFiDetail, children: List<WiFiDetail>) :
             this(wiFiDetail.wiFiIdentifier, wiFiDetail.capabilities, wiFiDetail.wiFiSignal, wiFiDetail.wiFiAdditional, children)
 
-    val security: Security
-        get() = Security.findOne(capabilities)
+    val securities: Set<Security> = Security.findAll(capabilities)
 
-    val securities: Set<Security>
-        get() = Security.findAll(capabilities)
+    val security: Security
+        get() = securities.first()
 
     val noChildren: Boolean
         get() = children.isNotEmpty()
@@ -45,7 +45,7 @@ data class WiFiSignal(val primaryFrequency: Int = 0,
         get() = Strength.calculate(level)
 
     val distance: String
-        get() = String.format("~%.1fm", calculateDistance(primaryFrequency, level))
+        get() = String.format(DISTANCE_FORMAT, calculateDistance(primaryFrequency, level))
 
     fun inRange(frequency: Int): Boolean =
             frequency in frequencyStart..frequencyEnd
@@ -70,6 +70,7 @@ data class WiFiSignal(val primaryFrequency: Int = 0,
 
     companion object {
         const val FREQUENCY_UNITS = "MHz"
+        const val DISTANCE_FORMAT = "~%.1fm"
 
         val EMPTY = WiFiSignal()
     }
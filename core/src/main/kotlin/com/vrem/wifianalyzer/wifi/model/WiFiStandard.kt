@@ -0,0 +1,34 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.model
+
+typealias WiFiStandardId = Int
+
+// values of ScanResult.WIFI_STANDARD_*
+enum class WiFiStandard(val wiFiStandardId: WiFiStandardId) {
+    UNKNOWN(0),
+    LEGACY(1),
+    N(4),
+    AC(5),
+    AX(6);
+
+    companion object {
+        fun findOne(wiFiStandardId: WiFiStandardId): WiFiStandard =
+                values().firstOrNull { it.wiFiStandardId == wiFiStandardId } ?: UNKNOWN
+    }
+}
\ No newline at end of file
@@ -17,18 +17,10 @@
  */
 package com.vrem.wifianalyzer.wifi.model
 
-import android.net.wifi.ScanResult
-import com.vrem.util.buildMinVersionM
 import kotlin.math.abs
 
 typealias ChannelWidth = Int
 
-private val channelWidth20: ChannelWidth = if (buildMinVersionM()) ScanResult.CHANNEL_WIDTH_20MHZ else 0
-private val channelWidth40: ChannelWidth = if (buildMinVersionM()) ScanResult.CHANNEL_WIDTH_40MHZ else 1
-private val channelWidth80: ChannelWidth = if (buildMinVersionM()) ScanResult.CHANNEL_WIDTH_80MHZ else 2
-private val channelWidth160: ChannelWidth = if (buildMinVersionM()) ScanResult.CHANNEL_WIDTH_160MHZ else 3
-private val channelWidth80Plus: ChannelWidth = if (buildMinVersionM()) ScanResult.CHANNEL_WIDTH_80MHZ_PLUS_MHZ else 4
-
 typealias CalculateCenter = (primary: Int, center: Int) -> Int
 
 internal val calculateCenter20: CalculateCenter = { primary, _ -> primary }
@@ -52,12 +44,13 @@ internal val calculateCenter160: CalculateCenter = { primary, center ->
     }
 }
 
+// channelWidth values of ScanResult.CHANNEL_WIDTH_*
 enum class WiFiWidth(val channelWidth: ChannelWidth, val frequencyWidth: Int, val guardBand: Int, val calculateCenter: CalculateCenter) {
-    MHZ_20(channelWidth20, 20, 2, calculateCenter20),
-    MHZ_40(channelWidth40, 40, 3, calculateCenter40),
-    MHZ_80(channelWidth80, 80, 3, calculateCenter80),
-    MHZ_160(channelWidth160, 160, 3, calculateCenter160),
-    MHZ_80_PLUS(channelWidth80Plus, 80, 3, calculateCenter80);
+    MHZ_20(0, 20, 2, calculateCenter20),
+    MHZ_40(1, 40, 3, calculateCenter40),
+    MHZ_80(2, 80, 3, calculateCenter80),
+    MHZ_160(3, 160, 3, calculateCenter160),
+    MHZ_80_PLUS(4, 80, 3, calculateCenter80);
 
     val frequencyWidthHalf: Int = frequencyWidth / 2
 
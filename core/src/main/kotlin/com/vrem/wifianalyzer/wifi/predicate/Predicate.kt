@@ -0,0 +1,86 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.predicate
+
+import com.vrem.wifianalyzer.wifi.band.WiFiBand
+import com.vrem.wifianalyzer.wifi.model.SSID
+import com.vrem.wifianalyzer.wifi.model.Security
+import com.vrem.wifianalyzer.wifi.model.Strength
+import com.vrem.wifianalyzer.wifi.model.WiFiDetail
+
+typealias Predicate = (wiFiDetail: WiFiDetail) -> Boolean
+typealias ToPredicate<T> = (T) -> Predicate
+
+private data class PredicateKey(val ssids: Set<SSID>,
+                                val wiFiBands: Set<WiFiBand>,
+                                val strengths: Set<Strength>,
+                                val securities: Set<Security>)
+
+private object PredicateCache {
+    const val MAXIMUM = 8
+    val predicates: MutableMap<PredicateKey, Predicate> = object : LinkedHashMap<PredicateKey, Predicate>(MAXIMUM, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<PredicateKey, Predicate>?): Boolean = size > MAXIMUM
+    }
+    val wiFiBandPredicates: Map<WiFiBand, Predicate> =
+            WiFiBand.values().associate { wiFiBand -> wiFiBand to { wiFiDetail: WiFiDetail -> wiFiDetail.wiFiSignal.wiFiBand == wiFiBand } }
+}
+
+val truePredicate: Predicate = { true }
+val falsePredicate: Predicate = { false }
+
+fun List<Predicate>.anyPredicate(): Predicate =
+        { wiFiDetail -> this.any { predicate -> predicate(wiFiDetail) } }
+
+fun List<Predicate>.allPredicate(): Predicate =
+        { wiFiDetail -> this.all { predicate -> predicate(wiFiDetail) } }
+
+fun WiFiBand.predicate(): Predicate = PredicateCache.wiFiBandPredicates.getValue(this)
+
+fun Strength.predicate(): Predicate =
+        { wiFiDetail -> wiFiDetail.wiFiSignal.strength == this }
+
+fun SSID.predicate(): Predicate =
+        { wiFiDetail -> wiFiDetail.wiFiIdentifier.ssid.contains(this) }
+
+fun Security.predicate(): Predicate =
+        { wiFiDetail -> wiFiDetail.securities.contains(this) }
+
+private fun Set<SSID>.ssidPredicate(): Predicate =
+        if (this.isEmpty())
+            truePredicate
+        else
+            this.map { it.predicate() }.anyPredicate()
+
+fun <T : Enum<T>> makePredicate(values: Array<T>, filter: Set<T>, toPredicate: ToPredicate<T>): Predicate =
+        if (filter.size >= values.size)
+            truePredicate
+        else
+            filter.map { toPredicate(it) }.anyPredicate()
+
+private fun predicates(predicateKey: PredicateKey): List<Predicate> =
+        listOf(predicateKey.ssids.ssidPredicate(),
+                makePredicate(WiFiBand.values(), predicateKey.wiFiBands) { wiFiBand -> wiFiBand.predicate() },
+                makePredicate(Strength.values(), predicateKey.strengths) { strength -> strength.predicate() },
+                makePredicate(Security.values(), predicateKey.securities) { security -> security.predicate() })
+
+fun makePredicate(ssids: Set<SSID>, wiFiBands: Set<WiFiBand>, strengths: Set<Strength>, securities: Set<Security>): Predicate {
+    val predicateKey = PredicateKey(ssids, wiFiBands, strengths, securities)
+    return synchronized(PredicateCache.predicates) {
+        PredicateCache.predicates.getOrPut(predicateKey) { predicates(predicateKey).allPredicate() }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanlog
+
+import java.io.BufferedInputStream
+import java.io.Closeable
+import java.io.DataInputStream
+import java.io.EOFException
+import java.io.InputStream
+
+private const val MAX_RECORD_SIZE = 16 * 1024 * 1024
+
+class ScanLogReader(inputStream: InputStream) : Closeable {
+    private val input: DataInputStream = DataInputStream(BufferedInputStream(inputStream))
+    private val strings: MutableList<String> = mutableListOf()
+    private var bytes: ByteArray = ByteArray(1024)
+    private var position: Int = 0
+    private var limit: Int = 0
+    private var timestamp: Long = 0
+    private var valid: Boolean = header()
+
+    fun read(): ScanRecord? {
+        while (valid) {
+            val size = record()
+            if (size <= 0) {
+                valid = false
+            } else {
+                try {
+                    when (bytes[0].toInt()) {
+                        RECORD_STRING -> strings.add(String(bytes, 1, size - 1, Charsets.UTF_8))
+                        RECORD_SCAN -> return scan()
+                    }
+                } catch (e: IndexOutOfBoundsException) {
+                    // corrupt record
+                    valid = false
+                } catch (e: IllegalArgumentException) {
+                    // corrupt record
+                    valid = false
+                }
+            }
+        }
+        return null
+    }
+
+    override fun close() = input.close()
+
+    private fun header(): Boolean =
+            try {
+                input.readInt() == SCAN_LOG_MAGIC && input.readByte().toInt() == SCAN_LOG_VERSION
+            } catch (e: EOFException) {
+                false
+            }
+
+    private fun record(): Int =
+            try {
+                val size = length()
+                if (size > MAX_RECORD_SIZE) {
+                    0
+                } else {
+                    if (size > bytes.size) {
+                        bytes = ByteArray(maxOf(size, bytes.size * 2))
+                    }
+                    input.readFully(bytes, 0, size)
+                    position = 1
+                    limit = size
+                    size
+                }
+            } catch (e: EOFException) {
+                // truncated record at the end of the log
+                0
+            }
+
+    private fun scan(): ScanRecord {
+        timestamp += unZigZag(varLong())
+        val count = varLong()
+        require(count in 0..limit - position) { "Invalid scan result count: $count" }
+        val scanResults = List(count.toInt()) {
+            ScanResultRecord(
+                    ssid = strings[varLong().toInt()],
+                    bssid = strings[varLong().toInt()],
+                    capabilities = strings[varLong().toInt()],
+                    frequency = varLong().toInt(),
+                    centerFrequency0 = varLong().toInt(),
+                    channelWidth = byte(),
+                    wiFiStandard = byte(),
+                    mc80211 = byte() != 0,
+                    level = bytes[position++].toInt())
+        }
+        val connection = if (byte() == 0) {
+            null
+        } else {
+            ConnectionRecord(
+                    ssid = strings[varLong().toInt()],
+                    bssid = strings[varLong().toInt()],
+                    ipAddress = (byte() shl 24) or (byte() shl 16) or (byte() shl 8) or byte(),
+                    linkSpeed = varLong().toInt())
+        }
+        return ScanRecord(timestamp, scanResults, connection)
+    }
+
+    private fun byte(): Int = bytes[position++].toInt() and 0xFF
+
+    private fun length(): Int {
+        var result = 0
+        var shift = 0
+        while (true) {
+            val value = input.read()
+            if (value < 0 || shift > 28) {
+                throw EOFException()
+            }
+            result = result or ((value and 0x7F) shl shift)
+            if (value and 0x80 == 0) {
+                return result
+            }
+            shift += 7
+        }
+    }
+
+    private fun varLong(): Long {
+        var result = 0L
+        var shift = 0
+        do {
+            val value = byte()
+            result = result or ((value and 0x7F).toLong() shl shift)
+            shift += 7
+        } while (value and 0x80 != 0)
+        return result
+    }
+
+    private fun unZigZag(value: Long): Long = (value ushr 1) xor -(value and 1)
+
+}
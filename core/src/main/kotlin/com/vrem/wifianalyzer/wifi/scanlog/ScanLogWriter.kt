@@ -0,0 +1,168 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanlog
+
+import java.io.Closeable
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+
+internal const val SCAN_LOG_MAGIC = 0x5753434C
+internal const val SCAN_LOG_VERSION = 1
+internal const val RECORD_STRING = 1
+internal const val RECORD_SCAN = 2
+private const val FLUSH_SIZE = 32 * 1024
+
+class ScanLogWriter(private val channel: FileChannel) : Closeable {
+    private val strings: MutableMap<String, Int> = mutableMapOf()
+    private val output: ScanLogBuffer = ScanLogBuffer(FLUSH_SIZE * 2)
+    private val record: ScanLogBuffer = ScanLogBuffer(FLUSH_SIZE)
+    private var timestamp: Long = 0
+
+    init {
+        output.putInt(SCAN_LOG_MAGIC)
+        output.putByte(SCAN_LOG_VERSION)
+    }
+
+    fun write(scanRecord: ScanRecord) {
+        record.clear()
+        record.putByte(RECORD_SCAN)
+        record.putVarLong(zigZag(scanRecord.timestamp - timestamp))
+        record.putVarInt(scanRecord.scanResults.size)
+        scanRecord.scanResults.forEach {
+            record.putVarInt(string(it.ssid))
+            record.putVarInt(string(it.bssid))
+            record.putVarInt(string(it.capabilities))
+            record.putVarInt(it.frequency)
+            record.putVarInt(it.centerFrequency0)
+            record.putByte(it.channelWidth)
+            record.putByte(it.wiFiStandard)
+            record.putByte(if (it.mc80211) 1 else 0)
+            record.putByte(it.level.coerceIn(Byte.MIN_VALUE.toInt(), Byte.MAX_VALUE.toInt()))
+        }
+        val connection = scanRecord.connection
+        if (connection == null) {
+            record.putByte(0)
+        } else {
+            record.putByte(1)
+            record.putVarInt(string(connection.ssid))
+            record.putVarInt(string(connection.bssid))
+            record.putInt(connection.ipAddress)
+            record.putVarInt(connection.linkSpeed)
+        }
+        output.putVarInt(record.size)
+        output.putBuffer(record)
+        timestamp = scanRecord.timestamp
+        if (output.size >= FLUSH_SIZE) {
+            flush()
+        }
+    }
+
+    fun flush() {
+        output.writeTo(channel)
+        output.clear()
+    }
+
+    fun sync() {
+        flush()
+        channel.force(false)
+    }
+
+    override fun close() {
+        try {
+            sync()
+        } finally {
+            channel.close()
+        }
+    }
+
+    private fun string(value: String): Int =
+            strings[value] ?: strings.size.also {
+                val bytes = value.toByteArray(Charsets.UTF_8)
+                output.putVarInt(bytes.size + 1)
+                output.putByte(RECORD_STRING)
+                output.putBytes(bytes)
+                strings[value] = it
+            }
+
+    private fun zigZag(value: Long): Long = (value shl 1) xor (value shr 63)
+
+}
+
+internal class ScanLogBuffer(capacity: Int) {
+    private var bytes: ByteArray = ByteArray(capacity)
+
+    var size: Int = 0
+        private set
+
+    fun clear() {
+        size = 0
+    }
+
+    fun putByte(value: Int) {
+        ensure(1)
+        bytes[size++] = value.toByte()
+    }
+
+    fun putInt(value: Int) {
+        ensure(4)
+        bytes[size++] = (value ushr 24).toByte()
+        bytes[size++] = (value ushr 16).toByte()
+        bytes[size++] = (value ushr 8).toByte()
+        bytes[size++] = value.toByte()
+    }
+
+    fun putVarInt(value: Int) {
+        putVarLong(value.toLong() and 0xFFFFFFFFL)
+    }
+
+    fun putVarLong(value: Long) {
+        ensure(10)
+        var remaining = value
+        while (remaining and 0x7FL.inv() != 0L) {
+            bytes[size++] = ((remaining and 0x7F) or 0x80).toByte()
+            remaining = remaining ushr 7
+        }
+        bytes[size++] = remaining.toByte()
+    }
+
+    fun putBytes(value: ByteArray) {
+        ensure(value.size)
+        value.copyInto(bytes, size)
+        size += value.size
+    }
+
+    fun putBuffer(value: ScanLogBuffer) {
+        ensure(value.size)
+        value.bytes.copyInto(bytes, size, 0, value.size)
+        size += value.size
+    }
+
+    fun writeTo(channel: FileChannel) {
+        val buffer = ByteBuffer.wrap(bytes, 0, size)
+        while (buffer.hasRemaining()) {
+            channel.write(buffer)
+        }
+    }
+
+    private fun ensure(count: Int) {
+        if (size + count > bytes.size) {
+            bytes = bytes.copyOf(maxOf(bytes.size * 2, size + count))
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanlog
+
+import com.vrem.wifianalyzer.wifi.model.BSSID
+import com.vrem.wifianalyzer.wifi.model.ChannelWidth
+import com.vrem.wifianalyzer.wifi.model.SSID
+import com.vrem.wifianalyzer.wifi.model.WiFiStandardId
+
+data class ScanResultRecord(
+        val ssid: SSID,
+        val bssid: BSSID,
+        val capabilities: String,
+        val frequency: Int,
+        val centerFrequency0: Int,
+        val channelWidth: ChannelWidth,
+        val wiFiStandard: WiFiStandardId,
+        val mc80211: Boolean,
+        val level: Int)
+
+data class ConnectionRecord(
+        val ssid: SSID,
+        val bssid: BSSID,
+        val ipAddress: Int,
+        val linkSpeed: Int)
+
+data class ScanRecord(
+        val timestamp: Long,
+        val scanResults: List<ScanResultRecord>,
+        val connection: ConnectionRecord?)
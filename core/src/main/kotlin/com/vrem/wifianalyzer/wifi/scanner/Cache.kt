@@ -17,46 +17,55 @@
  */
 package com.vrem.wifianalyzer.wifi.scanner
 
-import android.net.wifi.ScanResult
-import android.net.wifi.WifiInfo
 import com.vrem.annotation.OpenClass
-import com.vrem.wifianalyzer.MainContext
+import com.vrem.wifianalyzer.wifi.scanlog.ConnectionRecord
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
 
-internal class CacheResult(val scanResult: ScanResult, val average: Int)
+class CacheResult(val scanResult: ScanResultRecord, val average: Int)
 
 internal data class CacheKey(val bssid: String, val ssid: String)
 
 @OpenClass
-internal class Cache {
-    private val scanResults: ArrayDeque<List<ScanResult>> = ArrayDeque(MAXIMUM)
-    private var wifiInfo: WifiInfo? = null
+class Cache(private val sizeAvailable: () -> Boolean, private val scanSpeed: () -> Int) {
+    private val scanResults: ArrayDeque<List<ScanResultRecord>> = ArrayDeque(MAXIMUM)
+    private val scanAggregator: ScanAggregator = ScanAggregator()
+    private var connection: ConnectionRecord? = null
     private var count: Int = COUNT_MIN
+    private var cacheResults: List<CacheResult>? = null
+    private var cacheResultsSizeAvailable: Boolean = false
 
-    fun scanResults(): List<CacheResult> =
-            combineCache()
-                    .groupingBy { CacheKey(it.BSSID, it.SSID) }
-                    .aggregate { _, accumulator: CacheResult?, element, first ->
-                        CacheResult(element, calculate(first, element, accumulator))
-                    }
-                    .values
-                    .toList()
+    fun scanResults(): List<CacheResult> {
+        val sizeAvailable: Boolean = sizeAvailable()
+        val current: List<CacheResult>? = cacheResults
+        if (current != null && cacheResultsSizeAvailable == sizeAvailable) {
+            return current
+        }
+        val results: List<CacheResult> = scanAggregator.aggregate { first, element, accumulator ->
+            calculate(sizeAvailable, first, element, accumulator)
+        }
+        cacheResults = results
+        cacheResultsSizeAvailable = sizeAvailable
+        return results
+    }
 
-    fun add(scanResults: List<ScanResult>, wifiInfo: WifiInfo?) {
+    fun add(scanResults: List<ScanResultRecord>, connection: ConnectionRecord?) {
         count = if (count >= MAXIMUM * FACTOR) COUNT_MIN else count + 1
         while (this.scanResults.size >= size()) {
-            this.scanResults.removeLastOrNull()
+            this.scanResults.removeLastOrNull()?.let { scanAggregator.remove(it) }
         }
         this.scanResults.addFirst(scanResults)
-        this.wifiInfo = wifiInfo
+        scanAggregator.add(scanResults)
+        this.connection = connection
+        cacheResults = null
     }
 
-    fun first(): List<ScanResult> = scanResults.first()
+    fun first(): List<ScanResultRecord> = scanResults.first()
 
-    fun last(): List<ScanResult> = scanResults.last()
+    fun last(): List<ScanResultRecord> = scanResults.last()
 
     fun size(): Int =
-            if (sizeAvailable)
-                with(MainContext.INSTANCE.settings.scanSpeed()) {
+            if (sizeAvailable())
+                with(scanSpeed()) {
                     when {
                         this < 2 -> MAXIMUM
                         this < 5 -> MAXIMUM - 1
@@ -66,23 +75,14 @@ internal class Cache {
                 }
             else MINIMUM
 
-    fun wifiInfo(): WifiInfo? = wifiInfo
+    fun connection(): ConnectionRecord? = connection
 
-    private fun calculate(first: Boolean, element: ScanResult, accumulator: CacheResult?): Int {
+    private fun calculate(sizeAvailable: Boolean, first: Boolean, element: ScanResultRecord, accumulator: CacheResult?): Int {
         val average: Int = if (first) element.level else (accumulator!!.average + element.level) / DENOMINATOR
         return (if (sizeAvailable) average else average - SIZE * (count + count % FACTOR) / DENOMINATOR)
                 .coerceIn(LEVEL_MINIMUM, LEVEL_MAXIMUM)
     }
 
-    private fun combineCache(): List<ScanResult> =
-            scanResults.flatten().sortedWith(comparator())
-
-    private fun comparator(): Comparator<ScanResult> =
-            compareBy<ScanResult> { it.BSSID }.thenBy { it.SSID }.thenBy { it.level }
-
-    private val sizeAvailable: Boolean
-        get() = MainContext.INSTANCE.configuration.sizeAvailable
-
     companion object {
         private const val MINIMUM: Int = 1
         private const val MAXIMUM: Int = 4
@@ -0,0 +1,78 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
+import java.util.SortedMap
+import java.util.TreeMap
+
+internal typealias CalculateAverage = (first: Boolean, element: ScanResultRecord, accumulator: CacheResult?) -> Int
+
+internal class ScanObservation(val scanResult: ScanResultRecord, val level: Int, val generation: Long)
+
+internal class ScanAggregator {
+    private val observations: SortedMap<CacheKey, MutableList<ScanObservation>> = TreeMap(comparator())
+    private val generations: ArrayDeque<Long> = ArrayDeque()
+    private var generation: Long = 0
+
+    fun add(scanResults: List<ScanResultRecord>) {
+        generation++
+        generations.addFirst(generation)
+        scanResults.asReversed().forEach {
+            val key = CacheKey(it.bssid, it.ssid)
+            val values: MutableList<ScanObservation> = observations.getOrPut(key) { mutableListOf() }
+            insert(values, ScanObservation(it, it.level, generation))
+        }
+    }
+
+    fun remove(scanResults: List<ScanResultRecord>) {
+        val oldest: Long = generations.removeLastOrNull() ?: return
+        scanResults.forEach {
+            val key = CacheKey(it.bssid, it.ssid)
+            observations[key]?.let { values ->
+                values.removeAll { observation -> observation.generation == oldest }
+                if (values.isEmpty()) {
+                    observations.remove(key)
+                }
+            }
+        }
+    }
+
+    fun aggregate(calculate: CalculateAverage): List<CacheResult> {
+        val results: MutableList<CacheResult> = ArrayList(observations.size)
+        observations.values.forEach { values ->
+            var accumulator: CacheResult? = null
+            values.forEachIndexed { index, observation ->
+                accumulator = CacheResult(observation.scanResult, calculate(index == 0, observation.scanResult, accumulator))
+            }
+            accumulator?.let { results.add(it) }
+        }
+        return results
+    }
+
+    fun size(): Int = observations.size
+
+    private fun insert(values: MutableList<ScanObservation>, observation: ScanObservation) {
+        val index: Int = values.indexOfFirst { it.level >= observation.level }
+        values.add(if (index < 0) values.size else index, observation)
+    }
+
+    private fun comparator(): Comparator<CacheKey> =
+            compareBy<CacheKey> { it.bssid }.thenBy { it.ssid }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import com.vrem.annotation.OpenClass
+
+const val SCAN_BUDGET_CAPACITY = 4
+const val SCAN_BUDGET_PERIOD = 120_000L
+
+/**
+ * Token bucket model of the platform scan throttle: each accepted scan spends a token
+ * that is returned one period later, matching the sliding window used by the platform.
+ */
+@OpenClass
+class ScanBudget(private val throttled: () -> Boolean,
+                 private val capacity: Int = SCAN_BUDGET_CAPACITY,
+                 private val period: Long = SCAN_BUDGET_PERIOD) {
+    private val spent: ArrayDeque<Long> = ArrayDeque(capacity)
+    private var blocked: Long = 0
+
+    @Synchronized
+    fun acquire(now: Long): Boolean {
+        if (!throttled()) {
+            return true
+        }
+        if (delay(now) > 0) {
+            return false
+        }
+        spent.addLast(now)
+        return true
+    }
+
+    @Synchronized
+    fun refused(now: Long) {
+        if (spent.lastOrNull() == now) {
+            spent.removeLast()
+        }
+        blocked = now + pace()
+    }
+
+    @Synchronized
+    fun delay(now: Long): Long {
+        if (!throttled()) {
+            return 0
+        }
+        while (spent.firstOrNull()?.let { it + period <= now } == true) {
+            spent.removeFirst()
+        }
+        val available: Long = if (spent.size < capacity) now else spent.first() + period
+        return (maxOf(available, blocked) - now).coerceAtLeast(0)
+    }
+
+    @Synchronized
+    fun available(now: Long): Int {
+        if (!throttled()) {
+            return capacity
+        }
+        delay(now)
+        return capacity - spent.size
+    }
+
+    fun pace(): Long = if (throttled()) period / capacity else 0
+
+}
@@ -0,0 +1,94 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import com.vrem.annotation.OpenClass
+
+const val SCAN_STATISTICS_WINDOW = 60_000L
+private const val NOT_STARTED = -1L
+
+@OpenClass
+class ScanStatistics(private val window: Long = SCAN_STATISTICS_WINDOW) {
+    private val accepted: ArrayDeque<Long> = ArrayDeque()
+    private val latencies: ArrayDeque<Long> = ArrayDeque()
+    private var refused: Long = 0
+    private var skipped: Long = 0
+    private var unrequested: Long = 0
+    private var latency: Long = 0
+    private var started: Long = NOT_STARTED
+
+    @Synchronized
+    fun start(now: Long) {
+        started = now
+    }
+
+    @Synchronized
+    fun deliver(now: Long) {
+        if (started == NOT_STARTED) {
+            unrequested++
+            return
+        }
+        latency = now - started
+        started = NOT_STARTED
+        accepted.addLast(now)
+        latencies.addLast(latency)
+        expire(now)
+    }
+
+    @Synchronized
+    fun refuse() {
+        refused++
+    }
+
+    @Synchronized
+    fun skip() {
+        skipped++
+    }
+
+    @Synchronized
+    fun scansPerMinute(now: Long): Double {
+        expire(now)
+        return accepted.size * 60_000.0 / window
+    }
+
+    @Synchronized
+    fun latency(): Long = latency
+
+    @Synchronized
+    fun averageLatency(now: Long): Long {
+        expire(now)
+        return if (latencies.isEmpty()) latency else latencies.sum() / latencies.size
+    }
+
+    @Synchronized
+    fun refused(): Long = refused
+
+    @Synchronized
+    fun skipped(): Long = skipped
+
+    @Synchronized
+    fun unrequested(): Long = unrequested
+
+    private fun expire(now: Long) {
+        while (accepted.firstOrNull()?.let { it + window <= now } == true) {
+            accepted.removeFirst()
+            latencies.removeFirst()
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import com.vrem.annotation.OpenClass
+import com.vrem.wifianalyzer.wifi.model.*
+import com.vrem.wifianalyzer.wifi.scanlog.ConnectionRecord
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
+
+@OpenClass
+class Transformer(private val vendorNames: VendorNames = VendorNames.NONE) {
+
+    fun transformConnection(connection: ConnectionRecord?): WiFiConnection =
+            if (connection == null) {
+                WiFiConnection.EMPTY
+            } else {
+                val wiFiIdentifier = WiFiIdentifier(convertSSID(connection.ssid), connection.bssid)
+                WiFiConnection(wiFiIdentifier, convertIpAddress(connection.ipAddress), connection.linkSpeed)
+            }
+
+    fun transformCacheResults(cacheResults: List<CacheResult>): List<WiFiDetail> =
+            cacheResults.map { transform(it) }
+
+    fun transformToWiFiData(cacheResults: List<CacheResult>, connection: ConnectionRecord?): WiFiData =
+            WiFiData(transformCacheResults(cacheResults), transformConnection(connection), vendorNames)
+
+    fun transformScanResult(scanResult: ScanResultRecord): WiFiDetail =
+            transform(scanResult, scanResult.level)
+
+    private fun transform(cacheResult: CacheResult): WiFiDetail =
+            transform(cacheResult.scanResult, cacheResult.average)
+
+    private fun transform(scanResult: ScanResultRecord, level: Int): WiFiDetail {
+        val wiFiWidth = WiFiWidth.findOne(scanResult.channelWidth)
+        val centerFrequency = wiFiWidth.calculateCenter(scanResult.frequency, scanResult.centerFrequency0)
+        val wiFiStandard = WiFiStandard.findOne(scanResult.wiFiStandard)
+        val wiFiSignal = WiFiSignal(scanResult.frequency, centerFrequency, wiFiWidth, level, scanResult.mc80211, wiFiStandard)
+        val wiFiIdentifier = WiFiIdentifier(scanResult.ssid, scanResult.bssid)
+        return WiFiDetail(wiFiIdentifier, scanResult.capabilities, wiFiSignal)
+    }
+
+}
@@ -17,16 +17,9 @@
  */
 package com.vrem.util
 
-import android.os.Build
-import android.text.Spanned
-import androidx.test.ext.junit.runners.AndroidJUnit4
 import org.junit.Assert.assertEquals
 import org.junit.Test
-import org.junit.runner.RunWith
-import org.robolectric.annotation.Config
 
-@RunWith(AndroidJUnit4::class)
-@Config(sdk = [Build.VERSION_CODES.Q])
 class StringUtilsTest {
 
     @Test
@@ -64,27 +57,4 @@ class StringUtilsTest {
         assertEquals(expected, actual)
     }
 
-    @Test
-    fun testFromHtml() {
-        // setup
-        val expected = "ThisIsText"
-        val text = "<font color='20'><small>$expected</small></font>"
-        // execute
-        val actual: Spanned = text.fromHtml()
-        // verify
-        assertEquals(expected, actual.toString())
-    }
-
-    @Test
-    @Config(sdk = [Build.VERSION_CODES.M])
-    fun testFromHtmlLegacy() {
-        // setup
-        val expected = "ThisIsText"
-        val text = "<font color='20'><small>$expected</small></font>"
-        // execute
-        val actual: Spanned = text.fromHtml()
-        // verify
-        assertEquals(expected, actual.toString())
-    }
-
-}
\ No newline at end of file
+}
@@ -17,7 +17,6 @@
  */
 package com.vrem.wifianalyzer.wifi.band
 
-import com.vrem.wifianalyzer.R
 import com.vrem.wifianalyzer.wifi.band.WiFiBand.Companion.find
 import org.junit.Assert.*
 import org.junit.Test
@@ -28,12 +27,6 @@ class WiFiBandTest {
         assertEquals(2, WiFiBand.values().size)
     }
 
-    @Test
-    fun testTextResource() {
-        assertEquals(R.string.wifi_band_2ghz, WiFiBand.GHZ2.textResource)
-        assertEquals(R.string.wifi_band_5ghz, WiFiBand.GHZ5.textResource)
-    }
-
     @Test
     fun testToggle() {
         assertEquals(WiFiBand.GHZ5, WiFiBand.GHZ2.toggle())
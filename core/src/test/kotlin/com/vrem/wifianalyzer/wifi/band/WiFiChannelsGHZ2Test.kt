@@ -77,6 +77,15 @@ class WiFiChannelsGHZ2Test {
         assertEquals(WiFiChannel.UNKNOWN, fixture.wiFiChannelByChannel(15))
     }
 
+    @Test
+    fun testWiFiChannelByFrequencyReturnsSameInstance() {
+        // execute
+        val actual: WiFiChannel = fixture.wiFiChannelByFrequency(2437)
+        // validate
+        assertSame(actual, fixture.wiFiChannelByFrequency(2437))
+        assertEquals(2437, actual.frequency)
+    }
+
     @Test
     fun testWiFiChannelFirst() {
         assertEquals(1, fixture.wiFiChannelFirst().channel)
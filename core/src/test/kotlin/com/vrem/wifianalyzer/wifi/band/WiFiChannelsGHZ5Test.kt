@@ -19,6 +19,7 @@ package com.vrem.wifianalyzer.wifi.band
 
 import com.vrem.util.EMPTY
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
 import org.junit.Test
 import java.util.*
 
@@ -48,6 +49,15 @@ class WiFiChannelsGHZ5Test {
         assertEquals(WiFiChannel.UNKNOWN, fixture.wiFiChannelByFrequency(5896))
     }
 
+    @Test
+    fun testWiFiChannelByFrequencyReturnsSameInstance() {
+        // execute
+        val actual: WiFiChannel = fixture.wiFiChannelByFrequency(5180)
+        // validate
+        assertSame(actual, fixture.wiFiChannelByFrequency(5180))
+        assertEquals(5180, actual.frequency)
+    }
+
     @Test
     fun testWiFiChannelFirst() {
         assertEquals(36, fixture.wiFiChannelFirst().channel)
@@ -126,6 +126,22 @@ class ChannelRatingTest {
         validateChannelAPCount(4, 1, actual[6])
     }
 
+    @Test
+    fun testRatingsMatchesCountAndStrength() {
+        // setup
+        val channels: List<WiFiChannel> = WiFiBand.GHZ2.wiFiChannels.wiFiChannels()
+        fixture.wiFiDetails(listOf(wiFiDetail1, wiFiDetail2, wiFiDetail3, wiFiDetail4))
+        // execute
+        val actual: List<ChannelAPRating> = fixture.ratings(channels)
+        // validate
+        assertEquals(channels.size, actual.size)
+        actual.forEachIndexed { index, it ->
+            assertEquals(channels[index], it.wiFiChannel)
+            assertEquals(fixture.count(it.wiFiChannel), it.count)
+            assertEquals(fixture.strength(it.wiFiChannel), it.strength)
+        }
+    }
+
     private fun validateChannelAPCount(expectedChannel: Int, expectedCount: Int, channelAPCount: ChannelAPCount) {
         assertEquals(expectedChannel, channelAPCount.wiFiChannel.channel)
         assertEquals(expectedCount, channelAPCount.count)
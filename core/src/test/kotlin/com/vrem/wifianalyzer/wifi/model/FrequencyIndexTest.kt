@@ -0,0 +1,81 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.model
+
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import kotlin.random.Random
+
+class FrequencyIndexTest {
+    private val wiFiSignals: List<WiFiSignal> = listOf(
+            WiFiSignal(2432, 2432, WiFiWidth.MHZ_20, -50, true),
+            WiFiSignal(2442, 2442, WiFiWidth.MHZ_20, -70, true),
+            WiFiSignal(5180, 5190, WiFiWidth.MHZ_40, -60, true),
+            WiFiSignal(5180, 5210, WiFiWidth.MHZ_80, -80, true))
+
+    private val fixture = FrequencyIndex(wiFiSignals)
+
+    @Test
+    fun testSize() {
+        assertEquals(wiFiSignals.size, fixture.size)
+        assertEquals(0, FrequencyIndex(listOf()).size)
+    }
+
+    @Test
+    fun testCount() {
+        listOf(2400, 2422, 2432, 2437, 2442, 2452, 2453, 5170, 5190, 5210, 5250, 5251, 6000).forEach {
+            assertEquals("$it", expected(wiFiSignals, it), fixture.count(it))
+        }
+    }
+
+    @Test
+    fun testCountsMatchesCount() {
+        // setup
+        val frequencies = intArrayOf(5250, 2432, 5170, 2400, 2442, 2432, 5190)
+        val expected = frequencies.map { fixture.count(it) }.toIntArray()
+        // execute
+        val actual = fixture.counts(frequencies)
+        // validate
+        assertArrayEquals(expected, actual)
+    }
+
+    @Test
+    fun testCountsMatchesLinearScan() {
+        // setup
+        val random = Random(19)
+        val widths = WiFiWidth.values()
+        val randomSignals: List<WiFiSignal> = (1..500).map {
+            val frequency = 2400 + random.nextInt(3500)
+            WiFiSignal(frequency, frequency, widths[random.nextInt(widths.size)], -random.nextInt(100), true)
+        }
+        val frequencies = IntArray(1000) { 2380 + random.nextInt(3600) }
+        val index = FrequencyIndex(randomSignals)
+        // execute
+        val actual = index.counts(frequencies)
+        // validate
+        frequencies.forEachIndexed { i, frequency ->
+            assertEquals(expected(randomSignals, frequency), actual[i])
+            assertEquals(expected(randomSignals, frequency), index.count(frequency))
+        }
+    }
+
+    private fun expected(wiFiSignals: List<WiFiSignal>, frequency: Int): Int =
+            wiFiSignals.count { it.inRange(frequency) }
+
+}
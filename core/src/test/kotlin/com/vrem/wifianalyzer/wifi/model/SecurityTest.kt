@@ -17,11 +17,11 @@
  */
 package com.vrem.wifianalyzer.wifi.model
 
-import com.vrem.wifianalyzer.R
 import com.vrem.wifianalyzer.wifi.model.Security.Companion.findAll
 import com.vrem.wifianalyzer.wifi.model.Security.Companion.findOne
 import org.junit.Assert.assertArrayEquals
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
 import org.junit.Test
 
 class SecurityTest {
@@ -30,16 +30,6 @@ class SecurityTest {
         assertEquals(6, Security.values().size)
     }
 
-    @Test
-    fun testImageResource() {
-        assertEquals(R.drawable.ic_lock_open, Security.NONE.imageResource)
-        assertEquals(R.drawable.ic_lock_outline, Security.WPS.imageResource)
-        assertEquals(R.drawable.ic_lock_outline, Security.WEP.imageResource)
-        assertEquals(R.drawable.ic_lock, Security.WPA.imageResource)
-        assertEquals(R.drawable.ic_lock, Security.WPA2.imageResource)
-        assertEquals(R.drawable.ic_lock, Security.WPA3.imageResource)
-    }
-
     @Test
     fun testFindAll() {
         // setup
@@ -73,6 +63,26 @@ class SecurityTest {
         assertEquals(expected, actual)
     }
 
+    @Test
+    fun testFindAllIsCached() {
+        // setup
+        val capabilities = "[WPA2-PSK-CCMP][RSN-PSK-CCMP][ESS][WPS]"
+        val expected: Set<Security> = findAll(capabilities)
+        // execute
+        val actual: Set<Security> = findAll(capabilities)
+        // validate
+        assertSame(expected, actual)
+        assertEquals(setOf(Security.WPS, Security.WPA2), actual)
+    }
+
+    @Test
+    fun testFindAllIsOrdered() {
+        // execute
+        val actual: List<Security> = findAll("WPA3-WPS-WPA2-WEP").toList()
+        // validate
+        assertEquals(listOf(Security.WPS, Security.WEP, Security.WPA2, Security.WPA3), actual)
+    }
+
     @Test
     fun testFindOne() {
         assertEquals(Security.NONE, findOne("xyz"))
@@ -19,12 +19,13 @@ package com.vrem.wifianalyzer.wifi.model
 
 import com.nhaarman.mockitokotlin2.*
 import com.vrem.util.EMPTY
-import com.vrem.wifianalyzer.MainContextHelper.INSTANCE
 import com.vrem.wifianalyzer.wifi.band.WiFiBand
 import com.vrem.wifianalyzer.wifi.predicate.Predicate
 import com.vrem.wifianalyzer.wifi.predicate.predicate
 import org.junit.After
 import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotSame
+import org.junit.Assert.assertSame
 import org.junit.Assert.assertTrue
 import org.junit.Test
 
@@ -47,29 +48,28 @@ class WiFiDataTest {
     private val level0 = -5
     private val level1 = -4
     private val level2 = -3
-    private val vendorService = INSTANCE.vendorService
+    private val vendorNames: VendorNames = mock()
     private val wiFiIdentifier = WiFiIdentifier(ssid1, bssid1)
     private val wiFiConnection = WiFiConnection(wiFiIdentifier, ipAddress, linkSpeed)
     private val wiFiDetails = withWiFiDetails()
-    private val fixture = WiFiData(wiFiDetails, wiFiConnection)
+    private val fixture = WiFiData(wiFiDetails, wiFiConnection, vendorNames)
 
     @After
     fun tearDown() {
-        verifyNoMoreInteractions(vendorService)
-        INSTANCE.restore()
+        verifyNoMoreInteractions(vendorNames)
     }
 
     @Test
     fun testConnection() {
         // setup
-        whenever(vendorService.findVendorName(bssid1)).thenReturn(vendorName)
+        whenever(vendorNames.findVendorName(bssid1)).thenReturn(vendorName)
         // execute
         val actual: WiFiDetail = fixture.connection()
         // validate
         assertEquals(wiFiIdentifier, actual.wiFiIdentifier)
         assertEquals(vendorName, actual.wiFiAdditional.vendorName)
         assertEquals(ipAddress, actual.wiFiAdditional.wiFiConnection.ipAddress)
-        verify(vendorService).findVendorName(bssid1)
+        verify(vendorNames).findVendorName(bssid1)
     }
 
     @Test
@@ -109,7 +109,7 @@ class WiFiDataTest {
         assertEquals(vendorName + bssid2 + "_3", actual[4].wiFiAdditional.vendorName)
         assertEquals(vendorName + bssid3, actual[5].wiFiAdditional.vendorName)
         assertEquals(vendorName + bssid2 + "_1", actual[6].wiFiAdditional.vendorName)
-        verify(vendorService, times(7)).findVendorName(any())
+        verify(vendorNames, times(7)).findVendorName(any())
         verifyVendorNames()
     }
 
@@ -272,9 +272,41 @@ class WiFiDataTest {
         verifyVendorNames()
     }
 
+    @Test
+    fun testWiFiDetailsIsCachedForSamePredicateSortAndGroup() {
+        // setup
+        val predicate: Predicate = WiFiBand.GHZ2.predicate()
+        withVendorNames()
+        val hits = WiFiData.cacheHits()
+        val misses = WiFiData.cacheMisses()
+        val expected: List<WiFiDetail> = fixture.wiFiDetails(predicate, SortBy.STRENGTH, GroupBy.SSID)
+        // execute
+        val actual: List<WiFiDetail> = fixture.wiFiDetails(predicate, SortBy.STRENGTH, GroupBy.SSID)
+        // validate
+        assertSame(expected, actual)
+        assertEquals(hits + 1, WiFiData.cacheHits())
+        assertEquals(misses + 1, WiFiData.cacheMisses())
+        verifyVendorNames()
+    }
+
+    @Test
+    fun testWiFiDetailsIsNotCachedForDifferentSort() {
+        // setup
+        val predicate: Predicate = WiFiBand.GHZ2.predicate()
+        withVendorNames()
+        val misses = WiFiData.cacheMisses()
+        val expected: List<WiFiDetail> = fixture.wiFiDetails(predicate, SortBy.STRENGTH)
+        // execute
+        val actual: List<WiFiDetail> = fixture.wiFiDetails(predicate, SortBy.SSID)
+        // validate
+        assertNotSame(expected, actual)
+        assertEquals(misses + 2, WiFiData.cacheMisses())
+        verifyVendorNames()
+    }
+
     private fun withVendorNames() {
         wiFiDetails.forEach {
-            whenever(vendorService.findVendorName(it.wiFiIdentifier.bssid)).thenReturn(vendorName + it.wiFiIdentifier.bssid)
+            whenever(vendorNames.findVendorName(it.wiFiIdentifier.bssid)).thenReturn(vendorName + it.wiFiIdentifier.bssid)
         }
     }
 
@@ -337,7 +369,7 @@ class WiFiDataTest {
     }
 
     private fun verifyVendorNames() {
-        wiFiDetails.forEach { verify(vendorService).findVendorName(it.wiFiIdentifier.bssid) }
+        wiFiDetails.forEach { verify(vendorNames).findVendorName(it.wiFiIdentifier.bssid) }
     }
 
     private fun verifyChildren(actual: List<WiFiDetail>) {
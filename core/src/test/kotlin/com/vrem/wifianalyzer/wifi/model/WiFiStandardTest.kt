@@ -0,0 +1,41 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+
+package com.vrem.wifianalyzer.wifi.model
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class WiFiStandardTest {
+    @Test
+    fun testWidth() {
+        assertEquals(5, WiFiStandard.values().size)
+    }
+
+    @Test
+    fun testFindOne() {
+        assertEquals(WiFiStandard.UNKNOWN, WiFiStandard.findOne(0))
+        assertEquals(WiFiStandard.LEGACY, WiFiStandard.findOne(1))
+        assertEquals(WiFiStandard.N, WiFiStandard.findOne(4))
+        assertEquals(WiFiStandard.AC, WiFiStandard.findOne(5))
+        assertEquals(WiFiStandard.AX, WiFiStandard.findOne(6))
+        assertEquals(WiFiStandard.UNKNOWN, WiFiStandard.findOne(-1))
+        assertEquals(WiFiStandard.UNKNOWN, WiFiStandard.findOne(7))
+    }
+
+}
\ No newline at end of file
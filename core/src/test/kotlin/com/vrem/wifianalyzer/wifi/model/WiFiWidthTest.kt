@@ -18,7 +18,6 @@
 
 package com.vrem.wifianalyzer.wifi.model
 
-import android.net.wifi.ScanResult
 import org.junit.Assert.assertEquals
 import org.junit.Assert.assertTrue
 import org.junit.Test
@@ -68,13 +67,13 @@ class WiFiWidthTest {
 
     @Test
     fun testFindOne() {
-        assertEquals(WiFiWidth.MHZ_20, WiFiWidth.findOne(ScanResult.CHANNEL_WIDTH_20MHZ))
-        assertEquals(WiFiWidth.MHZ_40, WiFiWidth.findOne(ScanResult.CHANNEL_WIDTH_40MHZ))
-        assertEquals(WiFiWidth.MHZ_80, WiFiWidth.findOne(ScanResult.CHANNEL_WIDTH_80MHZ))
-        assertEquals(WiFiWidth.MHZ_160, WiFiWidth.findOne(ScanResult.CHANNEL_WIDTH_160MHZ))
-        assertEquals(WiFiWidth.MHZ_80_PLUS, WiFiWidth.findOne(ScanResult.CHANNEL_WIDTH_80MHZ_PLUS_MHZ))
-        assertEquals(WiFiWidth.MHZ_20, WiFiWidth.findOne(ScanResult.CHANNEL_WIDTH_20MHZ - 1))
-        assertEquals(WiFiWidth.MHZ_20, WiFiWidth.findOne(ScanResult.CHANNEL_WIDTH_80MHZ_PLUS_MHZ + 1))
+        assertEquals(WiFiWidth.MHZ_20, WiFiWidth.findOne(0))
+        assertEquals(WiFiWidth.MHZ_40, WiFiWidth.findOne(1))
+        assertEquals(WiFiWidth.MHZ_80, WiFiWidth.findOne(2))
+        assertEquals(WiFiWidth.MHZ_160, WiFiWidth.findOne(3))
+        assertEquals(WiFiWidth.MHZ_80_PLUS, WiFiWidth.findOne(4))
+        assertEquals(WiFiWidth.MHZ_20, WiFiWidth.findOne(-1))
+        assertEquals(WiFiWidth.MHZ_20, WiFiWidth.findOne(5))
     }
 
     @Test
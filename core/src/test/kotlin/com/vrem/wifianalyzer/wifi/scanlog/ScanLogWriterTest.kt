@@ -0,0 +1,135 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanlog
+
+import org.junit.Assert.*
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.ByteArrayInputStream
+import java.io.File
+import java.io.FileOutputStream
+
+class ScanLogWriterTest {
+    @get:Rule
+    val temporaryFolder = TemporaryFolder()
+
+    private val scanResult1 = ScanResultRecord("SSID1", "BSSID1", "[WPA2-PSK-CCMP]", 2412, 0, 0, 4, false, -40)
+    private val scanResult2 = ScanResultRecord("SSID2", "BSSID2", "[ESS]", 5180, 5190, 1, 5, true, -85)
+    private val connection = ConnectionRecord("\"SSID1\"", "BSSID1", 0x0100A8C0, 144)
+    private val scanRecords = listOf(
+            ScanRecord(1_600_000_000_000L, listOf(scanResult1, scanResult2), connection),
+            ScanRecord(1_600_000_005_000L, listOf(scanResult2), null),
+            ScanRecord(1_600_000_004_000L, listOf(), connection))
+
+    @Test
+    fun testWriteAndRead() {
+        // setup
+        val file = write(scanRecords)
+        // execute
+        val actual = read(file.readBytes())
+        // validate
+        assertEquals(scanRecords, actual)
+    }
+
+    @Test
+    fun testWriteStoresStringsOnce() {
+        // setup
+        val once = write(scanRecords.subList(0, 1)).length()
+        // execute
+        val twice = write(listOf(scanRecords[0], scanRecords[0])).length()
+        // validate
+        assertTrue(twice - once < once / 2)
+    }
+
+    @Test
+    fun testWriteIsCompact() {
+        // setup
+        val scanResults = (0 until 300).map {
+            ScanResultRecord("SSID$it", "00:11:22:33:%02X:%02X".format(it / 256, it % 256), "[WPA2-PSK-CCMP][ESS]", 5180 + it % 25 * 20, 5210, 2, 5, false, -30 - it % 60)
+        }
+        val scans = (0 until 720).map { ScanRecord(1_600_000_000_000L + it * 5_000L, scanResults, connection) }
+        // execute
+        val actual = write(scans).length()
+        // validate
+        assertTrue(actual < 4 * 1024 * 1024)
+    }
+
+    @Test
+    fun testReadStopsAtTruncatedRecord() {
+        // setup
+        val bytes = write(scanRecords).readBytes()
+        // execute
+        val actual = read(bytes.copyOf(bytes.size - 3))
+        // validate
+        assertEquals(scanRecords.subList(0, 2), actual)
+    }
+
+    @Test
+    fun testReadStopsAtNegativeScanResultCount() {
+        // setup
+        val bytes = write(scanRecords).readBytes() + withScanRecord(-1, -1, -1, -1, -1, -1, -1, -1, -1, 0x01)
+        // execute
+        val actual = read(bytes)
+        // validate
+        assertEquals(scanRecords, actual)
+    }
+
+    @Test
+    fun testReadStopsAtHugeScanResultCount() {
+        // setup
+        val bytes = write(scanRecords).readBytes() + withScanRecord(-1, -1, -1, -1, 0x07)
+        // execute
+        val actual = read(bytes)
+        // validate
+        assertEquals(scanRecords, actual)
+    }
+
+    @Test
+    fun testReadInvalidHeader() {
+        // execute
+        val actual = read(byteArrayOf(1, 2, 3, 4, 5, 6))
+        // validate
+        assertTrue(actual.isEmpty())
+    }
+
+    @Test
+    fun testReadEmpty() {
+        // execute
+        val actual = read(byteArrayOf())
+        // validate
+        assertTrue(actual.isEmpty())
+    }
+
+    private fun write(scanRecords: List<ScanRecord>): File {
+        val file = temporaryFolder.newFile()
+        ScanLogWriter(FileOutputStream(file).channel).use { writer ->
+            scanRecords.forEach { writer.write(it) }
+        }
+        return file
+    }
+
+    private fun withScanRecord(vararg count: Int): ByteArray =
+            byteArrayOf((count.size + 2).toByte(), RECORD_SCAN.toByte(), 0) + count.map { it.toByte() }
+
+    private fun read(bytes: ByteArray): List<ScanRecord> =
+            ScanLogReader(ByteArrayInputStream(bytes)).use { reader ->
+                generateSequence { reader.read() }.toList()
+            }
+
+}
@@ -17,45 +17,38 @@
  */
 package com.vrem.wifianalyzer.wifi.scanner
 
-import android.net.wifi.ScanResult
-import android.net.wifi.WifiInfo
 import com.nhaarman.mockitokotlin2.*
-import com.vrem.wifianalyzer.MainContextHelper
 import com.vrem.wifianalyzer.wifi.band.WiFiRange
-import org.junit.After
+import com.vrem.wifianalyzer.wifi.scanlog.ConnectionRecord
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
 import org.junit.Assert.assertEquals
 import org.junit.Before
 import org.junit.Test
 
 class CacheTest {
-    private val wifiInfo: WifiInfo = mock()
-    private val scanResult1: ScanResult = mock()
-    private val scanResult2: ScanResult = mock()
-    private val scanResult3: ScanResult = mock()
-    private val scanResult4: ScanResult = mock()
-    private val scanResult5: ScanResult = mock()
-    private val scanResult6: ScanResult = mock()
-    private val settings = MainContextHelper.INSTANCE.settings
-    private val configuration = MainContextHelper.INSTANCE.configuration
-    private val fixture = Cache()
+    private val connection = ConnectionRecord("SSID1", "BSSID1", 0, 0)
+    private val scanResult1 = withScanResult("SSID1", "BSSID1", -10)
+    private val scanResult2 = withScanResult("SSID1", "BSSID1", -20)
+    private val scanResult3 = withScanResult("SSID1", "BSSID1", -30)
+    private val scanResult4 = withScanResult("SSID2", "BSSID2", -60)
+    private val scanResult5 = withScanResult("SSID2", "BSSID2", -40)
+    private val scanResult6 = withScanResult("SSID3", "BSSID3", -10)
+    private val sizeAvailable: () -> Boolean = mock()
+    private val scanSpeed: () -> Int = mock()
+    private val fixture = Cache(sizeAvailable, scanSpeed)
 
     @Before
     fun setUp() {
-        whenever(settings.scanSpeed()).thenReturn(5)
-        whenever(configuration.sizeAvailable).thenReturn(true)
-    }
-
-    @After
-    fun tearDown() {
-        MainContextHelper.INSTANCE.restore()
+        whenever(scanSpeed()).thenReturn(5)
+        whenever(sizeAvailable()).thenReturn(true)
     }
 
     @Test
     fun testAddWithSizeAvailable() {
         // setup
-        val scanResults = listOf<ScanResult>()
+        val scanResults = listOf<ScanResultRecord>()
         // execute
-        fixture.add(scanResults, wifiInfo)
+        fixture.add(scanResults, connection)
         // validate
         assertEquals(scanResults, fixture.first())
     }
@@ -64,12 +57,12 @@ class CacheTest {
     fun testAddCompliesToMaxCacheSizeWithSizeAvailable() {
         // setup
         val cacheSize = 2
-        val expected: MutableList<List<ScanResult>> = mutableListOf()
+        val expected: MutableList<List<ScanResultRecord>> = mutableListOf()
         // execute
         for (i in 0 until cacheSize) {
-            val scanResults = listOf<ScanResult>()
+            val scanResults = listOf<ScanResultRecord>()
             expected.add(scanResults)
-            fixture.add(scanResults, wifiInfo)
+            fixture.add(scanResults, connection)
         }
         // validate
         assertEquals(cacheSize, expected.size)
@@ -104,35 +97,35 @@ class CacheTest {
         )
         // execute & validate
         values.forEach {
-            whenever(settings.scanSpeed()).thenReturn(it.first)
+            whenever(scanSpeed()).thenReturn(it.first)
             assertEquals("Scan Speed:" + it.first, it.second, fixture.size())
         }
-        verify(settings, times(values.size)).scanSpeed()
+        verify(scanSpeed, times(values.size)).invoke()
     }
 
     @Test
     fun testAdd() {
         // setup
-        whenever(configuration.sizeAvailable).thenReturn(false)
-        val scanResults = listOf<ScanResult>()
+        whenever(sizeAvailable()).thenReturn(false)
+        val scanResults = listOf<ScanResultRecord>()
         // execute
-        fixture.add(scanResults, wifiInfo)
+        fixture.add(scanResults, connection)
         // validate
         assertEquals(scanResults, fixture.first())
-        assertEquals(wifiInfo, fixture.wifiInfo())
+        assertEquals(connection, fixture.connection())
     }
 
     @Test
     fun testAddCompliesToMaxCacheSize() {
         // setup
         val cacheSize = 2
-        whenever(configuration.sizeAvailable).thenReturn(false)
-        val expected: MutableList<List<ScanResult>> = mutableListOf()
+        whenever(sizeAvailable()).thenReturn(false)
+        val expected: MutableList<List<ScanResultRecord>> = mutableListOf()
         // execute
         for (i in 0 until cacheSize) {
-            val scanResults = listOf<ScanResult>()
+            val scanResults = listOf<ScanResultRecord>()
             expected.add(scanResults)
-            fixture.add(scanResults, wifiInfo)
+            fixture.add(scanResults, connection)
         }
         // validate
         assertEquals(cacheSize, expected.size)
@@ -143,7 +136,7 @@ class CacheTest {
     @Test
     fun testScanResultsWhenSingle() {
         // setup
-        whenever(configuration.sizeAvailable).thenReturn(false)
+        whenever(sizeAvailable()).thenReturn(false)
         withScanResults()
         // execute
         val actual = fixture.scanResults()
@@ -156,7 +149,7 @@ class CacheTest {
     @Test
     fun testScanResultsWhenMultiple() {
         // setup
-        whenever(configuration.sizeAvailable).thenReturn(false)
+        whenever(sizeAvailable()).thenReturn(false)
         withScanResults()
         withScanResults()
         // execute
@@ -171,46 +164,25 @@ class CacheTest {
     fun testSize() {
         // setup
         val expected = 1
-        whenever(configuration.sizeAvailable).thenReturn(false)
+        whenever(sizeAvailable()).thenReturn(false)
         // execute
         val actual = fixture.size()
         // validate
         assertEquals(expected, actual)
-        verify(settings, never()).scanSpeed()
+        verify(scanSpeed, never()).invoke()
     }
 
-    private fun validate(expectedScanResult: ScanResult, expectedLevel: Int, actual: CacheResult) {
+    private fun validate(expectedScanResult: ScanResultRecord, expectedLevel: Int, actual: CacheResult) {
         assertEquals(expectedScanResult, actual.scanResult)
         assertEquals(expectedLevel, actual.average)
     }
 
-    private fun withScanResults() {
-        scanResult1.SSID = "SSID1"
-        scanResult1.BSSID = "BSSID1"
-        scanResult1.level = -10
-
-        scanResult2.SSID = "SSID1"
-        scanResult2.BSSID = "BSSID1"
-        scanResult2.level = -20
-
-        scanResult3.SSID = "SSID1"
-        scanResult3.BSSID = "BSSID1"
-        scanResult3.level = -30
+    private fun withScanResult(ssid: String, bssid: String, level: Int): ScanResultRecord =
+            ScanResultRecord(ssid, bssid, "", 2412, 2412, 0, 0, false, level)
 
-        scanResult4.SSID = "SSID2"
-        scanResult4.BSSID = "BSSID2"
-        scanResult4.level = -60
-
-        scanResult5.SSID = "SSID2"
-        scanResult5.BSSID = "BSSID2"
-        scanResult5.level = -40
-
-        scanResult6.SSID = "SSID3"
-        scanResult6.BSSID = "BSSID3"
-        scanResult6.level = -10
-
-        fixture.add(listOf(scanResult1, scanResult4), wifiInfo)
-        fixture.add(listOf(scanResult2, scanResult5), wifiInfo)
-        fixture.add(listOf(scanResult3, scanResult6), wifiInfo)
+    private fun withScanResults() {
+        fixture.add(listOf(scanResult1, scanResult4), connection)
+        fixture.add(listOf(scanResult2, scanResult5), connection)
+        fixture.add(listOf(scanResult3, scanResult6), connection)
     }
-}
\ No newline at end of file
+}
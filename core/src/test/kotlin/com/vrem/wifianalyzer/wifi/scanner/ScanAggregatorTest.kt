@@ -0,0 +1,178 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
+import org.junit.Test
+import kotlin.random.Random
+
+class ScanAggregatorTest {
+    private var sizeAvailable: Boolean = true
+    private var scanSpeed: Int = 1
+    private val fixture = ScanAggregator()
+
+    @Test
+    fun testAggregateOrdersByBSSIDThenSSID() {
+        // setup
+        val scanResult1 = withScanResult("SSID2", "BSSID1", -40)
+        val scanResult2 = withScanResult("SSID1", "BSSID2", -50)
+        val scanResult3 = withScanResult("SSID1", "BSSID1", -60)
+        fixture.add(listOf(scanResult1, scanResult2, scanResult3))
+        // execute
+        val actual = fixture.aggregate(first())
+        // validate
+        assertEquals(3, actual.size)
+        assertSame(scanResult3, actual[0].scanResult)
+        assertSame(scanResult1, actual[1].scanResult)
+        assertSame(scanResult2, actual[2].scanResult)
+    }
+
+    @Test
+    fun testAggregateFoldsLevelsInAscendingOrder() {
+        // setup
+        val scanResult1 = withScanResult("SSID1", "BSSID1", -20)
+        val scanResult2 = withScanResult("SSID1", "BSSID1", -60)
+        val scanResult3 = withScanResult("SSID1", "BSSID1", -40)
+        fixture.add(listOf(scanResult1))
+        fixture.add(listOf(scanResult2))
+        fixture.add(listOf(scanResult3))
+        // execute
+        val actual = fixture.aggregate(average())
+        // validate
+        assertEquals(1, actual.size)
+        assertSame(scanResult1, actual[0].scanResult)
+        assertEquals(-35, actual[0].average)
+    }
+
+    @Test
+    fun testRemoveDropsOldestScan() {
+        // setup
+        val scanResults1 = listOf(withScanResult("SSID1", "BSSID1", -20), withScanResult("SSID2", "BSSID2", -30))
+        val scanResults2 = listOf(withScanResult("SSID1", "BSSID1", -40))
+        fixture.add(scanResults1)
+        fixture.add(scanResults2)
+        // execute
+        fixture.remove(scanResults1)
+        // validate
+        val actual = fixture.aggregate(average())
+        assertEquals(1, fixture.size())
+        assertSame(scanResults2[0], actual[0].scanResult)
+        assertEquals(-40, actual[0].average)
+    }
+
+    @Test
+    fun testCacheScanResultsMatchesReferenceWithSizeAvailable() {
+        listOf(1, 2, 5, 10).forEach {
+            scanSpeed = it
+            validateParity(Random(it), 40)
+        }
+    }
+
+    @Test
+    fun testCacheScanResultsMatchesReference() {
+        // setup
+        sizeAvailable = false
+        // execute & validate
+        validateParity(Random(SEED), 40)
+    }
+
+    private fun validateParity(random: Random, scans: Int) {
+        val cache = Cache({ sizeAvailable }, { scanSpeed })
+        val reference = ReferenceCache()
+        val recorded = RecordedScans(random)
+        repeat(scans) { scan ->
+            val scanResults = recorded.next()
+            cache.add(scanResults, null)
+            reference.add(scanResults, cache.size())
+            val expected = reference.scanResults(sizeAvailable)
+            val actual = cache.scanResults()
+            assertEquals("Scan:$scan", expected.size, actual.size)
+            expected.forEachIndexed { index, cacheResult ->
+                assertSame("Scan:$scan Index:$index", cacheResult.scanResult, actual[index].scanResult)
+                assertEquals("Scan:$scan Index:$index", cacheResult.average, actual[index].average)
+            }
+        }
+    }
+
+    private fun first(): CalculateAverage = { _, element, _ -> element.level }
+
+    private fun average(): CalculateAverage = { first, element, accumulator ->
+        if (first) element.level else (accumulator!!.average + element.level) / 2
+    }
+
+    private fun withScanResult(ssid: String, bssid: String, level: Int): ScanResultRecord =
+            ScanResultRecord(ssid, bssid, "", 2412, 2412, 0, 0, false, level)
+
+    private inner class RecordedScans(private val random: Random) {
+        private val accessPoints: List<Pair<String, String>> =
+                (0 until ACCESS_POINTS).map {
+                    val ssid = if (it % 17 == 0) "" else "SSID" + it % 40
+                    val bssid = "00:11:22:33:" + (it / 256).toString(16).padStart(2, '0') + ":" + (it % 256).toString(16).padStart(2, '0')
+                    Pair(ssid, bssid)
+                }
+
+        fun next(): List<ScanResultRecord> {
+            val scanResults: MutableList<ScanResultRecord> = mutableListOf()
+            accessPoints.forEach {
+                if (random.nextInt(100) < 80) {
+                    scanResults.add(withScanResult(it.first, it.second, random.nextInt(-105, 5)))
+                }
+                if (random.nextInt(100) < 2) {
+                    scanResults.add(withScanResult(it.first, it.second, random.nextInt(-105, 5)))
+                }
+            }
+            scanResults.shuffle(random)
+            return scanResults
+        }
+    }
+
+    private class ReferenceCache {
+        private val scanResults: ArrayDeque<List<ScanResultRecord>> = ArrayDeque()
+        private var count: Int = 2
+
+        fun add(scanResults: List<ScanResultRecord>, size: Int) {
+            count = if (count >= 4 * 3) 2 else count + 1
+            while (this.scanResults.size >= size) {
+                this.scanResults.removeLastOrNull()
+            }
+            this.scanResults.addFirst(scanResults)
+        }
+
+        fun scanResults(sizeAvailable: Boolean): List<CacheResult> =
+                scanResults.flatten()
+                        .sortedWith(compareBy<ScanResultRecord> { it.bssid }.thenBy { it.ssid }.thenBy { it.level })
+                        .groupingBy { CacheKey(it.bssid, it.ssid) }
+                        .aggregate { _, accumulator: CacheResult?, element, first ->
+                            CacheResult(element, calculate(sizeAvailable, first, element, accumulator))
+                        }
+                        .values
+                        .toList()
+
+        private fun calculate(sizeAvailable: Boolean, first: Boolean, element: ScanResultRecord, accumulator: CacheResult?): Int {
+            val average: Int = if (first) element.level else (accumulator!!.average + element.level) / 2
+            return (if (sizeAvailable) average else average - 5 * (count + count % 3) / 2).coerceIn(-100, 0)
+        }
+    }
+
+    companion object {
+        private const val ACCESS_POINTS = 400
+        private const val SEED = 42
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import com.nhaarman.mockitokotlin2.mock
+import com.nhaarman.mockitokotlin2.whenever
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Before
+import org.junit.Test
+
+class ScanBudgetTest {
+    private val throttled: () -> Boolean = mock()
+    private val fixture = ScanBudget(throttled)
+
+    @Before
+    fun setUp() {
+        whenever(throttled()).thenReturn(true)
+    }
+
+    @Test
+    fun testAcquireSpendsCapacity() {
+        // execute
+        val actual = (1..SCAN_BUDGET_CAPACITY + 1).map { fixture.acquire(it * 1000L) }
+        // validate
+        assertEquals(List(SCAN_BUDGET_CAPACITY) { true } + false, actual)
+        assertEquals(0, fixture.available(5000L))
+    }
+
+    @Test
+    fun testAcquireReturnsTokenAfterPeriod() {
+        // setup
+        (1..SCAN_BUDGET_CAPACITY).forEach { fixture.acquire(it * 1000L) }
+        // execute & validate
+        assertFalse(fixture.acquire(SCAN_BUDGET_PERIOD))
+        assertTrue(fixture.acquire(SCAN_BUDGET_PERIOD + 1000L))
+        assertFalse(fixture.acquire(SCAN_BUDGET_PERIOD + 1500L))
+    }
+
+    @Test
+    fun testDelay() {
+        // setup
+        (1..SCAN_BUDGET_CAPACITY).forEach { fixture.acquire(it * 1000L) }
+        // execute
+        val actual = fixture.delay(10_000L)
+        // validate
+        assertEquals(SCAN_BUDGET_PERIOD + 1000L - 10_000L, actual)
+    }
+
+    @Test
+    fun testDelayWithTokensAvailable() {
+        // setup
+        fixture.acquire(1000L)
+        // execute & validate
+        assertEquals(0L, fixture.delay(2000L))
+        assertEquals(SCAN_BUDGET_CAPACITY - 1, fixture.available(2000L))
+    }
+
+    @Test
+    fun testRefusedBlocksForPace() {
+        // execute
+        fixture.refused(1000L)
+        // validate
+        assertEquals(SCAN_BUDGET_PERIOD / SCAN_BUDGET_CAPACITY, fixture.delay(1000L))
+        assertFalse(fixture.acquire(1000L))
+        assertTrue(fixture.acquire(1000L + fixture.pace()))
+    }
+
+    @Test
+    fun testRefusedReturnsToken() {
+        // setup
+        fixture.acquire(1000L)
+        // execute
+        fixture.refused(1000L)
+        // validate
+        assertEquals(SCAN_BUDGET_CAPACITY, fixture.available(1000L + fixture.pace()))
+    }
+
+    @Test
+    fun testNotThrottled() {
+        // setup
+        whenever(throttled()).thenReturn(false)
+        // execute
+        val actual = (1..SCAN_BUDGET_CAPACITY * 2).map { fixture.acquire(it * 1000L) }
+        // validate
+        assertTrue(actual.all { it })
+        assertEquals(0L, fixture.delay(10_000L))
+        assertEquals(0L, fixture.pace())
+        assertEquals(SCAN_BUDGET_CAPACITY, fixture.available(10_000L))
+    }
+
+    @Test
+    fun testPace() {
+        assertEquals(SCAN_BUDGET_PERIOD / SCAN_BUDGET_CAPACITY, fixture.pace())
+    }
+
+}
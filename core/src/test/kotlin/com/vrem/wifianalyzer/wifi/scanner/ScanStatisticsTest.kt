@@ -0,0 +1,113 @@
+/*
+ * WiFiAnalyzer
+ * Copyright (C) 2015 - 2021 VREM Software Development <VREMSoftwareDevelopment@gmail.com>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ */
+package com.vrem.wifianalyzer.wifi.scanner
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class ScanStatisticsTest {
+    private val fixture = ScanStatistics()
+
+    @Test
+    fun testDeliver() {
+        // execute
+        scan(1000L, 4000L)
+        scan(31_000L, 33_000L)
+        scan(41_000L, 42_000L)
+        // validate
+        assertEquals(1000L, fixture.latency())
+        assertEquals(2000L, fixture.averageLatency(42_000L))
+        assertEquals(3.0, fixture.scansPerMinute(42_000L), 0.0)
+        assertEquals(0L, fixture.unrequested())
+    }
+
+    @Test
+    fun testDeliverWithoutRequestIsUnrequested() {
+        // setup
+        scan(1000L, 3000L)
+        // execute
+        fixture.deliver(5000L)
+        fixture.deliver(7000L)
+        // validate
+        assertEquals(2L, fixture.unrequested())
+        assertEquals(2000L, fixture.latency())
+        assertEquals(1.0, fixture.scansPerMinute(7000L), 0.0)
+    }
+
+    @Test
+    fun testDeliverMeasuresFromLatestRequest() {
+        // setup
+        fixture.start(1000L)
+        fixture.start(5000L)
+        // execute
+        fixture.deliver(6000L)
+        // validate
+        assertEquals(1000L, fixture.latency())
+    }
+
+    @Test
+    fun testScansPerMinuteExpiresOldScans() {
+        // setup
+        scan(1000L, 2000L)
+        scan(31_000L, 34_000L)
+        // execute
+        val actual = fixture.scansPerMinute(SCAN_STATISTICS_WINDOW + 2000L)
+        // validate
+        assertEquals(1.0, actual, 0.0)
+        assertEquals(3000L, fixture.averageLatency(SCAN_STATISTICS_WINDOW + 2000L))
+    }
+
+    @Test
+    fun testScansPerMinuteWithWindow() {
+        // setup
+        val fixture = ScanStatistics(30_000L)
+        fixture.start(1000L)
+        fixture.deliver(1000L)
+        fixture.start(2000L)
+        fixture.deliver(2000L)
+        // execute
+        val actual = fixture.scansPerMinute(2000L)
+        // validate
+        assertEquals(4.0, actual, 0.0)
+    }
+
+    @Test
+    fun testRefuseAndSkip() {
+        // execute
+        fixture.refuse()
+        fixture.refuse()
+        fixture.skip()
+        // validate
+        assertEquals(2L, fixture.refused())
+        assertEquals(1L, fixture.skipped())
+    }
+
+    @Test
+    fun testEmpty() {
+        assertEquals(0.0, fixture.scansPerMinute(1000L), 0.0)
+        assertEquals(0L, fixture.latency())
+        assertEquals(0L, fixture.averageLatency(1000L))
+        assertEquals(0L, fixture.unrequested())
+    }
+
+    private fun scan(started: Long, delivered: Long) {
+        fixture.start(started)
+        fixture.deliver(delivered)
+    }
+
+}
@@ -17,11 +17,10 @@
  */
 package com.vrem.wifianalyzer.wifi.scanner
 
-import android.net.wifi.ScanResult
-import android.net.wifi.WifiInfo
 import com.nhaarman.mockitokotlin2.*
 import com.vrem.wifianalyzer.wifi.model.*
-import com.vrem.wifianalyzer.wifi.model.WiFiWidth
+import com.vrem.wifianalyzer.wifi.scanlog.ConnectionRecord
+import com.vrem.wifianalyzer.wifi.scanlog.ScanResultRecord
 import org.junit.After
 import org.junit.Assert.*
 import org.junit.Test
@@ -34,38 +33,37 @@ class TransformerTest {
             CacheResult(scanResult1, scanResult1.level),
             CacheResult(scanResult2, scanResult2.level),
             CacheResult(scanResult3, scanResult2.level))
-    private val wifiInfo = withWiFiInfo()
-    private val fixture = spy(Transformer())
+    private val connection = ConnectionRecord("\"$SSID_1\"", BSSID_1, IP_ADDRESS_VALUE, LINK_SPEED)
+    private val vendorNames: VendorNames = mock()
+    private val fixture = Transformer(vendorNames)
 
     @After
     fun tearDown() {
-        verifyNoMoreInteractions(wifiInfo)
+        verifyNoMoreInteractions(vendorNames)
     }
 
     @Test
-    fun testTransformWithNulls() {
+    fun testTransformConnectionWithNull() {
         // execute
-        val actual = fixture.transformWifiInfo(null)
+        val actual = fixture.transformConnection(null)
         // validate
         assertEquals(WiFiConnection.EMPTY, actual)
     }
 
     @Test
-    fun testTransformWifiInfoNotConnected() {
+    fun testTransformConnection() {
         // setup
-        whenever(wifiInfo.networkId).thenReturn(-1)
+        val expected = WiFiConnection(WiFiIdentifier(SSID_1, BSSID_1), IP_ADDRESS, LINK_SPEED)
         // execute
-        val actual = fixture.transformWifiInfo(wifiInfo)
+        val actual = fixture.transformConnection(connection)
         // validate
-        assertEquals(WiFiConnection.EMPTY, actual)
-        verify(wifiInfo).networkId
+        assertEquals(expected, actual)
+        assertEquals(IP_ADDRESS, actual.ipAddress)
+        assertEquals(LINK_SPEED, actual.linkSpeed)
     }
 
     @Test
     fun testTransformScanResults() {
-        // setup
-        doReturn(true).whenever(fixture).minVersionM()
-        doReturn(true).whenever(fixture).minVersionR()
         // execute
         val actual = fixture.transformCacheResults(cacheResults)
         // validate
@@ -73,138 +71,58 @@ class TransformerTest {
         validateWiFiDetail(SSID_1, BSSID_1, WiFiWidth.MHZ_160, WiFiStandard.AX, actual[0])
         validateWiFiDetail(SSID_2, BSSID_2, WiFiWidth.MHZ_80, WiFiStandard.AC, actual[1])
         validateWiFiDetail(SSID_3, BSSID_3, WiFiWidth.MHZ_40, WiFiStandard.N, actual[2])
-        verify(fixture, times(9)).minVersionM()
-        verify(fixture, times(3)).minVersionR()
-    }
-
-    @Test
-    fun testWiFiData() {
-        // setup
-        val expectedWiFiConnection = WiFiConnection(WiFiIdentifier(SSID_1, BSSID_1), IP_ADDRESS, LINK_SPEED)
-        // execute
-        val actual = fixture.transformToWiFiData(cacheResults, wifiInfo)
-        // validate
-        assertEquals(expectedWiFiConnection, actual.wiFiConnection)
-        assertEquals(cacheResults.size, actual.wiFiDetails.size)
-        verifyWiFiInfo()
+        assertTrue(actual[0].wiFiSignal.is80211mc)
     }
 
     @Test
-    fun testChannelWidth() {
+    fun testTransformScanResultsLegacy() {
         // setup
-        doReturn(true).whenever(fixture).minVersionM()
+        val scanResult = ScanResultRecord(SSID_1, BSSID_1, WPA, FREQUENCY, 0,
+                WiFiWidth.MHZ_20.channelWidth, WiFiStandard.UNKNOWN.wiFiStandardId, false, LEVEL)
         // execute
-        val actual = fixture.channelWidth(scanResult1)
+        val actual = fixture.transformCacheResults(listOf(CacheResult(scanResult, LEVEL)))
         // validate
-        assertEquals(WiFiWidth.MHZ_160.channelWidth, actual)
-        verify(fixture).minVersionM()
-    }
-
-    @Test
-    fun testChannelWidthLegacy() {
-        // execute
-        val actual = fixture.channelWidth(scanResult1)
-        // validate
-        assertEquals(WiFiWidth.MHZ_20.channelWidth, actual)
-    }
-
-    @Test
-    fun testWiFiStandard() {
-        // setup
-        doReturn(true).whenever(fixture).minVersionR()
-        // execute
-        val actual = fixture.wiFiStandard(scanResult1)
-        // validate
-        assertEquals(WiFiStandard.AX.wiFiStandardId, actual)
-        verify(fixture).minVersionR()
-    }
-
-    @Test
-    fun testWiFiStandardLegacy() {
-        // execute
-        val actual = fixture.wiFiStandard(scanResult1)
-        // validate
-        assertEquals(WiFiStandard.UNKNOWN.wiFiStandardId, actual)
-    }
-
-    @Test
-    fun testMc80211() {
-        // setup
-        doReturn(true).whenever(fixture).minVersionM()
-        whenever(scanResult1.is80211mcResponder).thenReturn(true)
-        // execute
-        val actual = fixture.mc80211(scanResult1)
-        // validate
-        assertTrue(actual)
-        verify(scanResult1).is80211mcResponder
-        verify(fixture).minVersionM()
-    }
-
-    @Test
-    fun testMc80211Legacy() {
-        // execute
-        val actual = fixture.mc80211(scanResult1)
-        // validate
-        assertFalse(actual)
+        with(actual[0].wiFiSignal) {
+            assertEquals(WiFiWidth.MHZ_20, wiFiWidth)
+            assertEquals(WiFiStandard.UNKNOWN, wiFiStandard)
+            assertEquals(FREQUENCY, centerFrequency)
+            assertFalse(is80211mc)
+        }
     }
 
     @Test
-    fun testCenterFrequency() {
-        // setup
-        val wiFiWidth = WiFiWidth.values()[scanResult1.channelWidth]
+    fun testTransformScanResult() {
         // execute
-        val actual = fixture.centerFrequency(scanResult1, wiFiWidth)
+        val actual = fixture.transformScanResult(scanResult2)
         // validate
-        assertEquals(FREQUENCY, actual)
+        validateWiFiDetail(SSID_2, BSSID_2, WiFiWidth.MHZ_80, WiFiStandard.AC, actual)
+        assertEquals(scanResult2.level, actual.wiFiSignal.level)
     }
 
     @Test
-    fun testCenterFrequencyWithAndroidM() {
+    fun testWiFiData() {
         // setup
-        doReturn(true).whenever(fixture).minVersionM()
-        val wiFiWidth = WiFiWidth.values()[scanResult1.channelWidth]
-        val expected = wiFiWidth.calculateCenter(scanResult1.frequency, scanResult1.centerFreq0)
+        val expectedWiFiConnection = WiFiConnection(WiFiIdentifier(SSID_1, BSSID_1), IP_ADDRESS, LINK_SPEED)
+        whenever(vendorNames.findVendorName(any())).thenReturn(VENDOR_NAME)
         // execute
-        val actual = fixture.centerFrequency(scanResult1, wiFiWidth)
+        val actual = fixture.transformToWiFiData(cacheResults, connection)
         // validate
-        assertEquals(expected, actual)
+        assertEquals(expectedWiFiConnection, actual.wiFiConnection)
+        assertEquals(cacheResults.size, actual.wiFiDetails.size)
+        assertEquals(VENDOR_NAME, actual.connection().wiFiAdditional.vendorName)
+        verify(vendorNames).findVendorName(BSSID_1)
     }
 
-    private fun withScanResult(ssid: SSID, bssid: BSSID, wiFiWidth: WiFiWidth, wiFiStandard: WiFiStandard): ScanResult {
-        val scanResult: ScanResult = mock()
-        scanResult.SSID = ssid
-        scanResult.BSSID = bssid
-        scanResult.capabilities = WPA
-        scanResult.frequency = FREQUENCY
-        scanResult.centerFreq0 = when (wiFiWidth) {
+    private fun withScanResult(ssid: SSID, bssid: BSSID, wiFiWidth: WiFiWidth, wiFiStandard: WiFiStandard): ScanResultRecord {
+        val centerFrequency0 = when (wiFiWidth) {
             WiFiWidth.MHZ_20 -> FREQUENCY
             WiFiWidth.MHZ_40 -> FREQUENCY + wiFiWidth.frequencyWidth
             WiFiWidth.MHZ_80 -> FREQUENCY + wiFiWidth.frequencyWidthHalf
             WiFiWidth.MHZ_160 -> FREQUENCY + wiFiWidth.frequencyWidth
             WiFiWidth.MHZ_80_PLUS -> FREQUENCY + wiFiWidth.frequencyWidthHalf
         }
-        scanResult.level = LEVEL
-        scanResult.channelWidth = wiFiWidth.ordinal
-        whenever(scanResult.wifiStandard).thenReturn(wiFiStandard.wiFiStandardId)
-        return scanResult
-    }
-
-    private fun withWiFiInfo(): WifiInfo {
-        val wifiInfo: WifiInfo = mock()
-        whenever(wifiInfo.networkId).thenReturn(0)
-        whenever(wifiInfo.ssid).thenReturn(SSID_1)
-        whenever(wifiInfo.bssid).thenReturn(BSSID_1)
-        whenever(wifiInfo.ipAddress).thenReturn(IP_ADDRESS_VALUE)
-        whenever(wifiInfo.linkSpeed).thenReturn(LINK_SPEED)
-        return wifiInfo
-    }
-
-    private fun verifyWiFiInfo() {
-        verify(wifiInfo).networkId
-        verify(wifiInfo).ssid
-        verify(wifiInfo).bssid
-        verify(wifiInfo).ipAddress
-        verify(wifiInfo).linkSpeed
+        return ScanResultRecord(ssid, bssid, WPA, FREQUENCY, centerFrequency0,
+                wiFiWidth.channelWidth, wiFiStandard.wiFiStandardId, wiFiWidth == WiFiWidth.MHZ_160, LEVEL)
     }
 
     private fun validateWiFiDetail(SSID: String, BSSID: String, wiFiWidth: WiFiWidth, wiFiStandard: WiFiStandard, wiFiDetail: WiFiDetail) {
@@ -233,5 +151,6 @@ class TransformerTest {
         private const val IP_ADDRESS_VALUE = 123456789
         private const val IP_ADDRESS = "21.205.91.7"
         private const val LINK_SPEED = 21
+        private const val VENDOR_NAME = "VendorName"
     }
-}
\ No newline at end of file
+}